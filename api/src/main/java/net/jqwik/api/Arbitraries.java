@@ -646,6 +646,14 @@ public class Arbitraries {
 	 * </p>
 	 *
 	 * <p>
+	 * All values nested in a generated value share a budget of nodes, which is split
+	 * evenly among the branches of each node. When a branch's share is used up
+	 * only the suppliers that are least likely to recurse are chosen.
+	 * To find those, each supplier is probed with a few values once;
+	 * during probing nested {@code lazyOf()} values are replaced by {@code null}.
+	 * </p>
+	 *
+	 * <p>
 	 * <em>Caveat:</em>
 	 * Never use this construct if suppliers make use of variable state
 	 * like method parameters or changing instance members.
@@ -39,6 +39,8 @@ public interface Arbitrary<T> {
 
 		public abstract <T> Stream<T> sampleStream(Arbitrary<T> arbitrary);
 
+		public abstract <T> Stream<T> bulkSampleStream(Arbitrary<T> arbitrary, long count, long seed);
+
 		public abstract <T> Arbitrary<T> injectNull(Arbitrary<T> self, double nullProbability);
 
 		public abstract <T> Arbitrary<T> filter(Arbitrary<T> self, Predicate<T> filterPredicate);
@@ -358,6 +360,39 @@ public interface Arbitrary<T> {
 		return ArbitraryFacade.implementation.sampleStream(this);
 	}
 
+	/**
+	 * Generate a finite stream of sample values that only depends on {@code seed}.
+	 * This is meant for generating large amounts of test data outside of properties,
+	 * e.g. fixtures or load test payloads.
+	 *
+	 * <p>
+	 * The stream can be split efficiently for parallel processing.
+	 * Each value is generated with its own random derived from {@code seed} and
+	 * its position, so values are the same regardless of how the stream is split.
+	 * Arbitraries whose generators hold state between values, e.g. {@linkplain #unique()},
+	 * are generated one after the other from a single random and cannot be split.
+	 * </p>
+	 *
+	 * <p>
+	 * Generators that are not thread safe - those holding state and those that
+	 * access jqwik's stores, e.g. all arbitraries using {@linkplain Arbitraries#lazyOf(Supplier, Supplier[])} -
+	 * produce streams that cannot be split at all. Their values are generated in the thread that
+	 * consumes the stream, even if it is made {@linkplain Stream#parallel() parallel}.
+	 * </p>
+	 *
+	 * <p>
+	 * The underlying generator is created with size 1000.
+	 * </p>
+	 *
+	 * @param count the number of values to generate
+	 * @param seed  the seed from which all values are derived
+	 * @return a stream of {@code count} newly generated values
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	default Stream<T> bulkSampleStream(long count, long seed) {
+		return ArbitraryFacade.implementation.bulkSampleStream(this, count, seed);
+	}
+
 	/**
 	 * Generate a single sample value using this arbitrary.
 	 * This can be useful for
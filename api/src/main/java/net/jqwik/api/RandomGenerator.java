@@ -19,13 +19,13 @@ public interface RandomGenerator<T> {
 			implementation = FacadeLoader.load(RandomGeneratorFacade.class);
 		}
 
-		public abstract <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, RandomGenerator<U>> mapper, long nextLong);
+		public abstract <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, RandomGenerator<U>> mapper, Random random);
 
 		public abstract <T, U> Shrinkable<U> flatMap(
 			Shrinkable<T> wrappedShrinkable,
 			Function<T, Arbitrary<U>> mapper,
 			int genSize,
-			long nextLong
+			Random random
 		);
 
 		public abstract <T> RandomGenerator<T> filter(RandomGenerator<T> self, Predicate<T> filterPredicate);
@@ -64,7 +64,7 @@ public interface RandomGenerator<T> {
 	default <U> RandomGenerator<U> flatMap(Function<T, RandomGenerator<U>> mapper) {
 		return random -> {
 			Shrinkable<T> wrappedShrinkable = RandomGenerator.this.next(random);
-			return RandomGeneratorFacade.implementation.flatMap(wrappedShrinkable, mapper, random.nextLong());
+			return RandomGeneratorFacade.implementation.flatMap(wrappedShrinkable, mapper, random);
 		};
 	}
 
@@ -72,7 +72,7 @@ public interface RandomGenerator<T> {
 	default <U> RandomGenerator<U> flatMap(Function<T, Arbitrary<U>> mapper, int genSize) {
 		return random -> {
 			Shrinkable<T> wrappedShrinkable = RandomGenerator.this.next(random);
-			return RandomGeneratorFacade.implementation.flatMap(wrappedShrinkable, mapper, genSize, random.nextLong());
+			return RandomGeneratorFacade.implementation.flatMap(wrappedShrinkable, mapper, genSize, random);
 		};
 	}
 
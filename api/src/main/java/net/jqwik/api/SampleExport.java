@@ -0,0 +1,133 @@
+package net.jqwik.api;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.function.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Write large amounts of generated values to a file without collecting them in memory.
+ * Values are generated as in {@linkplain Arbitrary#bulkSampleStream(long, long)}
+ * and written one after the other through a fixed size buffer,
+ * i.e. generation never runs ahead of writing.
+ *
+ * <p>
+ * A dataset is defined by an arbitrary, an encoding and a seed.
+ * It can be split into shards of consecutive positions which are written by
+ * separate writers - e.g. in parallel - and which contain the same values
+ * as the corresponding part of the whole dataset.
+ * </p>
+ *
+ * <pre>
+ * SampleExport&lt;Person&gt; export = SampleExport.lines(people, person -&gt; person.toJson());
+ * export.writeTo(Paths.get("people.jsonl"), 1_000_000, 42L);
+ * </pre>
+ *
+ * @param <T> The type of exported values
+ */
+@API(status = EXPERIMENTAL, since = "1.4.0")
+public class SampleExport<T> {
+
+	@API(status = INTERNAL)
+	public static abstract class SampleExportFacade {
+		private static final SampleExport.SampleExportFacade implementation;
+
+		static {
+			implementation = FacadeLoader.load(SampleExport.SampleExportFacade.class);
+		}
+
+		public abstract <T> long write(
+			Arbitrary<T> arbitrary,
+			Function<T, byte[]> encoder,
+			byte[] header,
+			Path file,
+			long fromIndex,
+			long toIndex,
+			long seed
+		) throws IOException;
+	}
+
+	private static final byte[] NO_HEADER = new byte[0];
+
+	/**
+	 * Export values as lines of UTF-8 encoded text, e.g. JSON lines or CSV records.
+	 * Each line is terminated by {@code '\n'}.
+	 *
+	 * @param arbitrary  The arbitrary to generate values from
+	 * @param lineFormat Creates the line for a value. Must not contain line breaks.
+	 * @param <T>        The type of exported values
+	 * @return a new export instance
+	 */
+	public static <T> SampleExport<T> lines(Arbitrary<T> arbitrary, Function<T, String> lineFormat) {
+		Function<T, byte[]> encoder = value -> (lineFormat.apply(value) + "\n").getBytes(StandardCharsets.UTF_8);
+		return new SampleExport<>(arbitrary, encoder, NO_HEADER);
+	}
+
+	/**
+	 * Export values in a binary format. The bytes of all values are written
+	 * without any separator, so {@code encoder} is responsible for framing,
+	 * e.g. by prefixing each record with its length.
+	 *
+	 * @param arbitrary The arbitrary to generate values from
+	 * @param encoder   Creates the bytes for a value
+	 * @param <T>       The type of exported values
+	 * @return a new export instance
+	 */
+	public static <T> SampleExport<T> bytes(Arbitrary<T> arbitrary, Function<T, byte[]> encoder) {
+		return new SampleExport<>(arbitrary, encoder, NO_HEADER);
+	}
+
+	private final Arbitrary<T> arbitrary;
+	private final Function<T, byte[]> encoder;
+	private final byte[] header;
+
+	private SampleExport(Arbitrary<T> arbitrary, Function<T, byte[]> encoder, byte[] header) {
+		this.arbitrary = arbitrary;
+		this.encoder = encoder;
+		this.header = header;
+	}
+
+	/**
+	 * Start each written file with a line of text, e.g. the column names of a CSV file.
+	 * With sharding every shard starts with this header.
+	 *
+	 * @param headerLine The line to write first. Must not contain line breaks.
+	 * @return new export instance
+	 */
+	public SampleExport<T> withHeader(String headerLine) {
+		return new SampleExport<>(arbitrary, encoder, (headerLine + "\n").getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Write the first {@code count} values of the dataset for {@code seed} to {@code file}.
+	 * An existing file is overwritten.
+	 *
+	 * @param file  The file to write to
+	 * @param count The number of values to write
+	 * @param seed  The seed from which all values are derived
+	 * @return the number of bytes written
+	 * @throws IOException if writing to {@code file} fails
+	 */
+	public long writeTo(Path file, long count, long seed) throws IOException {
+		return writeShardTo(file, 0, count, seed);
+	}
+
+	/**
+	 * Write the values at positions {@code [fromIndex, toIndex)} of the dataset for {@code seed}
+	 * to {@code file}. An existing file is overwritten.
+	 *
+	 * @param file      The file to write to
+	 * @param fromIndex The position of the first value to write (inclusive)
+	 * @param toIndex   The position after the last value to write (exclusive)
+	 * @param seed      The seed from which all values are derived
+	 * @return the number of bytes written
+	 * @throws IOException if writing to {@code file} fails
+	 */
+	public long writeShardTo(Path file, long fromIndex, long toIndex, long seed) throws IOException {
+		return SampleExportFacade.implementation.write(arbitrary, encoder, header, file, fromIndex, toIndex, seed);
+	}
+}
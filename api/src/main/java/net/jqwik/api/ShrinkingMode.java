@@ -31,6 +31,15 @@ public enum ShrinkingMode {
 	 */
 	FULL,
 
+	/**
+	 * Generation records the random choices drawn for each value.
+	 * Shrinking deletes, zeroes and lowers those choices and replays generation,
+	 * which also shrinks values created through {@code map}, {@code flatMap} or {@code filter}.
+	 * Time is bounded as in {@linkplain #BOUNDED}.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	CHOICES,
+
 	@API(status = INTERNAL)
 	NOT_SET
 
@@ -36,4 +36,18 @@ public interface BigIntegerArbitrary extends NumericalArbitrary<BigInteger, BigI
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	BigIntegerArbitrary shrinkTowards(BigInteger target);
+
+	/**
+	 * Only generate multiples of {@code divisor}. Bounds and shrinking target do not have to be multiples themselves.
+	 * Generated values are multiples by construction, so this is much more efficient than filtering.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	BigIntegerArbitrary multipleOf(BigInteger divisor);
+
+	/**
+	 * Never generate any of {@code values}.
+	 * Values are excluded by construction, so this is much more efficient than filtering.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	BigIntegerArbitrary excluding(BigInteger... values);
 }
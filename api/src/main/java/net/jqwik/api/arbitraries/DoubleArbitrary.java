@@ -73,4 +73,27 @@ public interface DoubleArbitrary extends NumericalArbitrary<Double, DoubleArbitr
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	DoubleArbitrary shrinkTowards(double target);
+
+	/**
+	 * Add {@code special} value to the edge cases of this arbitrary.
+	 * Special values are not restricted by range or scale and are not shrunk.
+	 * Use it to generate values like {@linkplain Double#NaN} or {@linkplain Double#POSITIVE_INFINITY}
+	 * which are never generated otherwise.
+	 *
+	 * @param special The value to add to edge cases
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	DoubleArbitrary withSpecialValue(double special);
+
+	/**
+	 * Add the standard special values to the edge cases of this arbitrary:
+	 * {@linkplain Double#NaN}, {@linkplain Double#POSITIVE_INFINITY}, {@linkplain Double#NEGATIVE_INFINITY},
+	 * {@code -0.0} and the smallest and the largest positive subnormal value.
+	 *
+	 * @return new arbitrary instance
+	 * @see #withSpecialValue(double)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	DoubleArbitrary withStandardSpecialValues();
 }
@@ -71,4 +71,27 @@ public interface FloatArbitrary extends NumericalArbitrary<Float, FloatArbitrary
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	FloatArbitrary shrinkTowards(float target);
+
+	/**
+	 * Add {@code special} value to the edge cases of this arbitrary.
+	 * Special values are not restricted by range or scale and are not shrunk.
+	 * Use it to generate values like {@linkplain Float#NaN} or {@linkplain Float#POSITIVE_INFINITY}
+	 * which are never generated otherwise.
+	 *
+	 * @param special The value to add to edge cases
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	FloatArbitrary withSpecialValue(float special);
+
+	/**
+	 * Add the standard special values to the edge cases of this arbitrary:
+	 * {@linkplain Float#NaN}, {@linkplain Float#POSITIVE_INFINITY}, {@linkplain Float#NEGATIVE_INFINITY},
+	 * {@code -0.0} and the smallest and the largest positive subnormal value.
+	 *
+	 * @return new arbitrary instance
+	 * @see #withSpecialValue(float)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	FloatArbitrary withStandardSpecialValues();
 }
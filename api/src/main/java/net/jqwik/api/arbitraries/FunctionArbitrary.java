@@ -29,4 +29,24 @@ public interface FunctionArbitrary<F, R> extends Arbitrary<F> {
 	 */
 	<F_ extends F> FunctionArbitrary<F_, R> when(Predicate<List<Object>> parameterCondition, Function<List<Object>, R> answer);
 
+	/**
+	 * Let each generated function remember how it generated the results for its most recently used parameters.
+	 * Repeated calls with equal parameters then do not have to generate their result from scratch,
+	 * which pays off for functions that are called very often with few distinct parameters.
+	 * Calls still return fresh objects so that mutable results are not shared.
+	 *
+	 * <p>
+	 * Results are not cached by default, since the cache costs memory and synchronization on every call.
+	 * Implementations that cannot cache may ignore this setting.
+	 * </p>
+	 *
+	 * @param maxCachedResults The maximum number of parameter lists remembered per function.
+	 *                         {@code 0} switches caching off.
+	 * @return A new instance of function arbitrary
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	default FunctionArbitrary<F, R> cacheResults(int maxCachedResults) {
+		return this;
+	}
+
 }
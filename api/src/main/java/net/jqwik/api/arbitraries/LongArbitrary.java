@@ -32,4 +32,18 @@ public interface LongArbitrary extends NumericalArbitrary<Long, LongArbitrary> {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	LongArbitrary shrinkTowards(long target);
+
+	/**
+	 * Only generate multiples of {@code divisor}. Bounds and shrinking target do not have to be multiples themselves.
+	 * Generated values are multiples by construction, so this is much more efficient than filtering.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	LongArbitrary multipleOf(long divisor);
+
+	/**
+	 * Never generate any of {@code values}.
+	 * Values are excluded by construction, so this is much more efficient than filtering.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	LongArbitrary excluding(long... values);
 }
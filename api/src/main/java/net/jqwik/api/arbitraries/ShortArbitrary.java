@@ -34,4 +34,18 @@ public interface ShortArbitrary extends NumericalArbitrary<Short, ShortArbitrary
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	Arbitrary<Short> shrinkTowards(short target);
+
+	/**
+	 * Only generate multiples of {@code divisor}. Bounds and shrinking target do not have to be multiples themselves.
+	 * Generated values are multiples by construction, so this is much more efficient than filtering.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	ShortArbitrary multipleOf(short divisor);
+
+	/**
+	 * Never generate any of {@code values}.
+	 * Values are excluded by construction, so this is much more efficient than filtering.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	ShortArbitrary excluding(short... values);
 }
@@ -4,6 +4,8 @@ import java.util.stream.*;
 
 import org.apiguardian.api.*;
 
+import net.jqwik.api.*;
+
 import static org.apiguardian.api.API.Status.*;
 
 /**
@@ -40,4 +42,28 @@ public interface StreamArbitrary<T> extends StreamableArbitrary<T, Stream<T>> {
 	 */
 	StreamArbitrary<T> ofMaxSize(int maxSize);
 
+	/**
+	 * Generate elements only when they are read from the stream.
+	 * Each element is generated from a seed that is recorded with the stream
+	 * so that memory consumption does not depend on the size of the stream.
+	 * Only the elements read by the property take part in shrinking and reporting.
+	 *
+	 * <p>
+	 * This makes it feasible to generate very long streams, e.g. with
+	 * {@code ofMaxSize(Integer.MAX_VALUE)}, as long as the code under test
+	 * reads only part of them.
+	 * </p>
+	 *
+	 * <p>
+	 * Elements must not be generated with state that spans several elements,
+	 * e.g. by {@linkplain Arbitrary#unique()} - not even as part of the element arbitrary.
+	 * Those elements are rejected when the generator is created.
+	 * </p>
+	 *
+	 * @return new arbitrary instance
+	 * @throws JqwikException if elements must be unique
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	StreamArbitrary<T> lazy();
+
 }
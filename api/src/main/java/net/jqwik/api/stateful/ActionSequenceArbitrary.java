@@ -1,7 +1,10 @@
 package net.jqwik.api.stateful;
 
+import java.util.function.*;
+
 import org.apiguardian.api.*;
 
+import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
 import static org.apiguardian.api.API.Status.*;
@@ -17,4 +20,69 @@ public interface ActionSequenceArbitrary<M> extends SizableArbitrary<ActionSeque
 		return ofMinSize(size).ofMaxSize(size);
 	}
 
+	/**
+	 * Add actions that are only generated while {@code applicable} is true for the current model.
+	 * The next action is generated by one of the applicable action arbitraries chosen with equal probability;
+	 * the arbitrary given to {@linkplain Arbitraries#sequences(Arbitrary)} is always applicable.
+	 *
+	 * <p>
+	 * Use this for action types that are disabled in most states: Their actions are then rarely generated
+	 * just to be rejected by {@linkplain Action#precondition(Object)}.
+	 * {@code applicable} should be cheap to evaluate. It should only be false if no action of
+	 * {@code actionArbitrary} would fulfill its precondition. Preconditions are still checked.
+	 * </p>
+	 *
+	 * @param applicable      Evaluated with the current model before each generated action
+	 * @param actionArbitrary The arbitrary to generate individual actions
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	ActionSequenceArbitrary<M> withActions(Predicate<? super M> applicable, Arbitrary<? extends Action<M>> actionArbitrary);
+
+	/**
+	 * Speed up shrinking of sequences by resuming from snapshots of the model.
+	 * While shrinking, a snapshot is taken after each action. A shrunk sequence that starts with
+	 * the same actions as an already run sequence restores the model from the latest shared snapshot
+	 * and only runs the remaining actions.
+	 *
+	 * <p>
+	 * Use this when running actions is expensive compared to taking snapshots. It only works if
+	 * each run of a sequence starts with an equivalent model and if the model's state only depends on the
+	 * actions run so far. Model peekers and invariants are not called for restored actions.
+	 * </p>
+	 *
+	 * @param snapshot Creates a snapshot of the current model that is not changed by subsequent actions
+	 * @param restore  Creates a new model from a snapshot; can be called several times for the same snapshot
+	 * @param <S>      The type of snapshots
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	<S> ActionSequenceArbitrary<M> withSnapshots(Function<? super M, ? extends S> snapshot, Function<? super S, ? extends M> restore);
+
+	/**
+	 * Run generated sequences concurrently to detect race conditions in a model that is accessed by several threads.
+	 * A sequence first runs a prefix of actions sequentially. Then each of {@code threads} threads runs its own
+	 * few actions in parallel with the others on the same model.
+	 *
+	 * <p>
+	 * The outcome is checked for linearizability: At least one interleaving of the parallel actions,
+	 * which keeps the order of actions within each thread, must lead to an equal snapshot when run sequentially
+	 * on a model restored from the snapshot after the prefix. Otherwise the sequence fails.
+	 * Shrinking removes actions from the prefix and from the threads and moves actions from the threads into the prefix.
+	 * </p>
+	 *
+	 * <p>
+	 * Requires {@linkplain #withSnapshots(Function, Function)}; snapshots must implement {@code equals()}
+	 * and {@code hashCode()}. Actions must change the model in place since values returned by
+	 * {@linkplain Action#run(Object)} are ignored while running in parallel.
+	 * Invariants and model peekers are called after each action of the prefix and once after all threads have finished.
+	 * Race conditions do not show up in every run, which is why a shrunk sequence might not fail again.
+	 * </p>
+	 *
+	 * @param threads The number of threads to run actions in parallel. Must be at least 2.
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	ActionSequenceArbitrary<M> inParallel(int threads);
+
 }
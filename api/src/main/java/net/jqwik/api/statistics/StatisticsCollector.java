@@ -48,4 +48,42 @@ public interface StatisticsCollector {
 	@API(status = MAINTAINED, since = "1.4.0")
 	void coverage(Consumer<StatisticsCoverage> checker);
 
+	/**
+	 * Switch this collector to approximate counting with bounded memory.
+	 * Use this for values with many distinct instances, e.g. string lengths or raw numbers,
+	 * for which exact counting would keep one entry per distinct value.
+	 *
+	 * <p>
+	 * In approximate mode single numeric values are merged into at most about
+	 * {@code 2 * maxEntries} range clusters which keep their mean value, and the
+	 * smallest and largest values collected. This works well with
+	 * {@linkplain NumberRangeHistogram}. All other values are counted in a fixed
+	 * number of {@code maxEntries} slots that retain the most frequent values;
+	 * counts of rarer values can be overestimated or be dropped altogether.
+	 * The total number of collects is always exact.
+	 * </p>
+	 *
+	 * <p>
+	 * Must be called before the first call to {@linkplain #collect(Object...)}.
+	 * Calling it again with the same {@code maxEntries} has no effect,
+	 * so it can be chained in every try:
+	 * </p>
+	 *
+	 * <pre>
+	 * Statistics.label("length").approximate(100).collect(aString.length());
+	 * </pre>
+	 *
+	 * @param maxEntries The number of entries to keep, must be greater than 0
+	 * @throws IllegalArgumentException if {@code maxEntries} is smaller than 1 or
+	 *                                  if values have already been collected in another mode
+	 * @throws UnsupportedOperationException if the implementation does not support approximate counting,
+	 *                                       which is the default for implementations outside of jqwik
+	 *
+	 * @return The current instance of collector
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	default StatisticsCollector approximate(int maxEntries) {
+		throw new UnsupportedOperationException("Approximate counting is not supported by " + getClass().getName());
+	}
+
 }
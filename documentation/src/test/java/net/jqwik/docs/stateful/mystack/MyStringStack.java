@@ -35,6 +35,12 @@ public class MyStringStack {
 		return elements.get(0);
 	}
 
+	public MyStringStack copy() {
+		MyStringStack copy = new MyStringStack();
+		copy.elements.addAll(elements);
+		return copy;
+	}
+
 	@Override
 	public String toString() {
 		return elements.toString();
@@ -27,4 +27,10 @@ class HistogramExamples {
 		Statistics.collect(aNumber);
 	}
 
+	@Property(generation = GenerationMode.RANDOMIZED, tries = 10000)
+	@StatisticsReport(format = NumberRangeHistogram.class)
+	void approximateIntegersInRanges(@ForAll int aNumber) {
+		Statistics.label("value").approximate(100).collect(aNumber);
+	}
+
 }
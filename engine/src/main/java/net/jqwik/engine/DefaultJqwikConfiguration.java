@@ -7,6 +7,7 @@ import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 
 public class DefaultJqwikConfiguration implements JqwikConfiguration {
@@ -33,7 +34,8 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultGeneration(),
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
-			properties.boundedShrinkingSeconds()
+			properties.boundedShrinkingSeconds(),
+			properties.exhaustiveParallelism()
 		);
 	}
 
@@ -55,6 +57,15 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public ReportingLimits reportingLimits() {
+		return new ReportingLimits(
+			properties.reportMaxElements(),
+			properties.reportMaxDepth(),
+			properties.reportMaxCharacters()
+		);
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
@@ -5,6 +5,7 @@ import java.util.*;
 import java.util.logging.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.execution.reporting.*;
 
 public class JqwikProperties {
 
@@ -21,7 +22,11 @@ public class JqwikProperties {
 		"defaultGeneration",
 		"defaultEdgeCases",
 		"defaultShrinking",
-		"boundedShrinkingSeconds"
+		"boundedShrinkingSeconds",
+		"reportMaxElements",
+		"reportMaxDepth",
+		"reportMaxCharacters",
+		"exhaustiveParallelism"
 	};
 
 	private static final String PROPERTIES_FILE_NAME = "jqwik.properties";
@@ -37,6 +42,10 @@ public class JqwikProperties {
 	private static final String DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN.name();
 	private static final String DEFAULT_SHRINKING = ShrinkingMode.BOUNDED.name();
 	private static final String DEFAULT_BOUNDED_SHRINKING_SECONDS = "10";
+	private static final String DEFAULT_REPORT_MAX_ELEMENTS = Integer.toString(ReportingLimits.DEFAULT_MAX_ELEMENTS);
+	private static final String DEFAULT_REPORT_MAX_DEPTH = Integer.toString(ReportingLimits.DEFAULT_MAX_DEPTH);
+	private static final String DEFAULT_REPORT_MAX_CHARACTERS = Integer.toString(ReportingLimits.DEFAULT_MAX_CHARACTERS);
+	private static final String DEFAULT_EXHAUSTIVE_PARALLELISM = "1";
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -53,6 +62,10 @@ public class JqwikProperties {
 	private EdgeCasesMode defaultEdgeCases;
 	private ShrinkingMode defaultShrinking;
 	private int boundedShrinkingSeconds;
+	private int reportMaxElements;
+	private int reportMaxDepth;
+	private int reportMaxCharacters;
+	private int exhaustiveParallelism;
 
 	public String databasePath() {
 		return databasePath;
@@ -98,6 +111,22 @@ public class JqwikProperties {
 		return boundedShrinkingSeconds;
 	}
 
+	public int reportMaxElements() {
+		return reportMaxElements;
+	}
+
+	public int reportMaxDepth() {
+		return reportMaxDepth;
+	}
+
+	public int reportMaxCharacters() {
+		return reportMaxCharacters;
+	}
+
+	public int exhaustiveParallelism() {
+		return exhaustiveParallelism;
+	}
+
 	JqwikProperties() {
 		this(PROPERTIES_FILE_NAME);
 	}
@@ -130,6 +159,10 @@ public class JqwikProperties {
 			defaultShrinking = ShrinkingMode.valueOf(properties.getProperty("defaultShrinking", DEFAULT_SHRINKING));
 			boundedShrinkingSeconds =
 				Integer.parseInt(properties.getProperty("boundedShrinkingSeconds", DEFAULT_BOUNDED_SHRINKING_SECONDS));
+			reportMaxElements = Integer.parseInt(properties.getProperty("reportMaxElements", DEFAULT_REPORT_MAX_ELEMENTS));
+			reportMaxDepth = Integer.parseInt(properties.getProperty("reportMaxDepth", DEFAULT_REPORT_MAX_DEPTH));
+			reportMaxCharacters = Integer.parseInt(properties.getProperty("reportMaxCharacters", DEFAULT_REPORT_MAX_CHARACTERS));
+			exhaustiveParallelism = Integer.parseInt(properties.getProperty("exhaustiveParallelism", DEFAULT_EXHAUSTIVE_PARALLELISM));
 		} catch (Throwable throwable) {
 			String message = String.format("Error while reading properties file [%s]", propertiesFileName);
 			throw new JqwikException(message, throwable);
@@ -9,6 +9,7 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -67,6 +68,7 @@ public class JqwikTestEngine implements TestEngine {
 	}
 
 	private void executeTests(TestDescriptor root, EngineExecutionListener listener) {
+		ValueReport.useDefaultLimits(configuration.reportingLimits());
 		try (TestRunRecorder recorder = configuration.testEngineConfiguration().recorder()) {
 			new JqwikExecutor(
 				lifecycleRegistry,
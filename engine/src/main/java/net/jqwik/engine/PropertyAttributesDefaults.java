@@ -18,6 +18,9 @@ public interface PropertyAttributesDefaults {
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter
+	int exhaustiveParallelism();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -25,7 +28,8 @@ public interface PropertyAttributesDefaults {
 		GenerationMode generationMode,
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
-		int boundedShrinkingSeconds
+		int boundedShrinkingSeconds,
+		int exhaustiveParallelism
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -67,6 +71,11 @@ public interface PropertyAttributesDefaults {
 			public int boundedShrinkingSeconds() {
 				return boundedShrinkingSeconds;
 			}
+
+			@Override
+			public int exhaustiveParallelism() {
+				return exhaustiveParallelism;
+			}
 		};
 	}
 }
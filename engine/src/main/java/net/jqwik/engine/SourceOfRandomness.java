@@ -37,6 +37,19 @@ public class SourceOfRandomness {
 		return new XORShiftRandom(seed);
 	}
 
+	/**
+	 * Create a random for position {@code index} of a sequence that is derived from {@code seed}.
+	 * Randoms of neighbouring positions are independent of each other.
+	 */
+	public static Random newRandom(final long seed, final long index) {
+		// SplitMix64's finalizer
+		long z = seed + (index + 1) * 0x9e3779b97f4a7c15L;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		z = z ^ (z >>> 31);
+		return newRandom(z == 0 ? 1 : z);
+	}
+
 	public static Random current() {
 		return current.get();
 	}
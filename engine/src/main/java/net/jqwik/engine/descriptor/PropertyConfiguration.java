@@ -144,4 +144,9 @@ public class PropertyConfiguration {
 	public int boundedShrinkingSeconds() {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
+
+	// This is currently a global value and not property specific
+	public int exhaustiveParallelism() {
+		return propertyAttributesDefaults.exhaustiveParallelism();
+	}
 }
@@ -186,7 +186,8 @@ public class CheckedProperty {
 			arbitraryResolver,
 			random,
 			configuration.getTries(),
-			configuration.getEdgeCasesMode()
+			configuration.getEdgeCasesMode(),
+			configuration.getShrinkingMode() == ShrinkingMode.CHOICES
 		);
 	}
 
@@ -2,13 +2,14 @@ package net.jqwik.engine.execution;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.ResolveParameterHook.*;
 import net.jqwik.engine.support.*;
 
 class ParameterSupplierResolver {
-	private final Map<Parameter, Optional<ParameterSupplier>> resolvedSuppliers = new HashMap<>();
+	private final Map<Parameter, Optional<ParameterSupplier>> resolvedSuppliers = new ConcurrentHashMap<>();
 	private final ResolveParameterHook resolveParameterHook;
 	private final LifecycleContext lifecycleContext;
 
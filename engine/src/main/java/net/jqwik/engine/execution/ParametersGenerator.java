@@ -13,5 +13,13 @@ public interface ParametersGenerator {
 
 	int edgeCasesTotal();
 
+	/**
+	 * The number of parameter combinations if any index range of them can be generated
+	 * through {@linkplain SliceableParametersGenerator#slice(long, long)}
+	 */
+	default OptionalLong indexedCount() {
+		return OptionalLong.empty();
+	}
+
 	int edgeCasesTried();
 }
@@ -8,7 +8,7 @@ import net.jqwik.api.lifecycle.ResolveParameterHook.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
-public class ResolvingParametersGenerator implements ParametersGenerator {
+public class ResolvingParametersGenerator implements SliceableParametersGenerator {
 	private final List<MethodParameter> propertyParameters;
 	private final ForAllParametersGenerator forAllParametersGenerator;
 	private final ParameterSupplierResolver parameterSupplierResolver;
@@ -18,10 +18,22 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		ForAllParametersGenerator forAllParametersGenerator,
 		ResolveParameterHook resolveParameterHook,
 		PropertyLifecycleContext propertyLifecycleContext
+	) {
+		this(
+			propertyParameters,
+			forAllParametersGenerator,
+			new ParameterSupplierResolver(resolveParameterHook, propertyLifecycleContext)
+		);
+	}
+
+	private ResolvingParametersGenerator(
+		List<MethodParameter> propertyParameters,
+		ForAllParametersGenerator forAllParametersGenerator,
+		ParameterSupplierResolver parameterSupplierResolver
 	) {
 		this.propertyParameters = propertyParameters;
 		this.forAllParametersGenerator = forAllParametersGenerator;
-		this.parameterSupplierResolver = new ParameterSupplierResolver(resolveParameterHook, propertyLifecycleContext);
+		this.parameterSupplierResolver = parameterSupplierResolver;
 	}
 
 	@Override
@@ -46,6 +58,22 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		return next;
 	}
 
+	// Only exhaustive generation can be sliced
+	@Override
+	public OptionalLong indexedCount() {
+		if (forAllParametersGenerator instanceof ExhaustiveShrinkablesGenerator) {
+			return OptionalLong.of(((ExhaustiveShrinkablesGenerator) forAllParametersGenerator).indexedCount());
+		}
+		return OptionalLong.empty();
+	}
+
+	@Override
+	public ParametersGenerator slice(long fromIndex, long toIndex) {
+		ExhaustiveShrinkablesGenerator exhaustiveGenerator = (ExhaustiveShrinkablesGenerator) forAllParametersGenerator;
+		ForAllParametersGenerator slice = exhaustiveGenerator.slice(fromIndex, toIndex);
+		return new ResolvingParametersGenerator(propertyParameters, slice, parameterSupplierResolver);
+	}
+
 	@Override
 	public int edgeCasesTotal() {
 		return forAllParametersGenerator.edgeCasesTotal();
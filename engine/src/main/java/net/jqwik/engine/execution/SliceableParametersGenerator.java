@@ -0,0 +1,10 @@
+package net.jqwik.engine.execution;
+
+public interface SliceableParametersGenerator extends ParametersGenerator {
+
+	/**
+	 * Generate only the parameter combinations from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+	 * Callers must make sure that {@linkplain #indexedCount()} is present.
+	 */
+	ParametersGenerator slice(long fromIndex, long toIndex);
+}
@@ -33,6 +33,10 @@ public class CurrentTestDescriptor {
 		}
 	}
 
+	public static boolean isEmpty() {
+		return descriptors.get().isEmpty();
+	}
+
 	public static TestDescriptor get() {
 		if (descriptors.get().isEmpty()) {
 			String message = String.format("The current action must be run on a jqwik thread, i.e. container, property or hook.%n" +
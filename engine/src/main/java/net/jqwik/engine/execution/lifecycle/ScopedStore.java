@@ -33,6 +33,7 @@ public class ScopedStore<T> implements Store<T> {
 
 	@Override
 	public synchronized T get() {
+		StoreAccess.check();
 		if (!initialized) {
 			value = initializer.get();
 			initialized = true;
@@ -0,0 +1,58 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import net.jqwik.api.*;
+
+/**
+ * Keeps track of store access per thread.
+ *
+ * <p>
+ * Stores are not thread-safe and neither is engine state that lives in stores,
+ * e.g. statistics or the generators of {@code lazyOf()}.
+ * Threads that check tries of a property in parallel are therefore denied any store access.
+ * </p>
+ */
+public class StoreAccess {
+
+	private static final ThreadLocal<StoreAccess> current = ThreadLocal.withInitial(StoreAccess::new);
+
+	private boolean denied = false;
+	private boolean deniedAccessTried = false;
+	private long countAccesses = 0;
+
+	static void check() {
+		StoreAccess access = current.get();
+		if (access.denied) {
+			access.deniedAccessTried = true;
+			throw new JqwikException("Stores cannot be accessed while tries are checked in parallel");
+		}
+		access.countAccesses++;
+	}
+
+	/**
+	 * The number of store accesses in the current thread so far
+	 */
+	public static long countAccesses() {
+		return current.get().countAccesses;
+	}
+
+	/**
+	 * Run {@code code} in the current thread with all store access denied
+	 */
+	public static void runDenied(Runnable code) {
+		StoreAccess access = current.get();
+		access.denied = true;
+		access.deniedAccessTried = false;
+		try {
+			code.run();
+		} finally {
+			access.denied = false;
+		}
+	}
+
+	/**
+	 * True if the current thread has tried to access a store while access was denied
+	 */
+	public static boolean deniedAccessTried() {
+		return current.get().deniedAccessTried;
+	}
+}
@@ -45,6 +45,7 @@ public class StoreRepository {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
+		StoreAccess.check();
 		ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initializer);
 		addStore(identifier, store);
 		return store;
@@ -78,6 +79,7 @@ public class StoreRepository {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
+		StoreAccess.check();
 
 		//noinspection unchecked
 		return stores.stream()
@@ -8,10 +8,20 @@ class MapValueReport extends ValueReport {
 	private static final int MAX_LINE_LENGTH = 100;
 
 	private final List<Map.Entry<ValueReport, ValueReport>> reportEntries;
+	private final Optional<ValueReport> truncation;
 
 	MapValueReport(final Optional<String> label, final List<Map.Entry<ValueReport, ValueReport>> reportEntries) {
+		this(label, reportEntries, Optional.empty());
+	}
+
+	MapValueReport(
+		final Optional<String> label,
+		final List<Map.Entry<ValueReport, ValueReport>> reportEntries,
+		final Optional<ValueReport> truncation
+	) {
 		super(label);
 		this.reportEntries = reportEntries;
+		this.truncation = truncation;
 	}
 
 	@Override
@@ -20,7 +30,9 @@ class MapValueReport extends ValueReport {
 	}
 
 	private String singleLineEntries() {
-		return reportEntries.stream().map(this::singleLineEntry).collect(Collectors.joining(", "));
+		Stream<String> entries = reportEntries.stream().map(this::singleLineEntry);
+		Stream<String> truncated = truncation.map(ValueReport::singleLineReport).map(Stream::of).orElse(Stream.empty());
+		return Stream.concat(entries, truncated).collect(Collectors.joining(", "));
 	}
 
 	private String singleLineEntry(final Map.Entry<ValueReport, ValueReport> entry) {
@@ -36,7 +48,7 @@ class MapValueReport extends ValueReport {
 
 	private void reportEntries(LineReporter lineReporter, int indentLevel) {
 		for (int i = 0; i < reportEntries.size(); i++) {
-			boolean isNotLast = i < reportEntries.size() - 1;
+			boolean isNotLast = i < reportEntries.size() - 1 || truncation.isPresent();
 			Map.Entry<ValueReport, ValueReport> reportEntry = reportEntries.get(i);
 			String optionalComma = isNotLast ? ", " : "";
 			String singleLineEntry = singleLineEntry(reportEntry);
@@ -47,5 +59,6 @@ class MapValueReport extends ValueReport {
 				reportEntry.getValue().report(lineReporter, indentLevel + 1, optionalComma);
 			}
 		}
+		truncation.ifPresent(truncationReport -> truncationReport.report(lineReporter, indentLevel, ""));
 	}
 }
@@ -6,15 +6,29 @@ import net.jqwik.engine.support.*;
 
 class ObjectValueReport extends ValueReport {
 
+	private static final String ELLIPSIS = "...";
+
 	private List<String> lines;
 
 	ObjectValueReport(Optional<String> header, Object value) {
+		this(header, value, Integer.MAX_VALUE);
+	}
+
+	ObjectValueReport(Optional<String> header, Object value, int maxCharacters) {
 		super(header);
-		this.lines = toStringLines(value);
+		this.lines = toStringLines(value, maxCharacters);
 	}
 
-	private List<String> toStringLines(Object value) {
+	private List<String> toStringLines(Object value, int maxCharacters) {
+		if (value instanceof String && ((String) value).length() > maxCharacters) {
+			// Cut long strings before they are copied for display
+			String head = ((String) value).substring(0, maxCharacters);
+			return JqwikStringSupport.toLines(JqwikStringSupport.displayString(head) + ELLIPSIS);
+		}
 		String s = JqwikStringSupport.displayString(value);
+		if (s.length() > maxCharacters) {
+			s = s.substring(0, maxCharacters) + ELLIPSIS;
+		}
 		return JqwikStringSupport.toLines(s);
 	}
 
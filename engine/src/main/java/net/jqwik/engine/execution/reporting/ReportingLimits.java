@@ -0,0 +1,57 @@
+package net.jqwik.engine.execution.reporting;
+
+/**
+ * Limits for reporting a single value, e.g. a parameter of a falsified sample.
+ * Values beyond those limits are truncated without being visited at all.
+ */
+public class ReportingLimits {
+
+	public static final int DEFAULT_MAX_ELEMENTS = 1000;
+	public static final int DEFAULT_MAX_DEPTH = 20;
+	public static final int DEFAULT_MAX_CHARACTERS = 10000;
+
+	public static final ReportingLimits DEFAULT = new ReportingLimits(DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_DEPTH, DEFAULT_MAX_CHARACTERS);
+
+	private final int maxElements;
+	private final int maxDepth;
+	private final int maxCharacters;
+
+	public ReportingLimits(int maxElements, int maxDepth, int maxCharacters) {
+		if (maxElements < 1 || maxDepth < 1 || maxCharacters < 1) {
+			String message = String.format(
+				"Reporting limits must be positive but were maxElements=%s, maxDepth=%s, maxCharacters=%s",
+				maxElements, maxDepth, maxCharacters
+			);
+			throw new IllegalArgumentException(message);
+		}
+		this.maxElements = maxElements;
+		this.maxDepth = maxDepth;
+		this.maxCharacters = maxCharacters;
+	}
+
+	/**
+	 * Maximum number of elements reported for a single collection, array or map
+	 */
+	public int maxElements() {
+		return maxElements;
+	}
+
+	/**
+	 * Maximum nesting level of collections, arrays, maps and tuples
+	 */
+	public int maxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * Maximum number of characters used for all leaf values of a single reported value
+	 */
+	public int maxCharacters() {
+		return maxCharacters;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ReportingLimits(maxElements=%s, maxDepth=%s, maxCharacters=%s)", maxElements, maxDepth, maxCharacters);
+	}
+}
@@ -20,6 +20,12 @@ public class StreamReportingFormat implements SampleReportingFormat {
 
 	@Override
 	public Optional<String> label(Object value) {
+		@SuppressWarnings("rawtypes")
+		ReportableStream stream = (ReportableStream) value;
+		int read = stream.values().size();
+		if (read < stream.size()) {
+			return Optional.of(String.format("Stream.of (%s of %s elements read) ", read, stream.size()));
+		}
 		return Optional.of("Stream.of ");
 	}
 }
@@ -0,0 +1,31 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.util.*;
+
+class TruncatedValueReport extends ValueReport {
+
+	static TruncatedValueReport omitted(int numberOfElements) {
+		return new TruncatedValueReport(Optional.empty(), String.format("...<%s more>", numberOfElements));
+	}
+
+	static TruncatedValueReport nested(Optional<String> label) {
+		return new TruncatedValueReport(label, "...");
+	}
+
+	private final String ellipsis;
+
+	private TruncatedValueReport(Optional<String> label, String ellipsis) {
+		super(label);
+		this.ellipsis = ellipsis;
+	}
+
+	@Override
+	public String singleLineReport() {
+		return label.orElse("") + ellipsis;
+	}
+
+	@Override
+	public void report(LineReporter lineReporter, int indentLevel, String appendix) {
+		lineReporter.addLine(indentLevel, singleLineReport() + appendix);
+	}
+}
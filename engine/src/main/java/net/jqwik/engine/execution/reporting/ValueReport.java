@@ -11,14 +11,24 @@ public abstract class ValueReport {
 		SampleReportingFormat find(Object value);
 	}
 
+	private static volatile ReportingLimits defaultLimits = ReportingLimits.DEFAULT;
+
+	public static void useDefaultLimits(ReportingLimits limits) {
+		defaultLimits = limits;
+	}
+
 	public static ValueReport of(Object value) {
 		ReportingFormatFinder formatFinder = reportingFormatFinder();
 		return of(value, formatFinder);
 	}
 
 	static ValueReport of(Object value, ReportingFormatFinder formatFinder) {
+		return of(value, formatFinder, defaultLimits);
+	}
+
+	static ValueReport of(Object value, ReportingFormatFinder formatFinder, ReportingLimits limits) {
 		final Set<Object> visited = visitedSet(Collections.emptySet());
-		return of(value, formatFinder, visited);
+		return of(value, new ReportingContext(formatFinder, limits), visited, 0);
 	}
 
 	private static Set<Object> visitedSet(Set<Object> from) {
@@ -27,40 +37,50 @@ public abstract class ValueReport {
 		return objects;
 	}
 
-	private static ValueReport of(Object value, ReportingFormatFinder formatFinder, Set<Object> visited) {
-		SampleReportingFormat format = formatFinder.find(value);
+	private static ValueReport of(Object value, ReportingContext context, Set<Object> visited, int depth) {
+		SampleReportingFormat format = context.formatFinder.find(value);
 		if (visited.contains(value)) {
 			return new CircularDependencyReport(format.label(value), value);
 		} else {
 			visited.add(value);
 		}
 		Object reportedValue = format.report(value);
+		if (isContainer(reportedValue) && depth >= context.limits.maxDepth()) {
+			return TruncatedValueReport.nested(format.label(value));
+		}
 		if (reportedValue instanceof Collection) {
 			//noinspection unchecked
-			return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, visited);
+			return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, context, visited, depth);
 		}
 		if (reportedValue instanceof Map) {
 			//noinspection unchecked
-			return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, visited);
+			return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, context, visited, depth);
 		}
 		if (reportedValue instanceof Tuple) {
 			//noinspection unchecked
-			return createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, visited);
+			return createTupleReport(format.label(value), (Tuple) reportedValue, context, visited, depth);
 		}
 		visited.remove(value);
-		return new ObjectValueReport(format.label(value), reportedValue);
+		ObjectValueReport objectValueReport = new ObjectValueReport(format.label(value), reportedValue, context.remainingCharacters);
+		context.consumeCharacters(objectValueReport.singleLineLength());
+		return objectValueReport;
+	}
+
+	private static boolean isContainer(Object reportedValue) {
+		return reportedValue instanceof Collection || reportedValue instanceof Map || reportedValue instanceof Tuple;
 	}
 
 	private static ValueReport createTupleReport(
 		Optional<String> label,
 		Tuple tuple,
-		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		ReportingContext context,
+		final Set<Object> visited,
+		int depth
 	) {
 		List<ValueReport> tupleReports =
 			tuple.items()
 				 .stream()
-				 .map(value -> of(value, formatFinder, visitedSet(visited)))
+				 .map(value -> of(value, context, visitedSet(visited), depth + 1))
 				 .collect(Collectors.toList());
 
 		return new TupleValueReport(label, tupleReports);
@@ -69,47 +89,57 @@ public abstract class ValueReport {
 	private static ValueReport createMapReport(
 		final Optional<String> label,
 		final Map<Object, Object> map,
-		final ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		final ReportingContext context,
+		final Set<Object> visited,
+		int depth
 	) {
-		List<Map.Entry<ValueReport, ValueReport>> reportEntries =
-			map.entrySet()
-			   .stream()
-			   .map(entry -> {
-				   ValueReport keyReport = of(entry.getKey(), formatFinder, visitedSet(visited));
-				   ValueReport valueReport = of(entry.getValue(), formatFinder, visitedSet(visited));
-				   return new Map.Entry<ValueReport, ValueReport>() {
-					   @Override
-					   public ValueReport getKey() {
-						   return keyReport;
-					   }
-
-					   @Override
-					   public ValueReport getValue() {
-						   return valueReport;
-					   }
-
-					   @Override
-					   public ValueReport setValue(ValueReport value) {
-						   throw new UnsupportedOperationException();
-					   }
-				   };
-			   })
-			   .collect(Collectors.toList());
-		return new MapValueReport(label, reportEntries);
+		List<Map.Entry<ValueReport, ValueReport>> reportEntries = new ArrayList<>();
+		Optional<ValueReport> truncation = Optional.empty();
+		Iterator<Map.Entry<Object, Object>> entries = map.entrySet().iterator();
+		while (entries.hasNext()) {
+			if (context.shouldTruncateAfter(reportEntries.size())) {
+				truncation = Optional.of(TruncatedValueReport.omitted(map.size() - reportEntries.size()));
+				break;
+			}
+			Map.Entry<Object, Object> entry = entries.next();
+			ValueReport keyReport = of(entry.getKey(), context, visitedSet(visited), depth + 1);
+			ValueReport valueReport = of(entry.getValue(), context, visitedSet(visited), depth + 1);
+			reportEntries.add(new Map.Entry<ValueReport, ValueReport>() {
+				@Override
+				public ValueReport getKey() {
+					return keyReport;
+				}
+
+				@Override
+				public ValueReport getValue() {
+					return valueReport;
+				}
+
+				@Override
+				public ValueReport setValue(ValueReport value) {
+					throw new UnsupportedOperationException();
+				}
+			});
+		}
+		return new MapValueReport(label, reportEntries, truncation);
 	}
 
 	private static ValueReport createCollectionReport(
 		Optional<String> label,
 		Collection<Object> collection,
-		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		ReportingContext context,
+		final Set<Object> visited,
+		int depth
 	) {
-		List<ValueReport> reportCollection =
-			collection
-				.stream()
-				.map(element -> of(element, formatFinder, visitedSet(visited)))
-				.collect(Collectors.toList());
+		List<ValueReport> reportCollection = new ArrayList<>();
+		Iterator<Object> elements = collection.iterator();
+		while (elements.hasNext()) {
+			if (context.shouldTruncateAfter(reportCollection.size())) {
+				reportCollection.add(TruncatedValueReport.omitted(collection.size() - reportCollection.size()));
+				break;
+			}
+			reportCollection.add(of(elements.next(), context, visitedSet(visited), depth + 1));
+		}
 		return new CollectionValueReport(label, reportCollection);
 	}
 
@@ -128,6 +158,26 @@ public abstract class ValueReport {
 						  .findFirst().orElse(new NullReportingFormat());
 	}
 
+	private static class ReportingContext {
+		private final ReportingFormatFinder formatFinder;
+		private final ReportingLimits limits;
+		private int remainingCharacters;
+
+		private ReportingContext(ReportingFormatFinder formatFinder, ReportingLimits limits) {
+			this.formatFinder = formatFinder;
+			this.limits = limits;
+			this.remainingCharacters = limits.maxCharacters();
+		}
+
+		private void consumeCharacters(int count) {
+			remainingCharacters = Math.max(0, remainingCharacters - count);
+		}
+
+		private boolean shouldTruncateAfter(int reportedElements) {
+			return reportedElements >= limits.maxElements() || remainingCharacters == 0;
+		}
+	}
+
 	final Optional<String> label;
 
 	protected ValueReport(Optional<String> label) {
@@ -120,6 +120,15 @@ public class ArbitraryFacadeImpl extends Arbitrary.ArbitraryFacade {
 						.map(Shrinkable::value);
 	}
 
+	@Override
+	public <T> Stream<T> bulkSampleStream(Arbitrary<T> arbitrary, long count, long seed) {
+		if (count < 0) {
+			String message = String.format("Count <%s> must not be negative", count);
+			throw new IllegalArgumentException(message);
+		}
+		return BulkSamples.stream(arbitrary, JqwikProperties.DEFAULT_TRIES, count, seed);
+	}
+
 	@Override
 	public <T> Arbitrary<T> injectNull(Arbitrary<T> self, double nullProbability) {
 		int frequencyNull = (int) Math.round(nullProbability * 100);
@@ -179,10 +188,11 @@ public class ArbitraryFacadeImpl extends Arbitrary.ArbitraryFacade {
 
 	@Override
 	public <T> Arbitrary<T> configureEdgeCases(Arbitrary<T> self, Consumer<EdgeCases.Config<T>> configurator) {
-		EdgeCasesConfiguration<T> config = new EdgeCasesConfiguration<>();
 		return new ArbitraryDelegator<T>(self) {
 			@Override
 			public EdgeCases<T> edgeCases() {
+				// A fresh configuration is necessary since the configurator adds to it on every call
+				EdgeCasesConfiguration<T> config = new EdgeCasesConfiguration<>();
 				return config.configure(configurator, self.edgeCases());
 			}
 		};
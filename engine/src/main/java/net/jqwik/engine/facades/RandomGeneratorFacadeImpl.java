@@ -4,6 +4,8 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
@@ -12,13 +14,34 @@ import net.jqwik.engine.properties.shrinking.*;
  */
 public class RandomGeneratorFacadeImpl extends RandomGenerator.RandomGeneratorFacade {
 	@Override
-	public <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, RandomGenerator<U>> mapper, long nextLong) {
-		return new FlatMappedShrinkable<>(self, mapper, nextLong);
+	public <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, RandomGenerator<U>> mapper, Random random) {
+		// With recorded choices the right side draws from the same sequence and is shrunk through it
+		if (random instanceof ChoiceSequenceRandom) {
+			return mapper.apply(self.value()).next(random);
+		}
+		long seed = random.nextLong();
+		if (LazyOfArbitrary.isGeneratingValue()) {
+			return withGeneratedRightSide(self, t -> mapper.apply(t).next(SourceOfRandomness.newRandom(seed)));
+		}
+		return new FlatMappedShrinkable<>(self, mapper, seed);
 	}
 
 	@Override
-	public <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, Arbitrary<U>> mapper, int genSize, long nextLong) {
-		return new FlatMappedShrinkable<>(self, mapper, genSize, nextLong);
+	public <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, Arbitrary<U>> mapper, int genSize, Random random) {
+		if (random instanceof ChoiceSequenceRandom) {
+			return mapper.apply(self.value()).generator(genSize).next(random);
+		}
+		long seed = random.nextLong();
+		if (LazyOfArbitrary.isGeneratingValue()) {
+			return withGeneratedRightSide(self, t -> mapper.apply(t).generator(genSize).next(SourceOfRandomness.newRandom(seed)));
+		}
+		return new FlatMappedShrinkable<>(self, mapper, genSize, seed);
+	}
+
+	// Nested lazyOf() values only stay within their node budget if they are generated together with their parent
+	private static <T, U> Shrinkable<U> withGeneratedRightSide(Shrinkable<T> self, Function<T, Shrinkable<U>> rightSides) {
+		Shrinkable<U> rightSide = rightSides.apply(self.value());
+		return new FixedValueFlatMappedShrinkable<>(self, rightSides, () -> rightSide);
 	}
 
 	@Override
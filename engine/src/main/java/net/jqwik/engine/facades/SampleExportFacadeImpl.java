@@ -0,0 +1,75 @@
+package net.jqwik.engine.facades;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+/**
+ * Is loaded through reflection in api module
+ */
+public class SampleExportFacadeImpl extends SampleExport.SampleExportFacade {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@Override
+	public <T> long write(
+		Arbitrary<T> arbitrary,
+		Function<T, byte[]> encoder,
+		byte[] header,
+		Path file,
+		long fromIndex,
+		long toIndex,
+		long seed
+	) throws IOException {
+		if (fromIndex < 0 || toIndex < fromIndex) {
+			String message = String.format("Shard [%s, %s) is not a valid range of positions", fromIndex, toIndex);
+			throw new IllegalArgumentException(message);
+		}
+		Iterator<T> values = BulkSamples.stream(arbitrary, JqwikProperties.DEFAULT_TRIES, fromIndex, toIndex, seed).iterator();
+		try (FileChannel channel = FileChannel.open(
+			file,
+			StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.WRITE
+		)) {
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			long written = put(header, buffer, channel);
+			while (values.hasNext()) {
+				written += put(encoder.apply(values.next()), buffer, channel);
+			}
+			flush(buffer, channel);
+			return written;
+		}
+	}
+
+	private long put(byte[] bytes, ByteBuffer buffer, FileChannel channel) throws IOException {
+		if (bytes.length > buffer.remaining()) {
+			flush(buffer, channel);
+		}
+		if (bytes.length > buffer.capacity()) {
+			writeFully(ByteBuffer.wrap(bytes), channel);
+		} else {
+			buffer.put(bytes);
+		}
+		return bytes.length;
+	}
+
+	private void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+		buffer.flip();
+		writeFully(buffer, channel);
+		buffer.clear();
+	}
+
+	private void writeFully(ByteBuffer buffer, FileChannel channel) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
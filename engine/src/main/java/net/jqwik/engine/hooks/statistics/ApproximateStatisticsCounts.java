@@ -0,0 +1,58 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Counting of collected statistics keys with memory bounded by {@code maxEntries}
+ * regardless of the number of collects.
+ *
+ * <p>
+ * Single numeric values go into a {@linkplain NumberDigest},
+ * all other keys are counted by {@linkplain HeavyHitters}.
+ * </p>
+ */
+class ApproximateStatisticsCounts implements StatisticsCounts {
+
+	private final int maxEntries;
+	private final NumberDigest numbers;
+	private final HeavyHitters others;
+	private int countAll = 0;
+
+	ApproximateStatisticsCounts(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.numbers = new NumberDigest(maxEntries);
+		this.others = new HeavyHitters(maxEntries);
+	}
+
+	int maxEntries() {
+		return maxEntries;
+	}
+
+	@Override
+	public synchronized void countSingle(Object value) {
+		countAll++;
+		if (NumberDigest.accepts(value)) {
+			numbers.add((Number) value);
+		} else {
+			others.add(Collections.singletonList(value));
+		}
+	}
+
+	@Override
+	public synchronized void countMultiple(Object[] values) {
+		countAll++;
+		others.add(Arrays.asList(values));
+	}
+
+	@Override
+	public synchronized int countAll() {
+		return countAll;
+	}
+
+	@Override
+	public synchronized void forEach(BiConsumer<List<Object>, Integer> action) {
+		numbers.forEach(action);
+		others.forEach(action);
+	}
+}
@@ -0,0 +1,130 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Thread-safe and exact counting of collected statistics keys.
+ *
+ * <p>
+ * Every distinct key gets its own mutable counter which is found with a single lookup.
+ * Keys consisting of a single boolean, enum or small non-negative int value
+ * are counted in arrays indexed by the value itself so that neither a key list
+ * nor a hash lookup is needed on the hot path.
+ * </p>
+ */
+class ExactStatisticsCounts implements StatisticsCounts {
+
+	private static final int SMALL_INTS = 256;
+	private static final Object NULL_VALUE = new Object();
+
+	private final Queue<Counter> countersInOrderOfCreation = new ConcurrentLinkedQueue<>();
+	private final LongAdder countAll = new LongAdder();
+
+	private final AtomicReferenceArray<Counter> booleanCounters = new AtomicReferenceArray<>(2);
+	private final AtomicReferenceArray<Counter> smallIntCounters = new AtomicReferenceArray<>(SMALL_INTS);
+	private final ConcurrentMap<Class<?>, AtomicReferenceArray<Counter>> enumCounters = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Object, Counter> singleValueCounters = new ConcurrentHashMap<>();
+	private final ConcurrentMap<List<Object>, Counter> multiValueCounters = new ConcurrentHashMap<>();
+
+	@Override
+	public void countSingle(Object value) {
+		counterForSingle(value).increment();
+		countAll.increment();
+	}
+
+	@Override
+	public void countMultiple(Object[] values) {
+		counterFor(multiValueCounters, Arrays.asList(values), key -> key).increment();
+		countAll.increment();
+	}
+
+	@Override
+	public int countAll() {
+		return countAll.intValue();
+	}
+
+	/**
+	 * Iterate over a snapshot of all keys and their counts in the order of their first occurrence
+	 */
+	@Override
+	public void forEach(BiConsumer<List<Object>, Integer> action) {
+		for (Counter counter : countersInOrderOfCreation) {
+			action.accept(counter.key, counter.count());
+		}
+	}
+
+	private Counter counterForSingle(Object value) {
+		if (value instanceof Boolean) {
+			return counterAt(booleanCounters, (Boolean) value ? 1 : 0, value);
+		}
+		if (value instanceof Integer) {
+			int intValue = (Integer) value;
+			if (intValue >= 0 && intValue < SMALL_INTS) {
+				return counterAt(smallIntCounters, intValue, value);
+			}
+		}
+		if (value instanceof Enum) {
+			Enum<?> enumValue = (Enum<?>) value;
+			return counterAt(enumCountersFor(enumValue.getDeclaringClass()), enumValue.ordinal(), value);
+		}
+		Object key = value == null ? NULL_VALUE : value;
+		return counterFor(singleValueCounters, key, ignore -> Collections.singletonList(value));
+	}
+
+	private AtomicReferenceArray<Counter> enumCountersFor(Class<?> enumType) {
+		AtomicReferenceArray<Counter> counters = enumCounters.get(enumType);
+		if (counters != null) {
+			return counters;
+		}
+		return enumCounters.computeIfAbsent(
+			enumType,
+			type -> new AtomicReferenceArray<>(type.getEnumConstants().length)
+		);
+	}
+
+	private Counter counterAt(AtomicReferenceArray<Counter> counters, int index, Object value) {
+		Counter counter = counters.get(index);
+		if (counter != null) {
+			return counter;
+		}
+		Counter newCounter = new Counter(Collections.singletonList(value));
+		if (counters.compareAndSet(index, null, newCounter)) {
+			return register(newCounter);
+		}
+		return counters.get(index);
+	}
+
+	private <K> Counter counterFor(ConcurrentMap<K, Counter> counters, K key, Function<K, List<Object>> keyToValues) {
+		// Plain get() first because computeIfAbsent() locks in Java 8 even if key is present
+		Counter counter = counters.get(key);
+		if (counter != null) {
+			return counter;
+		}
+		return counters.computeIfAbsent(key, k -> register(new Counter(keyToValues.apply(k))));
+	}
+
+	private Counter register(Counter counter) {
+		countersInOrderOfCreation.add(counter);
+		return counter;
+	}
+
+	private static class Counter {
+		private final List<Object> key;
+		private final AtomicInteger count = new AtomicInteger(0);
+
+		private Counter(List<Object> key) {
+			this.key = key;
+		}
+
+		private void increment() {
+			count.incrementAndGet();
+		}
+
+		private int count() {
+			return count.get();
+		}
+	}
+}
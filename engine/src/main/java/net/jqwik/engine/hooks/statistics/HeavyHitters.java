@@ -0,0 +1,103 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Space-saving algorithm to approximate the most frequent keys with a fixed number of slots.
+ *
+ * <p>
+ * Monitored keys are kept in a min-heap by count. An unmonitored key takes over
+ * the slot with the smallest count and inherits that count. Thus counts can only
+ * be overestimated and the overestimation is never larger than the smallest count.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe.
+ * </p>
+ */
+class HeavyHitters {
+
+	private final Map<List<Object>, Slot> monitored;
+	private final Slot[] heap;
+	private int size = 0;
+
+	HeavyHitters(int capacity) {
+		this.heap = new Slot[capacity];
+		this.monitored = new HashMap<>(capacity * 2);
+	}
+
+	void add(List<Object> key) {
+		Slot slot = monitored.get(key);
+		if (slot != null) {
+			slot.count++;
+			siftDown(slot.index);
+			return;
+		}
+		if (size < heap.length) {
+			slot = new Slot(key, size);
+			heap[size++] = slot;
+			monitored.put(key, slot);
+			siftUp(slot.index);
+			return;
+		}
+		Slot smallest = heap[0];
+		monitored.remove(smallest.key);
+		smallest.key = key;
+		smallest.count++;
+		monitored.put(key, smallest);
+		siftDown(0);
+	}
+
+	void forEach(BiConsumer<List<Object>, Integer> action) {
+		for (int i = 0; i < size; i++) {
+			action.accept(heap[i].key, heap[i].count);
+		}
+	}
+
+	private void siftUp(int index) {
+		while (index > 0) {
+			int parent = (index - 1) / 2;
+			if (heap[parent].count <= heap[index].count) {
+				return;
+			}
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int index) {
+		while (true) {
+			int left = 2 * index + 1;
+			if (left >= size) {
+				return;
+			}
+			int right = left + 1;
+			int smaller = right < size && heap[right].count < heap[left].count ? right : left;
+			if (heap[index].count <= heap[smaller].count) {
+				return;
+			}
+			swap(index, smaller);
+			index = smaller;
+		}
+	}
+
+	private void swap(int i, int j) {
+		Slot slotI = heap[i];
+		heap[i] = heap[j];
+		heap[i].index = i;
+		heap[j] = slotI;
+		slotI.index = j;
+	}
+
+	private static class Slot {
+		private List<Object> key;
+		private int count = 1;
+		private int index;
+
+		private Slot(List<Object> key, int index) {
+			this.key = key;
+			this.index = index;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Approximates the distribution of collected numbers with a bounded number of clusters.
+ *
+ * <p>
+ * Every distinct number starts as its own cluster. When there are more than
+ * {@code 4 * maxClusters} clusters, neighbouring clusters are merged as long as their
+ * combined count does not exceed {@code total / maxClusters}. The clusters with
+ * the smallest and the largest number are never merged so that the full range
+ * of collected values is retained.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe.
+ * </p>
+ */
+class NumberDigest {
+
+	static boolean accepts(Object value) {
+		if (!(value instanceof Number)) {
+			return false;
+		}
+		double doubleValue = ((Number) value).doubleValue();
+		return !Double.isNaN(doubleValue) && !Double.isInfinite(doubleValue);
+	}
+
+	private final int maxClusters;
+	private final TreeMap<Double, Cluster> clusters = new TreeMap<>();
+	private long total = 0;
+
+	NumberDigest(int maxClusters) {
+		this.maxClusters = maxClusters;
+	}
+
+	void add(Number value) {
+		total++;
+		double doubleValue = value.doubleValue();
+		Cluster cluster = clusters.get(doubleValue);
+		if (cluster != null) {
+			cluster.add(value, doubleValue);
+			return;
+		}
+		clusters.put(doubleValue, new Cluster(value, doubleValue));
+		if (clusters.size() > 4 * maxClusters) {
+			compress();
+		}
+	}
+
+	void forEach(BiConsumer<List<Object>, Integer> action) {
+		for (Cluster cluster : clusters.values()) {
+			action.accept(Collections.singletonList(cluster.value()), cluster.count);
+		}
+	}
+
+	private void compress() {
+		long maxCount = Math.max(1, (total + maxClusters - 1) / maxClusters);
+		List<Cluster> sorted = new ArrayList<>(clusters.values());
+		clusters.clear();
+
+		int last = sorted.size() - 1;
+		keep(sorted.get(0));
+		Cluster current = null;
+		for (int i = 1; i < last; i++) {
+			Cluster next = sorted.get(i);
+			if (current != null && current.count + next.count <= maxCount) {
+				current.merge(next);
+			} else {
+				if (current != null) {
+					keep(current);
+				}
+				current = next;
+			}
+		}
+		if (current != null) {
+			keep(current);
+		}
+		keep(sorted.get(last));
+	}
+
+	private void keep(Cluster cluster) {
+		clusters.merge(cluster.mean(), cluster, Cluster::merge);
+	}
+
+	private static class Cluster {
+		private final Number firstValue;
+		private boolean integral;
+		private boolean singleValue = true;
+		private double sum;
+		private int count;
+
+		private Cluster(Number value, double doubleValue) {
+			this.firstValue = value;
+			this.integral = isIntegral(value);
+			this.sum = doubleValue;
+			this.count = 1;
+		}
+
+		private static boolean isIntegral(Number value) {
+			return value instanceof Integer || value instanceof Long
+					   || value instanceof Short || value instanceof Byte
+					   || value instanceof BigInteger;
+		}
+
+		private void add(Number value, double doubleValue) {
+			if (!value.equals(firstValue)) {
+				singleValue = false;
+			}
+			sum += doubleValue;
+			count++;
+		}
+
+		private Cluster merge(Cluster other) {
+			singleValue = false;
+			integral = integral && other.integral;
+			sum += other.sum;
+			count += other.count;
+			return this;
+		}
+
+		private double mean() {
+			return sum / count;
+		}
+
+		private Object value() {
+			if (singleValue) {
+				return firstValue;
+			}
+			if (integral) {
+				return Math.round(mean());
+			}
+			return mean();
+		}
+	}
+}
@@ -1,12 +1,15 @@
 package net.jqwik.engine.hooks.statistics;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
 import org.opentest4j.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.statistics.*;
 import net.jqwik.api.statistics.StatisticsCoverage.*;
 import net.jqwik.engine.facades.*;
@@ -14,11 +17,12 @@ import net.jqwik.engine.facades.*;
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
-	private final Map<List<Object>, Integer> counts = new HashMap<>();
-	private final List<Consumer<StatisticsCoverage>> coverageCheckers = new ArrayList<>();
+	private volatile StatisticsCounts counts = new ExactStatisticsCounts();
+	private final AtomicInteger numberOfValues = new AtomicInteger(0);
+	private final CopyOnWriteArrayList<Consumer<StatisticsCoverage>> coverageCheckers = new CopyOnWriteArrayList<>();
 	private final String label;
 
-	private List<StatisticsEntryImpl> statisticsEntries = null;
+	private volatile Tuple2<Integer, List<StatisticsEntryImpl>> statisticsEntries = null;
 
 	public StatisticsCollectorImpl(String label) {
 		this.label = label;
@@ -26,32 +30,68 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 
 	@Override
 	public StatisticsCollector collect(Object... values) {
+		if (values == null) {
+			ensureSameNumberOfValues(1);
+			counts.countSingle(null);
+			return this;
+		}
 		ensureAtLeastOneParameter(values);
-		List<Object> key = keyFrom(values);
-		ensureSameNumberOfValues(key);
-		updateCounts(key);
+		ensureSameNumberOfValues(values.length);
+		if (values.length == 1) {
+			counts.countSingle(values[0]);
+		} else {
+			counts.countMultiple(values);
+		}
 		return this;
 	}
 
-	private void updateCounts(List<Object> key) {
-		int count = counts.computeIfAbsent(key, any -> 0);
-		counts.put(key, ++count);
-		statisticsEntries = null;
+	@Override
+	public StatisticsCollector approximate(int maxEntries) {
+		if (maxEntries < 1) {
+			String message = String.format("StatisticsCollector[%s] must be approximated with at least one entry", label);
+			throw new IllegalArgumentException(message);
+		}
+		if (isApproximatedWith(maxEntries)) {
+			return this;
+		}
+		synchronized (this) {
+			if (isApproximatedWith(maxEntries)) {
+				return this;
+			}
+			if (counts.countAll() > 0) {
+				String message = String.format(
+					"StatisticsCollector[%s] must be switched to approximate counting before first collect and always with same number of entries",
+					label
+				);
+				throw new IllegalArgumentException(message);
+			}
+			counts = new ApproximateStatisticsCounts(maxEntries);
+		}
+		return this;
+	}
+
+	private boolean isApproximatedWith(int maxEntries) {
+		StatisticsCounts currentCounts = counts;
+		return currentCounts instanceof ApproximateStatisticsCounts
+				   && ((ApproximateStatisticsCounts) currentCounts).maxEntries() == maxEntries;
 	}
 
 	private void ensureAtLeastOneParameter(Object[] values) {
-		if (Arrays.equals(values, new Object[0])) {
+		if (values.length == 0) {
 			String message = String.format("StatisticsCollector[%s] must be called with at least one value", label);
 			throw new IllegalArgumentException(message);
 		}
 	}
 
-	private void ensureSameNumberOfValues(List<Object> keyCandidate) {
-		if (counts.isEmpty()) {
+	private void ensureSameNumberOfValues(int numberOfValuesCandidate) {
+		int expected = numberOfValues.get();
+		if (expected == numberOfValuesCandidate) {
+			return;
+		}
+		if (expected == 0 && numberOfValues.compareAndSet(0, numberOfValuesCandidate)) {
 			return;
 		}
-		List<Object> anyKey = counts.keySet().iterator().next();
-		if (anyKey.size() != keyCandidate.size()) {
+		if (numberOfValues.get() != numberOfValuesCandidate) {
 			String message = String.format("StatisticsCollector[%s] must always be called with same number of values", label);
 			throw new IllegalArgumentException(message);
 		}
@@ -90,7 +130,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	public int countAllCollects() {
-		return counts.values().stream().mapToInt(aCount -> aCount).sum();
+		return counts.countAll();
 	}
 
 	// Currently only used for testing
@@ -101,9 +141,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	@Override
 	public void coverage(Consumer<StatisticsCoverage> checker) {
 		// The same checker shall only be used once
-		if (!coverageCheckers.contains(checker)) {
-			coverageCheckers.add(checker);
-		}
+		coverageCheckers.addIfAbsent(checker);
 	}
 
 	public void checkCoverage() {
@@ -113,33 +151,38 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		}
 	}
 
+	// Returns a snapshot of current counts
 	public Map<List<Object>, Integer> getCounts() {
-		return counts;
+		Map<List<Object>, Integer> snapshot = new LinkedHashMap<>();
+		counts.forEach((key, count) -> snapshot.merge(key, count, Integer::sum));
+		return snapshot;
 	}
 
 	public List<StatisticsEntryImpl> statisticsEntries() {
-		if (statisticsEntries != null) {
-			return statisticsEntries;
+		int countAll = countAllCollects();
+		Tuple2<Integer, List<StatisticsEntryImpl>> cachedEntries = statisticsEntries;
+		if (cachedEntries != null && cachedEntries.get1() == countAll) {
+			return cachedEntries.get2();
 		}
-		statisticsEntries = calculateStatistics();
-		return statisticsEntries;
+		List<StatisticsEntryImpl> entries = calculateStatistics(countAll);
+		statisticsEntries = Tuple.of(countAll, entries);
+		return entries;
 	}
 
-	private List<StatisticsEntryImpl> calculateStatistics() {
-		int sum = countAllCollects();
-		return counts.entrySet()
-					 .stream()
-					 .sorted(this::compareStatisticsEntries)
-					 .filter(entry -> !entry.getKey().equals(Collections.emptyList()))
-					 .map(entry -> {
-						 double percentage = entry.getValue() * 100.0 / sum;
-						 return new StatisticsEntryImpl(
-							 entry.getKey(),
-							 displayKey(entry.getKey()),
-							 entry.getValue(), percentage
-						 );
-					 })
-					 .collect(Collectors.toList());
+	private List<StatisticsEntryImpl> calculateStatistics(int sum) {
+		return getCounts().entrySet()
+						  .stream()
+						  .sorted(this::compareStatisticsEntries)
+						  .filter(entry -> !entry.getKey().equals(Collections.emptyList()))
+						  .map(entry -> {
+							  double percentage = entry.getValue() * 100.0 / sum;
+							  return new StatisticsEntryImpl(
+								  entry.getKey(),
+								  displayKey(entry.getKey()),
+								  entry.getValue(), percentage
+							  );
+						  })
+						  .collect(Collectors.toList());
 	}
 
 	private int compareStatisticsEntries(Map.Entry<List<Object>, Integer> e1, Map.Entry<List<Object>, Integer> e2) {
@@ -0,0 +1,19 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+import java.util.function.*;
+
+interface StatisticsCounts {
+
+	void countSingle(Object value);
+
+	void countMultiple(Object[] values);
+
+	int countAll();
+
+	/**
+	 * Iterate over a snapshot of all keys and their counts.
+	 * The same key can show up more than once.
+	 */
+	void forEach(BiConsumer<List<Object>, Integer> action);
+}
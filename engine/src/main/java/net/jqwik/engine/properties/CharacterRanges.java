@@ -0,0 +1,195 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * An immutable table of disjoint character ranges that maps an index in {@code [0, size())}
+ * to a character. Ranges keep the order in which they were added so that index 0 - the
+ * shrinking target - is always the first character of the first range.
+ */
+public class CharacterRanges {
+
+	public static final CharacterRanges EMPTY = new CharacterRanges(Collections.emptyList());
+
+	public static CharacterRanges of(char min, char max) {
+		if (min > max) {
+			String message = String.format("Min value [%s] must not be greater than max value [%s]", (int) min, (int) max);
+			throw new IllegalArgumentException(message);
+		}
+		return new CharacterRanges(Collections.singletonList(new int[]{min, max}));
+	}
+
+	public static CharacterRanges of(char... chars) {
+		List<int[]> ranges = new ArrayList<>();
+		BitSet seen = new BitSet(Character.MAX_VALUE + 1);
+		for (char c : chars) {
+			if (seen.get(c)) {
+				continue;
+			}
+			seen.set(c);
+			appendRange(ranges, c, c);
+		}
+		return new CharacterRanges(ranges);
+	}
+
+	private final char[] mins;
+	private final char[] maxs;
+	// offsets[i] is the index of mins[i]
+	private final int[] offsets;
+	// Positions of ranges in ascending order of their mins to look up characters by binary search
+	private final int[] rangesByMin;
+	private final int size;
+
+	private CharacterRanges(List<int[]> ranges) {
+		this.mins = new char[ranges.size()];
+		this.maxs = new char[ranges.size()];
+		this.offsets = new int[ranges.size()];
+		int offset = 0;
+		for (int i = 0; i < ranges.size(); i++) {
+			int[] range = ranges.get(i);
+			mins[i] = (char) range[0];
+			maxs[i] = (char) range[1];
+			offsets[i] = offset;
+			offset += range[1] - range[0] + 1;
+		}
+		this.size = offset;
+		this.rangesByMin = IntStream.range(0, mins.length)
+									.boxed()
+									.sorted(Comparator.comparing(i -> mins[i]))
+									.mapToInt(i -> i)
+									.toArray();
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int numberOfRanges() {
+		return mins.length;
+	}
+
+	public char charAt(int index) {
+		if (index < 0 || index >= size) {
+			String message = String.format("Index <%s> is outside of [0, %s)", index, size);
+			throw new IndexOutOfBoundsException(message);
+		}
+		int low = 0;
+		int high = offsets.length - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (offsets[mid] <= index) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return (char) (mins[low] + (index - offsets[low]));
+	}
+
+	/**
+	 * @return the index of {@code c} or -1 if the character is not part of these ranges
+	 */
+	public int indexOf(char c) {
+		// Find the last range that starts at or before c
+		int low = 0;
+		int high = rangesByMin.length - 1;
+		int candidate = -1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (mins[rangesByMin[mid]] <= c) {
+				candidate = rangesByMin[mid];
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		if (candidate < 0 || c > maxs[candidate]) {
+			return -1;
+		}
+		return offsets[candidate] + (c - mins[candidate]);
+	}
+
+	public boolean contains(char c) {
+		return indexOf(c) >= 0;
+	}
+
+	/**
+	 * Characters of {@code other} that are not yet contained are appended after the existing ranges.
+	 */
+	public CharacterRanges union(CharacterRanges other) {
+		List<int[]> ranges = ranges();
+		for (int i = 0; i < other.mins.length; i++) {
+			List<int[]> pieces = new ArrayList<>();
+			pieces.add(new int[]{other.mins[i], other.maxs[i]});
+			for (int j = 0; j < mins.length; j++) {
+				pieces = subtract(pieces, mins[j], maxs[j]);
+			}
+			for (int[] piece : pieces) {
+				appendRange(ranges, piece[0], piece[1]);
+			}
+		}
+		return new CharacterRanges(ranges);
+	}
+
+	public CharacterRanges minus(char min, char max) {
+		List<int[]> ranges = new ArrayList<>();
+		for (int[] piece : subtract(ranges(), min, max)) {
+			appendRange(ranges, piece[0], piece[1]);
+		}
+		return new CharacterRanges(ranges);
+	}
+
+	public IntStream stream() {
+		return IntStream.range(0, mins.length)
+						.flatMap(i -> IntStream.rangeClosed(mins[i], maxs[i]));
+	}
+
+	private List<int[]> ranges() {
+		List<int[]> ranges = new ArrayList<>();
+		for (int i = 0; i < mins.length; i++) {
+			ranges.add(new int[]{mins[i], maxs[i]});
+		}
+		return ranges;
+	}
+
+	private static List<int[]> subtract(List<int[]> ranges, int min, int max) {
+		List<int[]> result = new ArrayList<>();
+		for (int[] range : ranges) {
+			if (range[1] < min || range[0] > max) {
+				result.add(range);
+				continue;
+			}
+			if (range[0] < min) {
+				result.add(new int[]{range[0], min - 1});
+			}
+			if (range[1] > max) {
+				result.add(new int[]{max + 1, range[1]});
+			}
+		}
+		return result;
+	}
+
+	private static void appendRange(List<int[]> ranges, int min, int max) {
+		if (!ranges.isEmpty()) {
+			int[] last = ranges.get(ranges.size() - 1);
+			if (last[1] + 1 == min) {
+				last[1] = max;
+				return;
+			}
+		}
+		ranges.add(new int[]{min, max});
+	}
+
+	@Override
+	public String toString() {
+		String ranges = IntStream.range(0, mins.length)
+								 .mapToObj(i -> String.format("[%04x-%04x]", (int) mins[i], (int) maxs[i]))
+								 .collect(Collectors.joining(", "));
+		return String.format("CharacterRanges(%s)", ranges);
+	}
+}
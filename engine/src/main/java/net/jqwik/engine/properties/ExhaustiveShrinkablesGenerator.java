@@ -6,6 +6,7 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.support.*;
+import net.jqwik.engine.support.combinatorics.*;
 
 public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator {
 
@@ -46,8 +47,14 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	}
 
-	private final Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+	private final List<Iterable<Object>> iterables;
 	private final long maxCount;
+	private final long fromIndex;
+	private final long toIndex;
+
+	// Values are only created when generation starts
+	private OdometerCombinations<Object> combinations;
+	private Iterator<List<Object>> combinationsIterator;
 
 	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators) {
 		this.maxCount = generators
@@ -55,36 +62,23 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 							.mapToLong(set -> set.stream().mapToLong(ExhaustiveGenerator::maxCount).sum())
 							.reduce((product, count) -> product * count)
 							.orElse(1L);
-
-		this.combinatorialIterator = combine(generators);
+		this.iterables = generators
+							 .stream()
+							 .map(ExhaustiveShrinkablesGenerator::concat)
+							 .collect(Collectors.toList());
+		this.fromIndex = 0;
+		this.toIndex = -1;
 	}
 
-	private Iterator<List<Shrinkable<Object>>> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
-		List<Iterable<Object>> iterables = generators
-											   .stream()
-											   .map(this::concat)
-											   .collect(Collectors.toList());
-
-		return new Iterator<List<Shrinkable<Object>>>() {
-			final Iterator<List<Object>> iterator = Combinatorics.combine(iterables);
-
-			@Override
-			public boolean hasNext() {
-				return iterator.hasNext();
-			}
-
-			@Override
-			public List<Shrinkable<Object>> next() {
-				List<Shrinkable<Object>> values = new ArrayList<>();
-				for (Object o : iterator.next()) {
-					values.add(Shrinkable.unshrinkable(o));
-				}
-				return values;
-			}
-		};
+	private ExhaustiveShrinkablesGenerator(OdometerCombinations<Object> combinations, long fromIndex, long toIndex) {
+		this.iterables = Collections.emptyList();
+		this.maxCount = toIndex - fromIndex;
+		this.combinations = combinations;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
 	}
 
-	private Iterable<Object> concat(List<ExhaustiveGenerator<Object>> generatorList) {
+	private static Iterable<Object> concat(List<ExhaustiveGenerator<Object>> generatorList) {
 		List<Iterable<Object>> iterables = generatorList
 											   .stream()
 											   .map(g -> (Iterable<Object>) g)
@@ -92,14 +86,53 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 		return () -> Combinatorics.concat(iterables);
 	}
 
+	private synchronized OdometerCombinations<Object> combinations() {
+		if (combinations == null) {
+			combinations = new OdometerCombinations<>(iterables);
+		}
+		return combinations;
+	}
+
+	private Iterator<List<Object>> combinationsIterator() {
+		if (combinationsIterator == null) {
+			long to = toIndex < 0 ? combinations().size() : toIndex;
+			// Values are copied into shrinkables right away, so the list buffer can be reused
+			combinationsIterator = combinations().iterator(fromIndex, to, true);
+		}
+		return combinationsIterator;
+	}
+
 	@Override
 	public boolean hasNext() {
-		return combinatorialIterator.hasNext();
+		return combinationsIterator().hasNext();
 	}
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		return combinatorialIterator.next();
+		List<Object> next = combinationsIterator().next();
+		List<Shrinkable<Object>> values = new ArrayList<>(next.size());
+		for (Object o : next) {
+			values.add(Shrinkable.unshrinkable(o));
+		}
+		return values;
+	}
+
+	/**
+	 * The number of parameter combinations. Any index range of them can be generated through {@linkplain #slice(long, long)}
+	 */
+	public long indexedCount() {
+		if (toIndex >= 0) {
+			return toIndex - fromIndex;
+		}
+		return combinations().size();
+	}
+
+	/**
+	 * Generate only the parameter combinations from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+	 */
+	public ExhaustiveShrinkablesGenerator slice(long fromIndex, long toIndex) {
+		long offset = Math.max(this.fromIndex, 0);
+		return new ExhaustiveShrinkablesGenerator(combinations(), offset + fromIndex, offset + toIndex);
 	}
 
 	public long maxCount() {
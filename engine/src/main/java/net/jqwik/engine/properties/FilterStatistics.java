@@ -0,0 +1,153 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Counts attempts and accepted values of filtering generators for the duration of a property.
+ * Generators whose acceptance ratio is below {@linkplain #MIN_ACCEPTANCE_RATIO} slow down generation
+ * considerably and are reported after the property has been checked.
+ *
+ * <p>
+ * Counters are merged by a key that stays the same for all generators of a filter,
+ * e.g. the class of its predicate. Generators created anew for every value - as in {@code flatMap()} -
+ * thereby share a single counter.
+ * </p>
+ */
+public class FilterStatistics {
+
+	public static final double MIN_ACCEPTANCE_RATIO = 0.1;
+
+	// Ratios of only a few attempts are not meaningful
+	private static final long MIN_ATTEMPTS = 100;
+
+	private static final int MAX_COUNTERS = 100;
+
+	private FilterStatistics() {
+	}
+
+	/**
+	 * Get or create the counter for {@code key}. Outside a jqwik property the counter is not collected.
+	 *
+	 * @param key         Must be the same for all generators of a filter
+	 * @param description Used only if the counter has to be created
+	 */
+	public static Counter counterFor(Object key, String description) {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return new Counter(description);
+		}
+		Map<Object, Counter> counters = countersStore().get();
+		synchronized (counters) {
+			Counter counter = counters.get(key);
+			if (counter != null) {
+				return counter;
+			}
+			counter = new Counter(description);
+			if (counters.size() < MAX_COUNTERS) {
+				counters.put(key, counter);
+			}
+			return counter;
+		}
+	}
+
+	/**
+	 * All counters of the current property
+	 */
+	public static List<Counter> counters() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Map<Object, Counter> counters = countersStore().get();
+		synchronized (counters) {
+			return new ArrayList<>(counters.values());
+		}
+	}
+
+	/**
+	 * All counters of the current property whose acceptance ratio is below {@linkplain #MIN_ACCEPTANCE_RATIO}
+	 */
+	public static List<Counter> lowAcceptanceCounters() {
+		return counters().stream()
+						 .filter(Counter::hasLowAcceptance)
+						 .collect(Collectors.toList());
+	}
+
+	/**
+	 * Publish a report entry with all counters of the current property that have a low acceptance ratio
+	 */
+	public static void reportLowAcceptance(Reporter reporter) {
+		List<Counter> counters = lowAcceptanceCounters();
+		if (counters.isEmpty()) {
+			return;
+		}
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Less than %s%% of generated values were accepted by:", Math.round(MIN_ACCEPTANCE_RATIO * 100)));
+		for (Counter counter : counters) {
+			report.append(String.format("%n  %s", counter));
+		}
+		reporter.publishValue("filters", report.toString());
+	}
+
+	private static Store<Map<Object, Counter>> countersStore() {
+		return Store.getOrCreate(
+			Tuple.of(FilterStatistics.class, "counters"),
+			Lifespan.PROPERTY,
+			LinkedHashMap::new
+		);
+	}
+
+	public static class Counter {
+		private final String description;
+		private final AtomicLong attempts = new AtomicLong();
+		private final AtomicLong accepts = new AtomicLong();
+
+		private Counter(String description) {
+			this.description = description;
+		}
+
+		public void count(boolean accepted) {
+			attempts.incrementAndGet();
+			if (accepted) {
+				accepts.incrementAndGet();
+			}
+		}
+
+		public String description() {
+			return description;
+		}
+
+		public long attempts() {
+			return attempts.get();
+		}
+
+		public long accepts() {
+			return accepts.get();
+		}
+
+		public long rejects() {
+			return attempts() - accepts();
+		}
+
+		public double acceptanceRatio() {
+			long attempts = attempts();
+			return attempts == 0 ? 1.0 : (double) accepts() / attempts;
+		}
+
+		private boolean hasLowAcceptance() {
+			return attempts() >= MIN_ATTEMPTS && acceptanceRatio() < MIN_ACCEPTANCE_RATIO;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+				"%s: %s attempts, %s accepted, %s rejected (%.1f%% accepted)",
+				description, attempts(), accepts(), rejects(), acceptanceRatio() * 100
+			);
+		}
+	}
+}
@@ -2,9 +2,13 @@ package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.junit.platform.engine.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
@@ -16,6 +20,9 @@ import net.jqwik.engine.support.*;
 
 public class GenericProperty {
 
+	// More chunks than threads so that threads finishing early can take over work
+	private static final int CHUNKS_PER_THREAD = 8;
+
 	private final String name;
 	private final PropertyConfiguration configuration;
 	private final ParametersGenerator parametersGenerator;
@@ -37,6 +44,24 @@ public class GenericProperty {
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
+		try {
+			if (canCheckInParallel()) {
+				return checkInParallel(reporter, reporting);
+			}
+			return checkSequentially(reporter, reporting);
+		} finally {
+			FilterStatistics.reportLowAcceptance(reporter);
+		}
+	}
+
+	private boolean canCheckInParallel() {
+		return configuration.exhaustiveParallelism() > 1
+				   && configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE
+				   && parametersGenerator instanceof SliceableParametersGenerator
+				   && parametersGenerator.indexedCount().orElse(0) > 1;
+	}
+
+	private PropertyCheckResult checkSequentially(Reporter reporter, Reporting[] reporting) {
 		int maxTries = configuration.getTries();
 		int countChecks = 0;
 		int countTries = 0;
@@ -136,6 +161,181 @@ public class GenericProperty {
 		);
 	}
 
+	/**
+	 * Check disjoint index ranges of all parameter combinations in several threads.
+	 * The result is the same as if combinations were checked sequentially:
+	 * Chunks of indices are handed out in ascending order and only the lowest index
+	 * that is falsified or that finishes the property early is considered.
+	 *
+	 * <p>
+	 * Stores - and thereby statistics - are not thread-safe. If the first try accesses a store
+	 * all other tries are checked in the current thread, too. Any store access from a parallel thread
+	 * fails the property. Properties and their lifecycle hooks must be thread-safe otherwise.
+	 * </p>
+	 */
+	private PropertyCheckResult checkInParallel(Reporter reporter, Reporting[] reporting) {
+		SliceableParametersGenerator sliceableGenerator = (SliceableParametersGenerator) parametersGenerator;
+		long count = Math.min(configuration.getTries(), sliceableGenerator.indexedCount().getAsLong());
+		int parallelism = (int) Math.min(configuration.exhaustiveParallelism(), count);
+		long chunkSize = Math.max(1, count / ((long) parallelism * CHUNKS_PER_THREAD));
+		ParallelCheck parallelCheck = new ParallelCheck(sliceableGenerator, count, chunkSize);
+
+		long storeAccessesBefore = StoreAccess.countAccesses();
+		checkChunk(parallelCheck, parallelCheck.nextChunk(1), reporter, reporting);
+		if (StoreAccess.countAccesses() != storeAccessesBefore) {
+			checkChunks(parallelCheck, reporter, reporting);
+		} else {
+			checkChunksInParallel(parallelCheck, parallelism, reporter, reporting);
+		}
+		return parallelCheckResult(reporter, reporting, parallelCheck);
+	}
+
+	private void checkChunksInParallel(ParallelCheck parallelCheck, int parallelism, Reporter reporter, Reporting[] reporting) {
+		TestDescriptor currentDescriptor = CurrentTestDescriptor.get();
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < parallelism; i++) {
+				Runnable checkChunks = () -> StoreAccess.runDenied(() -> checkChunks(parallelCheck, reporter, reporting));
+				futures.add(executor.submit(() -> CurrentTestDescriptor.runWithDescriptor(currentDescriptor, checkChunks)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (ExecutionException executionException) {
+			JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		} finally {
+			executor.shutdownNow();
+		}
+		if (parallelCheck.storeAccessDenied) {
+			String message = String.format(
+				"Property [%s] accessed a store while checking tries in parallel.%n" +
+					"Stores and statistics are not thread-safe. Set exhaustiveParallelism to 1 for this property.",
+				name
+			);
+			throw new JqwikException(message);
+		}
+	}
+
+	private void checkChunks(ParallelCheck parallelCheck, Reporter reporter, Reporting[] reporting) {
+		Chunk chunk;
+		while ((chunk = parallelCheck.nextChunk()) != null) {
+			if (!checkChunk(parallelCheck, chunk, reporter, reporting)) {
+				return;
+			}
+		}
+	}
+
+	// Returns false if checking can stop since no chunk still to come can change the result
+	private boolean checkChunk(ParallelCheck parallelCheck, Chunk chunk, Reporter reporter, Reporting[] reporting) {
+		ParametersGenerator chunkGenerator = parallelCheck.generator.slice(chunk.fromIndex, chunk.toIndex);
+		for (long index = chunk.fromIndex; index < chunk.toIndex; index++) {
+			if (index > parallelCheck.stopIndex()) {
+				// All chunks still to come have even higher indices
+				return false;
+			}
+			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+			List<Shrinkable<Object>> shrinkableParams = chunkGenerator.next(tryLifecycleContext);
+			List<Object> sample = extractParams(shrinkableParams);
+			try {
+				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				if (StoreAccess.deniedAccessTried()) {
+					parallelCheck.storeAccessDenied = true;
+					return false;
+				}
+				switch (tryExecutionResult.status()) {
+					case SATISFIED:
+						if (tryExecutionResult.shouldPropertyFinishEarly()) {
+							parallelCheck.stopAt(index, new ParallelStop(null, null, null));
+							return false;
+						}
+						break;
+					case FALSIFIED:
+						FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+							sample,
+							shrinkableParams,
+							tryExecutionResult.throwable()
+						);
+						parallelCheck.stopAt(index, new ParallelStop(falsifiedSample, tryLifecycleContext.targetMethod(), null));
+						return false;
+					case INVALID:
+						chunk.countInvalid++;
+						break;
+					default:
+						String message = String.format("Unknown TryExecutionResult.status [%s]", tryExecutionResult.status().name());
+						throw new RuntimeException(message);
+				}
+			} catch (Throwable throwable) {
+				// Only not AssertionErrors and non Exceptions get here
+				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				if (StoreAccess.deniedAccessTried()) {
+					parallelCheck.storeAccessDenied = true;
+					return false;
+				}
+				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+					sample,
+					shrinkableParams,
+					Optional.of(throwable)
+				);
+				parallelCheck.stopAt(index, new ParallelStop(falsifiedSample, null, throwable));
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private PropertyCheckResult parallelCheckResult(Reporter reporter, Reporting[] reporting, ParallelCheck parallelCheck) {
+		long lastIndex = Math.min(parallelCheck.stopIndex(), parallelCheck.count - 1);
+		int countTries = Math.toIntExact(lastIndex + 1);
+		int countChecks = countTries - parallelCheck.countInvalidUpTo(lastIndex);
+		ParallelStop stop = parallelCheck.stop;
+
+		if (stop != null && stop.error != null) {
+			return PropertyCheckResult.failed(
+				configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
+				configuration.getGenerationMode(),
+				configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+				stop.falsifiedSample, null, stop.error
+			);
+		}
+		if (stop != null && stop.falsifiedSample != null) {
+			return shrinkAndCreateCheckResult(
+				reporter,
+				reporting,
+				countChecks,
+				countTries,
+				stop.falsifiedSample,
+				stop.targetMethod
+			);
+		}
+		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
+			return PropertyCheckResult.exhausted(
+				configuration.getStereotype(),
+				name,
+				configuration.getTries(),
+				countChecks,
+				configuration.getSeed(),
+				configuration.getGenerationMode(),
+				configuration.getEdgeCasesMode(),
+				parametersGenerator.edgeCasesTotal(),
+				parametersGenerator.edgeCasesTried()
+			);
+		}
+		return PropertyCheckResult.successful(
+			configuration.getStereotype(),
+			name,
+			countTries,
+			countChecks,
+			configuration.getSeed(),
+			configuration.getGenerationMode(),
+			configuration.getEdgeCasesMode(),
+			parametersGenerator.edgeCasesTotal(),
+			parametersGenerator.edgeCasesTried()
+		);
+	}
+
 	private TryExecutionResult testPredicate(
 		TryLifecycleContext tryLifecycleContext,
 		List<Object> sample,
@@ -208,4 +408,80 @@ public class GenericProperty {
 		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
 	}
 
+	private static class ParallelCheck {
+		private final SliceableParametersGenerator generator;
+		private final long count;
+		private final long chunkSize;
+		private final AtomicLong nextChunkStart = new AtomicLong(0);
+		private final List<Chunk> chunks = Collections.synchronizedList(new ArrayList<>());
+
+		private volatile long stopIndex = Long.MAX_VALUE;
+		private volatile ParallelStop stop = null;
+		private volatile boolean storeAccessDenied = false;
+
+		private ParallelCheck(SliceableParametersGenerator generator, long count, long chunkSize) {
+			this.generator = generator;
+			this.count = count;
+			this.chunkSize = chunkSize;
+		}
+
+		private Chunk nextChunk() {
+			return nextChunk(chunkSize);
+		}
+
+		private Chunk nextChunk(long size) {
+			long fromIndex = nextChunkStart.getAndAdd(size);
+			if (fromIndex >= count || fromIndex > stopIndex || storeAccessDenied) {
+				return null;
+			}
+			Chunk chunk = new Chunk(fromIndex, Math.min(fromIndex + size, count));
+			chunks.add(chunk);
+			return chunk;
+		}
+
+		private long stopIndex() {
+			return stopIndex;
+		}
+
+		private synchronized void stopAt(long index, ParallelStop stop) {
+			if (index < stopIndex) {
+				this.stop = stop;
+				this.stopIndex = index;
+			}
+		}
+
+		// Chunks up to the last index have been checked completely or up to the stop index
+		private int countInvalidUpTo(long lastIndex) {
+			synchronized (chunks) {
+				return chunks.stream()
+							 .filter(chunk -> chunk.fromIndex <= lastIndex)
+							 .mapToInt(chunk -> chunk.countInvalid)
+							 .sum();
+			}
+		}
+	}
+
+	private static class Chunk {
+		private final long fromIndex;
+		private final long toIndex;
+		private int countInvalid = 0;
+
+		private Chunk(long fromIndex, long toIndex) {
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
+	}
+
+	private static class ParallelStop {
+		private final FalsifiedSample falsifiedSample;
+		private final Method targetMethod;
+		private final Throwable error;
+
+		private ParallelStop(FalsifiedSample falsifiedSample, Method targetMethod, Throwable error) {
+			this.falsifiedSample = falsifiedSample;
+			this.targetMethod = targetMethod;
+			this.error = error;
+		}
+	}
+
 }
@@ -9,16 +9,18 @@ import net.jqwik.api.providers.*;
 class PurelyRandomShrinkablesGenerator {
 
 	private final List<RandomizedParameterGenerator> parameterGenerators;
+	private final boolean recordChoices;
 
-	PurelyRandomShrinkablesGenerator(List<RandomizedParameterGenerator> parameterGenerators) {
+	PurelyRandomShrinkablesGenerator(List<RandomizedParameterGenerator> parameterGenerators, boolean recordChoices) {
 		this.parameterGenerators = parameterGenerators;
+		this.recordChoices = recordChoices;
 	}
 
 	List<Shrinkable<Object>> generateNext(Random random) {
 		Map<TypeUsage, Arbitrary<Object>> generatorsCache = new HashMap<>();
 		return parameterGenerators
 				   .stream()
-				   .map(generator -> generator.next(random, generatorsCache))
+				   .map(generator -> generator.next(random, generatorsCache, recordChoices))
 				   .collect(Collectors.toList());
 	}
 
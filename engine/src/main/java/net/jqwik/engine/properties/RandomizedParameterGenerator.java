@@ -5,6 +5,8 @@ import java.util.*;
 import net.jqwik.api.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.engine.facades.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
 class RandomizedParameterGenerator {
@@ -12,24 +14,45 @@ class RandomizedParameterGenerator {
 	private final List<Arbitrary<Object>> arbitraries;
 	private final int genSize;
 
+	// Generators are kept across tries unless they hold state between values, e.g. unique()
+	private final Map<Arbitrary<Object>, RandomGenerator<Object>> generators = new IdentityHashMap<>();
+
 	RandomizedParameterGenerator(MethodParameter parameter, Set<Arbitrary<Object>> arbitraries, int genSize) {
 		this.typeUsage = TypeUsageImpl.forParameter(parameter);
 		this.arbitraries = new ArrayList<>(arbitraries);
 		this.genSize = genSize;
 	}
 
-	Shrinkable<Object> next(Random random, Map<TypeUsage, Arbitrary<Object>> arbitrariesCache) {
+	Shrinkable<Object> next(Random random, Map<TypeUsage, Arbitrary<Object>> arbitrariesCache, boolean recordChoices) {
 		RandomGenerator<Object> selectedGenerator = selectGenerator(random, arbitrariesCache);
+		if (recordChoices) {
+			ChoiceSequenceRandom recordingRandom = ChoiceSequenceRandom.recording(random);
+			Shrinkable<Object> generated = selectedGenerator.next(recordingRandom);
+			return new ChoiceSequenceShrinkable<>(selectedGenerator, recordingRandom.choices(), generated);
+		}
 		return selectedGenerator.next(random);
 	}
 
 	private RandomGenerator<Object> selectGenerator(Random random, Map<TypeUsage, Arbitrary<Object>> arbitrariesCache) {
 		if (arbitrariesCache.containsKey(typeUsage)) {
-			return arbitrariesCache.get(typeUsage).generator(genSize);
+			return generatorFor(arbitrariesCache.get(typeUsage));
 		}
 		int index = arbitraries.size() == 1 ? 0 : random.nextInt(arbitraries.size());
 		Arbitrary<Object> selectedArbitrary = arbitraries.get(index);
 		arbitrariesCache.put(typeUsage, selectedArbitrary);
-		return selectedArbitrary.generator(genSize);
+		return generatorFor(selectedArbitrary);
+	}
+
+	private RandomGenerator<Object> generatorFor(Arbitrary<Object> arbitrary) {
+		RandomGenerator<Object> generator = generators.get(arbitrary);
+		if (generator != null) {
+			return generator;
+		}
+		int statefulBefore = Memoize.countStatefulGeneratorsCreated();
+		generator = arbitrary.generator(genSize);
+		if (Memoize.countStatefulGeneratorsCreated() == statefulBefore) {
+			generators.put(arbitrary, generator);
+		}
+		return generator;
 	}
 }
@@ -17,14 +17,15 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		ArbitraryResolver arbitraryResolver,
 		Random random,
 		int genSize,
-		EdgeCasesMode edgeCasesMode
+		EdgeCasesMode edgeCasesMode,
+		boolean recordChoices
 	) {
 
 		List<EdgeCases<Object>> listOfEdgeCases = listOfEdgeCases(parameters, arbitraryResolver, edgeCasesMode);
 		int edgeCasesTotal = calculateEdgeCasesTotal(listOfEdgeCases);
 
 		return new RandomizedShrinkablesGenerator(
-			randomShrinkablesGenerator(parameters, arbitraryResolver, genSize),
+			randomShrinkablesGenerator(parameters, arbitraryResolver, genSize, recordChoices),
 			new EdgeCasesGenerator(listOfEdgeCases),
 			edgeCasesMode,
 			edgeCasesTotal,
@@ -40,10 +41,11 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	private static PurelyRandomShrinkablesGenerator randomShrinkablesGenerator(
 		List<MethodParameter> parameters,
 		ArbitraryResolver arbitraryResolver,
-		int genSize
+		int genSize,
+		boolean recordChoices
 	) {
 		List<RandomizedParameterGenerator> parameterGenerators = parameterGenerators(parameters, arbitraryResolver, genSize);
-		return new PurelyRandomShrinkablesGenerator(parameterGenerators);
+		return new PurelyRandomShrinkablesGenerator(parameterGenerators, recordChoices);
 	}
 
 	private static List<RandomizedParameterGenerator> parameterGenerators(
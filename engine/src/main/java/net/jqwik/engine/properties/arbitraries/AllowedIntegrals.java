@@ -0,0 +1,110 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.math.*;
+import java.util.*;
+
+import static java.math.BigInteger.*;
+
+/**
+ * The values of an integral range that are multiples of {@code step} and not excluded,
+ * numbered consecutively by an index.
+ *
+ * <p>
+ * Generation and shrinking are done on indices which makes every generated value valid
+ * by construction: index {@code i} is mapped to the {@code i}th multiple of {@code step}
+ * after skipping all excluded multiples up to it.
+ * </p>
+ */
+class AllowedIntegrals {
+
+	private final BigInteger min;
+	private final BigInteger max;
+	private final BigInteger step;
+	private final BigInteger firstMultiple;
+	private final BigInteger[] excludedMultiples;
+	private final BigInteger maxIndex;
+
+	AllowedIntegrals(BigInteger min, BigInteger max, BigInteger step, Set<BigInteger> excluded) {
+		this.min = min;
+		this.max = max;
+		this.step = step;
+		this.firstMultiple = ceilDiv(min, step);
+		BigInteger lastMultiple = floorDiv(max, step);
+		this.excludedMultiples = excluded.stream()
+										 .filter(value -> value.mod(step).signum() == 0)
+										 .map(value -> value.divide(step))
+										 .filter(multiple -> multiple.compareTo(firstMultiple) >= 0 && multiple.compareTo(lastMultiple) <= 0)
+										 .sorted()
+										 .toArray(BigInteger[]::new);
+		this.maxIndex = lastMultiple.subtract(firstMultiple).subtract(valueOf(excludedMultiples.length));
+		if (maxIndex.signum() < 0) {
+			String message = String.format(
+				"There is no value between %s and %s that is a multiple of %s and not one of %s",
+				min, max, step, excluded
+			);
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	private static BigInteger floorDiv(BigInteger value, BigInteger divisor) {
+		BigInteger[] quotientAndRemainder = value.divideAndRemainder(divisor);
+		if (quotientAndRemainder[1].signum() < 0) {
+			return quotientAndRemainder[0].subtract(ONE);
+		}
+		return quotientAndRemainder[0];
+	}
+
+	private static BigInteger ceilDiv(BigInteger value, BigInteger divisor) {
+		BigInteger[] quotientAndRemainder = value.divideAndRemainder(divisor);
+		if (quotientAndRemainder[1].signum() > 0) {
+			return quotientAndRemainder[0].add(ONE);
+		}
+		return quotientAndRemainder[0];
+	}
+
+	BigInteger maxIndex() {
+		return maxIndex;
+	}
+
+	BigInteger count() {
+		return maxIndex.add(ONE);
+	}
+
+	BigInteger valueAt(BigInteger index) {
+		BigInteger multiple = firstMultiple.add(index);
+		for (BigInteger excludedMultiple : excludedMultiples) {
+			if (excludedMultiple.compareTo(multiple) > 0) {
+				break;
+			}
+			multiple = multiple.add(ONE);
+		}
+		return multiple.multiply(step);
+	}
+
+	boolean isAllowed(BigInteger value) {
+		if (value.compareTo(min) < 0 || value.compareTo(max) > 0 || value.mod(step).signum() != 0) {
+			return false;
+		}
+		return Arrays.binarySearch(excludedMultiples, value.divide(step)) < 0;
+	}
+
+	/**
+	 * The index of {@code value} if it is allowed, otherwise the index of the next larger allowed value
+	 * or the largest index if there is none.
+	 */
+	BigInteger indexOf(BigInteger value) {
+		BigInteger multiple = ceilDiv(value, step).max(firstMultiple);
+		int position = Arrays.binarySearch(excludedMultiples, multiple);
+		int excludedBelow = position >= 0 ? position : -position - 1;
+		BigInteger index = multiple.subtract(firstMultiple).subtract(valueOf(excludedBelow));
+		return index.min(maxIndex);
+	}
+
+	BigInteger firstValue() {
+		return valueAt(ZERO);
+	}
+
+	BigInteger lastValue() {
+		return valueAt(maxIndex);
+	}
+}
@@ -34,6 +34,11 @@ class DecimalGeneratingArbitrary implements Arbitrary<BigDecimal> {
 			.withEdgeCases(genSize, edgeCases());
 	}
 
+	RandomGenerator<Double> doubleGenerator(int genSize) {
+		checkRange();
+		return RandomDecimalGenerators.doubles(genSize, range, scale, distribution, shrinkingTarget());
+	}
+
 	private void checkRange() {
 		checkScale(range.min);
 		checkScale(range.max);
@@ -78,6 +83,22 @@ class DecimalGeneratingArbitrary implements Arbitrary<BigDecimal> {
 				   .collect(Collectors.toList());
 	}
 
+	EdgeCases<Double> doubleEdgeCases() {
+		Range<BigInteger> bigIntegerRange = unscaledBigIntegerRange(range, scale);
+		if (!isRepresentableByShrinkableDouble(bigIntegerRange, scale)) {
+			return EdgeCasesSupport.map(edgeCases(), BigDecimal::doubleValue);
+		}
+		Range<Long> longRange = bigIntegerRange.map(BigInteger::longValueExact);
+		long unscaledTarget = unscaledBigInteger(shrinkingTarget(), scale).longValueExact();
+		List<Shrinkable<Double>> shrinkables =
+			streamRawEdgeCases()
+				.filter(aDecimal -> range.includes(aDecimal))
+				.map(value -> unscaledBigInteger(value, scale).longValueExact())
+				.map(unscaledValue -> new ShrinkableDouble(unscaledValue, longRange, unscaledTarget, scale))
+				.collect(Collectors.toList());
+		return EdgeCasesSupport.fromShrinkables(shrinkables);
+	}
+
 	private Stream<BigDecimal> streamRawEdgeCases() {
 		BigDecimal smallest = BigDecimal.ONE.movePointLeft(scale);
 		BigDecimal minBorder = range.minIncluded ? range.min : range.min.add(smallest);
@@ -59,4 +59,18 @@ public class DefaultBigIntegerArbitrary extends AbstractArbitraryBase implements
 		clone.generatingArbitrary.shrinkingTarget = target;
 		return clone;
 	}
+
+	@Override
+	public BigIntegerArbitrary multipleOf(BigInteger divisor) {
+		DefaultBigIntegerArbitrary clone = typedClone();
+		clone.generatingArbitrary.multipleOf(divisor);
+		return clone;
+	}
+
+	@Override
+	public BigIntegerArbitrary excluding(BigInteger... values) {
+		DefaultBigIntegerArbitrary clone = typedClone();
+		clone.generatingArbitrary.exclude(Arrays.asList(values));
+		return clone;
+	}
 }
@@ -60,4 +60,21 @@ public class DefaultByteArbitrary extends AbstractArbitraryBase implements ByteA
 		return clone;
 	}
 
+	@Override
+	public ByteArbitrary multipleOf(byte divisor) {
+		DefaultByteArbitrary clone = typedClone();
+		clone.generatingArbitrary.multipleOf(BigInteger.valueOf(divisor));
+		return clone;
+	}
+
+	@Override
+	public ByteArbitrary excluding(byte... values) {
+		DefaultByteArbitrary clone = typedClone();
+		List<BigInteger> excluded = new ArrayList<>();
+		for (byte value : values) {
+			excluded.add(BigInteger.valueOf(value));
+		}
+		clone.generatingArbitrary.exclude(excluded);
+		return clone;
+	}
 }
@@ -4,7 +4,12 @@ import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements CharacterArbitrary {
 
@@ -38,51 +43,112 @@ public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements
 		return codepoint >= 0xe000 && codepoint <= 0xf8ff;
 	}
 
-	private List<Tuple.Tuple2<Integer, Arbitrary<Character>>> partsWithSize = new ArrayList<>();
+	// All characters without noncharacters and private use characters
+	private static final CharacterRanges DEFAULT_RANGES =
+		CharacterRanges.of(Character.MIN_VALUE, Character.MAX_VALUE)
+					   .minus('\ud800', '\udfff')
+					   .minus('\ue000', '\uf8ff')
+					   .minus('\ufdd0', '\ufdef')
+					   .minus('\ufffe', '\uffff');
+
+	private static final CharacterRanges WHITESPACE_RANGES = CharacterRanges.of(WHITESPACE_CHARS);
+
+	// null means that no characters have been chosen explicitly, i.e. all default characters are allowed.
+	// CharacterRanges.EMPTY means that explicitly no characters are allowed.
+	private CharacterRanges ranges = null;
+
+	// Each part with its boundaries, i.e. the min and max of a range or the first and last of a set of chars.
+	// Boundaries are used as edge cases.
+	private List<Tuple2<CharacterRanges, List<Character>>> parts = new ArrayList<>();
 
 	public DefaultCharacterArbitrary() {
 	}
 
 	@Override
 	public RandomGenerator<Character> generator(int genSize) {
-		return arbitrary().generator(genSize);
-	}
-
-	private Arbitrary<Character> arbitrary() {
-		if (partsWithSize.isEmpty()) {
-			return defaultArbitrary();
+		List<Tuple2<CharacterRanges, List<Character>>> nonEmptyParts =
+			parts.stream().filter(part -> !part.get1().isEmpty()).collect(Collectors.toList());
+		if (nonEmptyParts.size() <= 1) {
+			return RandomGenerators.chars(effectiveRanges()).withEdgeCases(genSize, edgeCases());
 		}
-		if (partsWithSize.size() == 1) {
-			return partsWithSize.get(0).get2();
+		return partsGenerator(nonEmptyParts, genSize);
+	}
+
+	// Edge cases are injected for each part separately so that injection does not shift
+	// the share of characters that a part gets according to its size
+	private RandomGenerator<Character> partsGenerator(List<Tuple2<CharacterRanges, List<Character>>> nonEmptyParts, int genSize) {
+		CharacterRanges effectiveRanges = effectiveRanges();
+		List<RandomGenerator<Character>> partGenerators = new ArrayList<>();
+		int[] upperBorders = new int[nonEmptyParts.size()];
+		int sumOfSizes = 0;
+		for (int i = 0; i < nonEmptyParts.size(); i++) {
+			CharacterRanges part = nonEmptyParts.get(i).get1();
+			RandomGenerator<Character> partGenerator =
+				random -> {
+					char c = part.charAt(random.nextInt(part.size()));
+					return new ShrinkableCharacter(effectiveRanges.indexOf(c), effectiveRanges);
+				};
+			EdgeCases<Character> partEdgeCases = edgeCases(nonEmptyParts.get(i).get2(), effectiveRanges);
+			partGenerators.add(partGenerator.withEdgeCases(genSize, partEdgeCases));
+			sumOfSizes += part.size();
+			upperBorders[i] = sumOfSizes;
 		}
+		int sizeOfAllParts = sumOfSizes;
+		return random -> {
+			int index = random.nextInt(sizeOfAllParts);
+			int partIndex = 0;
+			while (upperBorders[partIndex] <= index) {
+				partIndex++;
+			}
+			return partGenerators.get(partIndex).next(random);
+		};
+	}
 
-		return Arbitraries.frequencyOf(partsWithSize);
+	private CharacterRanges effectiveRanges() {
+		return ranges == null ? DEFAULT_RANGES : ranges;
 	}
 
-	private Arbitrary<Character> defaultArbitrary() {
-		return rangeArbitrary(Character.MIN_VALUE, Character.MAX_VALUE)
-				   .filter(c -> !DefaultCharacterArbitrary.isNoncharacter(c)
-									&& !DefaultCharacterArbitrary.isPrivateUseCharacter(c));
+	private List<Character> effectiveBoundaries() {
+		if (ranges == null) {
+			return Arrays.asList(Character.MIN_VALUE, Character.MAX_VALUE);
+		}
+		return parts.stream().flatMap(part -> part.get2().stream()).collect(Collectors.toList());
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
-		return arbitrary().exhaustive(maxNumberOfSamples);
+		CharacterRanges effectiveRanges = effectiveRanges();
+		return ExhaustiveGenerators
+				   .fromIterable(() -> effectiveRanges.stream().iterator(), effectiveRanges.size(), maxNumberOfSamples)
+				   .map(optionalGenerator -> optionalGenerator.map(anInt -> (char) (int) anInt));
 	}
 
 	@Override
 	public EdgeCases<Character> edgeCases() {
-		return arbitrary().edgeCases();
+		return edgeCases(effectiveBoundaries(), effectiveRanges());
+	}
+
+	private static EdgeCases<Character> edgeCases(List<Character> boundaries, CharacterRanges effectiveRanges) {
+		List<Shrinkable<Character>> shrinkables =
+			boundaries.stream()
+					  .distinct()
+					  .filter(effectiveRanges::contains)
+					  .map(c -> new ShrinkableCharacter(effectiveRanges.indexOf(c), effectiveRanges))
+					  .collect(Collectors.toList());
+		return EdgeCasesSupport.fromShrinkables(shrinkables);
 	}
 
 	@Override
 	public CharacterArbitrary range(char min, char max) {
-		return cloneWith(rangeArbitrary(min, max), max - min + 1);
+		return cloneWith(CharacterRanges.of(min, max), min, max);
 	}
 
 	@Override
 	public CharacterArbitrary with(char... allowedChars) {
-		return cloneWith(charsArbitrary(allowedChars), allowedChars.length);
+		if (allowedChars.length == 0) {
+			return cloneWith(CharacterRanges.EMPTY);
+		}
+		return cloneWith(CharacterRanges.of(allowedChars), allowedChars[0], allowedChars[allowedChars.length - 1]);
 	}
 
 	@Override
@@ -91,10 +157,6 @@ public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements
 		return with(chars);
 	}
 
-	private Arbitrary<Character> charsArbitrary(char[] allowedChars) {
-		return Arbitraries.of(allowedChars);
-	}
-
 	@Override
 	public CharacterArbitrary all() {
 		return new DefaultCharacterArbitrary();
@@ -112,18 +174,19 @@ public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements
 
 	@Override
 	public CharacterArbitrary whitespace() {
-		return with(DefaultCharacterArbitrary.WHITESPACE_CHARS);
+		return cloneWith(WHITESPACE_RANGES, WHITESPACE_CHARS[0], WHITESPACE_CHARS[WHITESPACE_CHARS.length - 1]);
 	}
 
-	private CharacterArbitrary cloneWith(Arbitrary<Character> part, int size) {
+	private CharacterArbitrary cloneWith(CharacterRanges part, char... partBoundaries) {
 		DefaultCharacterArbitrary clone = super.typedClone();
-		clone.partsWithSize = new ArrayList<>(partsWithSize);
-		clone.partsWithSize.add(Tuple.of(size, part));
+		clone.ranges = ranges == null ? part : ranges.union(part);
+		List<Character> boundaries = new ArrayList<>();
+		for (char boundary : partBoundaries) {
+			boundaries.add(boundary);
+		}
+		clone.parts = new ArrayList<>(parts);
+		clone.parts.add(Tuple.of(part, boundaries));
 		return clone;
 	}
 
-	private Arbitrary<Character> rangeArbitrary(char min, char max) {
-		return new CharacterRangeArbitrary(min, max);
-	}
-
 }
@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.arbitraries;
 
 import java.math.*;
 import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -13,6 +14,7 @@ public class DefaultDoubleArbitrary extends AbstractArbitraryBase implements Dou
 	private static final double DEFAULT_MAX = Double.MAX_VALUE;
 
 	private final DecimalGeneratingArbitrary generatingArbitrary;
+	private Set<Double> specialValues = new LinkedHashSet<>();
 
 	public DefaultDoubleArbitrary() {
 		this.generatingArbitrary = new DecimalGeneratingArbitrary(Range.of(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX)));
@@ -20,17 +22,27 @@ public class DefaultDoubleArbitrary extends AbstractArbitraryBase implements Dou
 
 	@Override
 	public RandomGenerator<Double> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigDecimal::doubleValue);
+		return generatingArbitrary.doubleGenerator(genSize).withEdgeCases(genSize, edgeCases());
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Double>> exhaustive(long maxNumberOfSamples) {
+		if (!specialValues.isEmpty()) {
+			return Optional.empty();
+		}
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigDecimal::doubleValue));
 	}
 
 	@Override
 	public EdgeCases<Double> edgeCases() {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(), BigDecimal::doubleValue);
+		return EdgeCasesSupport.concat(
+			generatingArbitrary.doubleEdgeCases(),
+			EdgeCasesSupport.fromShrinkables(specialValueShrinkables())
+		);
+	}
+
+	private List<Shrinkable<Double>> specialValueShrinkables() {
+		return specialValues.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
 	}
 
 	@Override
@@ -81,6 +93,22 @@ public class DefaultDoubleArbitrary extends AbstractArbitraryBase implements Dou
 		return clone;
 	}
 
+	@Override
+	public DoubleArbitrary withSpecialValue(double special) {
+		DefaultDoubleArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.add(special);
+		return clone;
+	}
+
+	@Override
+	public DoubleArbitrary withStandardSpecialValues() {
+		DefaultDoubleArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.addAll(Arrays.asList(Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -0.0, Double.MIN_VALUE, Math.nextDown(Double.MIN_NORMAL)));
+		return clone;
+	}
+
 	private BigDecimal toBigDecimal(double value) {
 		return new BigDecimal(Double.toString(value));
 	}
@@ -37,27 +37,54 @@ public class DefaultEmailArbitrary extends ArbitraryDecorator<String> implements
 	}
 
 	private Arbitrary<String> localPartUnquoted() {
-		Arbitrary<String> unquoted =
+		Arbitrary<String> withoutDots =
 				Arbitraries.strings()
-						   .alpha().numeric().withChars("!#$%&'*+-/=?^_`{|}~.")
+						   .alpha().numeric().withChars("!#$%&'*+-/=?^_`{|}~")
 						   .ofMinLength(1).ofMaxLength(64);
-		unquoted = unquoted.filter(v -> !v.contains(".."));
-		unquoted = unquoted.filter(v -> v.charAt(0) != '.');
-		unquoted = unquoted.filter(v -> v.charAt(v.length() - 1) != '.');
+		Arbitrary<Set<Integer>> dotPositions =
+				Arbitraries.integers().between(1, 62).set().ofMaxSize(8)
+						   .edgeCases(setConfig -> setConfig.filter(Set::isEmpty));
+		Arbitrary<String> unquoted = Combinators.combine(withoutDots, dotPositions).as(this::insertDots);
 		return unquoted.edgeCases(stringConfig -> stringConfig.includeOnly("A", "a", "0", "!"));
 	}
 
+	// Dots are never placed first, last or next to another dot
+	private String insertDots(String localPart, Set<Integer> dotPositions) {
+		char[] chars = localPart.toCharArray();
+		for (int position : dotPositions) {
+			boolean notLast = position < chars.length - 1;
+			if (notLast && chars[position - 1] != '.' && chars[position + 1] != '.') {
+				chars[position] = '.';
+			}
+		}
+		return new String(chars);
+	}
+
 	private Arbitrary<String> localPartQuoted() {
 		Arbitrary<String> quoted =
 				Arbitraries.strings()
 						   .alpha().numeric().withChars(" !#$%&'*+-/=?^_`{|}~.\"(),:;<>@[\\]")
-						   .ofMinLength(1).ofMaxLength(62);
-		quoted = quoted.map(v -> "\"" + v.replace("\\", "\\\\")
-										 .replace("\"", "\\\"") + "\"");
-		quoted = quoted.filter(v -> v.length() <= 64);
+						   .ofMinLength(1).ofMaxLength(62)
+						   .map(this::quoteUpTo64Chars);
 		return quoted.edgeCases(stringConfig -> stringConfig.includeOnly("\"A\"", "\"a\"", "\" \""));
 	}
 
+	private String quoteUpTo64Chars(String content) {
+		// Escaping can make content longer than 62 chars. Trailing chars are dropped instead of filtered.
+		StringBuilder quoted = new StringBuilder("\"");
+		for (char c : content.toCharArray()) {
+			boolean escape = c == '\\' || c == '"';
+			if (quoted.length() + (escape ? 2 : 1) > 63) {
+				break;
+			}
+			if (escape) {
+				quoted.append('\\');
+			}
+			quoted.append(c);
+		}
+		return quoted.append('"').toString();
+	}
+
 	private Arbitrary<String> host() {
 		if (!allowDomainHost && !allowIPv4Host && !allowIPv6Host) {
 			allowDomainHost = true;
@@ -83,42 +110,49 @@ public class DefaultEmailArbitrary extends ArbitraryDecorator<String> implements
 	}
 
 	private Arbitrary<String> hostIpv6() {
-		Arbitrary<List<String>> addressParts = ipv6Part().list().ofSize(8);
-		Arbitrary<String> plainAddress = addressParts.map(parts -> String.join(":", parts));
-		return plainAddress
-					   .map(this::removeThreeOrMoreColons)
-					   .filter(DefaultEmailArbitrary::validUseOfColonInIPv6Address)
-					   .map(plain -> "[" + plain + "]")
-					   .edgeCases(stringConfig -> stringConfig.includeOnly(
-							   "[::]",
-							   "[0:0:0:0:0:0:0:0]",
-							   "[ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff]",
-							   "[FFFF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF]"
-					   ));
-	}
-
-	private Arbitrary<String> ipv6Part() {
-		Arbitrary<Integer> ipv6PartNumber = Arbitraries.integers().between(0, 0xffff);
-		return Arbitraries.frequencyOf(
-				Tuple.of(1, Arbitraries.just("")),
-				Tuple.of(8, ipv6PartNumber.map(this::toLowerHex)),
-				Tuple.of(1, ipv6PartNumber.map(this::toUpperHex))
-		);
+		Arbitrary<List<String>> groups = ipv6Group().list().ofSize(8);
+		// Values of 8 and above mean that all groups are written without "::" compression
+		Arbitrary<Integer> writtenGroups = Arbitraries.integers().between(0, 15);
+		Arbitrary<Integer> compressionIndex = Arbitraries.integers().between(0, 8);
+		return Combinators.combine(groups, writtenGroups, compressionIndex)
+						  .as(this::ipv6Address)
+						  .map(plain -> "[" + plain + "]")
+						  // Many combined edge cases map to the same address so they are replaced instead of filtered
+						  .edgeCases(stringConfig -> stringConfig.none()
+																 .add("[::]")
+																 .add("[0:0:0:0:0:0:0:0]")
+																 .add("[ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff]")
+																 .add("[FFFF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF]"));
+	}
+
+	private String ipv6Address(List<String> groups, int writtenGroups, int compressionIndex) {
+		if (writtenGroups >= 8) {
+			return String.join(":", groups);
+		}
+		int split = Math.min(compressionIndex, writtenGroups);
+		if (writtenGroups == 7) {
+			// "::" at the start or end must replace at least two groups
+			split = Math.max(1, Math.min(split, 6));
+		}
+		String before = String.join(":", groups.subList(0, split));
+		String after = String.join(":", groups.subList(split, writtenGroups));
+		return before + "::" + after;
 	}
 
-	private String toLowerHex(int ipv6Part) {
-		return Integer.toHexString(ipv6Part);
+	private Arbitrary<String> ipv6Group() {
+		Arbitrary<Integer> ipv6GroupNumber = Arbitraries.integers().between(0, 0xffff);
+		return Arbitraries.frequencyOf(
+				Tuple.of(8, ipv6GroupNumber.map(this::toLowerHex)),
+				Tuple.of(1, ipv6GroupNumber.map(this::toUpperHex))
+		);
 	}
 
-	private String toUpperHex(int ipv6Part) {
-		return toLowerHex(ipv6Part).toUpperCase();
+	private String toLowerHex(int ipv6Group) {
+		return Integer.toHexString(ipv6Group);
 	}
 
-	private String removeThreeOrMoreColons(String address) {
-		while (address.contains(":::")) {
-			address = address.replace(":::", "::");
-		}
-		return address;
+	private String toUpperHex(int ipv6Group) {
+		return toLowerHex(ipv6Group).toUpperCase();
 	}
 
 	// TODO: This is not understandable for me
@@ -156,11 +190,12 @@ public class DefaultEmailArbitrary extends ArbitraryDecorator<String> implements
 						   .edgeCases(integerConfig -> integerConfig.includeOnly(1, 25));
 		Arbitrary<String> topLevelDomain = topLevelDomain();
 
+		// prependDomainPart() never exceeds 253 chars so no filtering is necessary
 		return numberOfSubdomains.flatMap(depth -> Arbitraries.recursive(
 				() -> topLevelDomain,
 				this::prependDomainPart,
 				depth
-		).filter(v -> v.length() <= 253));
+		));
 	}
 
 	private Arbitrary<String> prependDomainPart(Arbitrary<String> tail) {
@@ -168,7 +203,6 @@ public class DefaultEmailArbitrary extends ArbitraryDecorator<String> implements
 		return Combinators.combine(domainPart, tail)
 						  .as((part, rest) -> {
 							  String newDomain = part + "." + rest;
-							  // This is an optimization to have less filtering
 							  if (newDomain.length() > 253) {
 								  return rest;
 							  }
@@ -177,31 +211,39 @@ public class DefaultEmailArbitrary extends ArbitraryDecorator<String> implements
 	}
 
 	private Arbitrary<String> topLevelDomain() {
-		return domainPart(2, 10).filter(this::notAllNumeric);
+		return domainPart(2, 10).map(this::withLetterIfAllNumeric);
 	}
 
-	private boolean notAllNumeric(String tld) {
+	private String withLetterIfAllNumeric(String tld) {
 		for (char c : tld.toCharArray()) {
 			if (c < '0' || c > '9') {
-				return true;
+				return tld;
 			}
 		}
-		return false;
+		char letter = (char) ('a' + tld.charAt(0) - '0');
+		return letter + tld.substring(1);
 	}
 
 	private Arbitrary<String> domainPart(int minLength, int maxLength) {
 		//Not using .alpha().numeric().withChars("-") because runtime is too high
-		//Using "." in withChars() to generate more subdomains
 		return Arbitraries.strings()
 						  .withChars("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-")
 						  .ofMinLength(minLength).ofMaxLength(maxLength)
-						  .filter(this::validUseOfHyphensInDomainPart);
+						  // Edge cases with hyphens at start or end would only duplicate others after mapping
+						  .edgeCases(stringConfig -> stringConfig.filter(part -> part.equals(withoutHyphenAtStartOrEnd(part))))
+						  .map(this::withoutHyphenAtStartOrEnd);
 	}
 
-	private boolean validUseOfHyphensInDomainPart(String domainPart) {
-		boolean firstSignNotAHyphen = domainPart.charAt(0) != '-';
-		boolean lastSignNotAHyphen = domainPart.charAt(domainPart.length() - 1) != '-';
-		return firstSignNotAHyphen && lastSignNotAHyphen;
+	// Replacing instead of filtering keeps generation free of rejections
+	private String withoutHyphenAtStartOrEnd(String domainPart) {
+		char[] chars = domainPart.toCharArray();
+		if (chars[0] == '-') {
+			chars[0] = 'a';
+		}
+		if (chars[chars.length - 1] == '-') {
+			chars[chars.length - 1] = 'a';
+		}
+		return new String(chars);
 	}
 
 	@Override
@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.arbitraries;
 
 import java.math.*;
 import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -13,6 +14,7 @@ public class DefaultFloatArbitrary extends AbstractArbitraryBase implements Floa
 	private static final float DEFAULT_MAX = Float.MAX_VALUE;
 
 	private final DecimalGeneratingArbitrary generatingArbitrary;
+	private Set<Float> specialValues = new LinkedHashSet<>();
 
 	public DefaultFloatArbitrary() {
 		this.generatingArbitrary = new DecimalGeneratingArbitrary(Range.of(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX)));
@@ -20,17 +22,27 @@ public class DefaultFloatArbitrary extends AbstractArbitraryBase implements Floa
 
 	@Override
 	public RandomGenerator<Float> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigDecimal::floatValue);
+		return generatingArbitrary.doubleGenerator(genSize).map(Double::floatValue).withEdgeCases(genSize, edgeCases());
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Float>> exhaustive(long maxNumberOfSamples) {
+		if (!specialValues.isEmpty()) {
+			return Optional.empty();
+		}
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigDecimal::floatValue));
 	}
 
 	@Override
 	public EdgeCases<Float> edgeCases() {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(), BigDecimal::floatValue);
+		return EdgeCasesSupport.concat(
+			EdgeCasesSupport.map(generatingArbitrary.doubleEdgeCases(), Double::floatValue),
+			EdgeCasesSupport.fromShrinkables(specialValueShrinkables())
+		);
+	}
+
+	private List<Shrinkable<Float>> specialValueShrinkables() {
+		return specialValues.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
 	}
 
 	@Override
@@ -81,6 +93,22 @@ public class DefaultFloatArbitrary extends AbstractArbitraryBase implements Floa
 		return clone;
 	}
 
+	@Override
+	public FloatArbitrary withSpecialValue(float special) {
+		DefaultFloatArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.add(special);
+		return clone;
+	}
+
+	@Override
+	public FloatArbitrary withStandardSpecialValues() {
+		DefaultFloatArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.addAll(Arrays.asList(Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, -0.0f, Float.MIN_VALUE, Math.nextDown(Float.MIN_NORMAL)));
+		return clone;
+	}
+
 	private BigDecimal toBigDecimal(float value) {
 		return new BigDecimal(Float.toString(value));
 	}
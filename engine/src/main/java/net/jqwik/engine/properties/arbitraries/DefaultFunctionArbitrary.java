@@ -13,6 +13,7 @@ public class DefaultFunctionArbitrary<F, R> extends AbstractArbitraryBase implem
 	private final Class<F> functionalType;
 	private final Arbitrary<R> resultArbitrary;
 	private final List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions = new ArrayList<>();
+	private int maxCachedResults = 0;
 
 	public DefaultFunctionArbitrary(Class<F> functionalType, Arbitrary<R> resultArbitrary) {
 		this.functionalType = functionalType;
@@ -36,7 +37,7 @@ public class DefaultFunctionArbitrary<F, R> extends AbstractArbitraryBase implem
 	private List<RandomGenerator<F>> createGenerators(int genSize) {
 		ConstantFunctionGenerator<F, R> constantFunctionGenerator = createConstantFunctionGenerator(genSize);
 		FunctionGenerator<F, R> functionGenerator =
-			new FunctionGenerator<>(functionalType, resultArbitrary.generator(genSize), conditions);
+			new FunctionGenerator<>(functionalType, resultArbitrary.generator(genSize), conditions, maxCachedResults);
 		return Arrays.asList(
 			constantFunctionGenerator,
 			functionGenerator,
@@ -58,6 +59,17 @@ public class DefaultFunctionArbitrary<F, R> extends AbstractArbitraryBase implem
 		return clone;
 	}
 
+	@Override
+	public FunctionArbitrary<F, R> cacheResults(int maxCachedResults) {
+		if (maxCachedResults < 0) {
+			String message = String.format("maxCachedResults <%s> must not be negative", maxCachedResults);
+			throw new IllegalArgumentException(message);
+		}
+		DefaultFunctionArbitrary<F, R> clone = typedClone();
+		clone.maxCachedResults = maxCachedResults;
+		return clone;
+	}
+
 	private void addCondition(Tuple2<Predicate<List<Object>>, Function<List<Object>, R>> condition) {
 		conditions.add(condition);
 	}
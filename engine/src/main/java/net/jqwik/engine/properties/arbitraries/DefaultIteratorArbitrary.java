@@ -9,6 +9,8 @@ import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultIteratorArbitrary<T> extends MultivalueArbitraryBase<T, Iterator<T>> implements IteratorArbitrary<T> {
 
+	private boolean lazy = false;
+
 	public DefaultIteratorArbitrary(Arbitrary<T> elementArbitrary, boolean elementsUnique) {
 		super(elementArbitrary, elementsUnique);
 	}
@@ -20,6 +22,9 @@ public class DefaultIteratorArbitrary<T> extends MultivalueArbitraryBase<T, Iter
 
 	@Override
 	public RandomGenerator<Iterator<T>> generator(int genSize) {
+		if (lazy) {
+			return createLazyGenerator(genSize).map(Iterable::iterator);
+		}
 		return createListGenerator(genSize).map(List::iterator);
 	}
 
@@ -47,4 +52,12 @@ public class DefaultIteratorArbitrary<T> extends MultivalueArbitraryBase<T, Iter
 		return (IteratorArbitrary<T>) super.ofMinSize(minSize);
 	}
 
+	@Override
+	public IteratorArbitrary<T> lazy() {
+		ensureLazyGenerationIsPossible();
+		DefaultIteratorArbitrary<T> clone = typedClone();
+		clone.lazy = true;
+		return clone;
+	}
+
 }
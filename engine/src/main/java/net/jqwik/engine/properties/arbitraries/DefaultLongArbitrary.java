@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.arbitraries;
 
 import java.math.*;
 import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -60,4 +61,17 @@ public class DefaultLongArbitrary extends AbstractArbitraryBase implements LongA
 		return clone;
 	}
 
+	@Override
+	public LongArbitrary multipleOf(long divisor) {
+		DefaultLongArbitrary clone = typedClone();
+		clone.generatingArbitrary.multipleOf(BigInteger.valueOf(divisor));
+		return clone;
+	}
+
+	@Override
+	public LongArbitrary excluding(long... values) {
+		DefaultLongArbitrary clone = typedClone();
+		clone.generatingArbitrary.exclude(Arrays.stream(values).mapToObj(BigInteger::valueOf).collect(Collectors.toList()));
+		return clone;
+	}
 }
@@ -1,10 +1,12 @@
 package net.jqwik.engine.properties.arbitraries;
 
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultMapArbitrary<K, V> extends AbstractArbitraryBase implements MapArbitrary<K, V> {
 
@@ -17,6 +19,7 @@ public class DefaultMapArbitrary<K, V> extends AbstractArbitraryBase implements
 	public DefaultMapArbitrary(Arbitrary<K> keysArbitrary, Arbitrary<V> valuesArbitrary) {
 		this.keysArbitrary = keysArbitrary;
 		this.valuesArbitrary = valuesArbitrary;
+		this.maxSize = ArbitrariesSupport.maxNumberOfElements(keysArbitrary, RandomGenerators.DEFAULT_COLLECTION_SIZE);
 	}
 
 	@Override
@@ -35,7 +38,11 @@ public class DefaultMapArbitrary<K, V> extends AbstractArbitraryBase implements
 
 	@Override
 	public RandomGenerator<Map<K, V>> generator(int genSize) {
-		return mapArbitrary().generator(genSize);
+		int cutoffSize = RandomGenerators.defaultCutoffSize(minSize, maxSize, genSize);
+		RandomGenerator<K> keyGenerator = keysArbitrary.generator(genSize);
+		RandomGenerator<V> valueGenerator = valuesArbitrary.generator(genSize);
+		return RandomGenerators.map(keyGenerator, valueGenerator, minSize, maxSize, cutoffSize)
+							   .withEdgeCases(genSize, edgeCases());
 	}
 
 	private Arbitrary<Map<K, V>> mapArbitrary() {
@@ -71,14 +78,17 @@ public class DefaultMapArbitrary<K, V> extends AbstractArbitraryBase implements
 		return EdgeCasesSupport.concat(emptyMapEdgeCase, singleEntryEdgeCases);
 	}
 
+	// Single entry edge cases are shrinkable maps so that they can be shrunk to the empty map
 	private EdgeCases<Map<K, V>> singleEntryEdgeCases() {
-		return EdgeCasesSupport.flatMapArbitrary(
-				keysArbitrary.edgeCases(),
-				key -> valuesArbitrary.map(value -> {
-					HashMap<K, V> map = new HashMap<>();
-					map.put(key, value);
-					return map;
-				})
-		);
+		List<Supplier<Shrinkable<Map<K, V>>>> suppliers = new ArrayList<>();
+		for (Supplier<Shrinkable<K>> keySupplier : keysArbitrary.edgeCases().suppliers()) {
+			for (Supplier<Shrinkable<V>> valueSupplier : valuesArbitrary.edgeCases().suppliers()) {
+				suppliers.add(() -> {
+					Shrinkable<Map.Entry<K, V>> entry = ShrinkableMap.entry(keySupplier.get(), valueSupplier.get());
+					return new ShrinkableMap<>(Collections.singletonList(entry), minSize, maxSize);
+				});
+			}
+		}
+		return EdgeCasesSupport.fromSuppliers(suppliers);
 	}
 }
@@ -60,4 +60,21 @@ public class DefaultShortArbitrary extends AbstractArbitraryBase implements Shor
 		return clone;
 	}
 
+	@Override
+	public ShortArbitrary multipleOf(short divisor) {
+		DefaultShortArbitrary clone = typedClone();
+		clone.generatingArbitrary.multipleOf(BigInteger.valueOf(divisor));
+		return clone;
+	}
+
+	@Override
+	public ShortArbitrary excluding(short... values) {
+		DefaultShortArbitrary clone = typedClone();
+		List<BigInteger> excluded = new ArrayList<>();
+		for (short value : values) {
+			excluded.add(BigInteger.valueOf(value));
+		}
+		clone.generatingArbitrary.exclude(excluded);
+		return clone;
+	}
 }
@@ -10,6 +10,8 @@ import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultStreamArbitrary<T> extends MultivalueArbitraryBase<T, Stream<T>> implements StreamArbitrary<T> {
 
+	private boolean lazy = false;
+
 	public DefaultStreamArbitrary(Arbitrary<T> elementArbitrary, boolean elementsUnique) {
 		super(elementArbitrary, elementsUnique);
 	}
@@ -21,6 +23,9 @@ public class DefaultStreamArbitrary<T> extends MultivalueArbitraryBase<T, Stream
 
 	@Override
 	public RandomGenerator<Stream<T>> generator(int genSize) {
+		if (lazy) {
+			return createLazyGenerator(genSize).map(ReportableStream::of);
+		}
 		return createListGenerator(genSize).map(ReportableStream::new);
 	}
 
@@ -48,4 +53,12 @@ public class DefaultStreamArbitrary<T> extends MultivalueArbitraryBase<T, Stream
 	public StreamArbitrary<T> ofMinSize(int minSize) {
 		return (StreamArbitrary<T>) super.ofMinSize(minSize);
 	}
+
+	@Override
+	public StreamArbitrary<T> lazy() {
+		ensureLazyGenerationIsPossible();
+		DefaultStreamArbitrary<T> clone = typedClone();
+		clone.lazy = true;
+		return clone;
+	}
 }
@@ -18,6 +18,8 @@ class IntegralGeneratingArbitrary implements Arbitrary<BigInteger> {
 	BigInteger max;
 	BigInteger shrinkingTarget;
 	RandomDistribution distribution = RandomDistribution.biased();
+	BigInteger step = ONE;
+	Set<BigInteger> excluded = Collections.emptySet();
 
 	IntegralGeneratingArbitrary(BigInteger defaultMin, BigInteger defaultMax) {
 		this.min = defaultMin;
@@ -25,27 +27,69 @@ class IntegralGeneratingArbitrary implements Arbitrary<BigInteger> {
 		this.shrinkingTarget = null;
 	}
 
+	void multipleOf(BigInteger divisor) {
+		if (divisor.signum() == 0) {
+			throw new IllegalArgumentException("Divisor of multipleOf() must not be 0");
+		}
+		step = divisor.abs();
+	}
+
+	void exclude(Collection<BigInteger> values) {
+		Set<BigInteger> allExcluded = new HashSet<>(excluded);
+		allExcluded.addAll(values);
+		excluded = allExcluded;
+	}
+
+	private boolean isConstrained() {
+		return !step.equals(ONE) || !excluded.isEmpty();
+	}
+
 	@Override
 	public RandomGenerator<BigInteger> generator(int genSize) {
+		if (isConstrained()) {
+			return constrainedGenerator(genSize);
+		}
 		return RandomGenerators
 			.bigIntegers(min, max, shrinkingTarget(), distribution)
 			.withEdgeCases(genSize, edgeCases());
 	}
 
+	// Generation and shrinking work on indices of allowed values so that nothing must be filtered
+	private RandomGenerator<BigInteger> constrainedGenerator(int genSize) {
+		AllowedIntegrals allowed = new AllowedIntegrals(min, max, step, excluded);
+		return RandomGenerators
+			.bigIntegers(ZERO, allowed.maxIndex(), allowed.indexOf(shrinkingTarget()), distribution)
+			.map(allowed::valueAt)
+			.withEdgeCases(genSize, edgeCases());
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
+		if (isConstrained()) {
+			AllowedIntegrals allowed = new AllowedIntegrals(min, max, step, excluded);
+			if (allowed.count().compareTo(valueOf(maxNumberOfSamples)) > 0) {
+				return Optional.empty();
+			}
+			Iterable<BigInteger> indices = () -> new RangeIterator(ZERO, allowed.maxIndex());
+			return ExhaustiveGenerators
+					   .fromIterable(indices, allowed.count().longValueExact(), maxNumberOfSamples)
+					   .map(generator -> generator.map(allowed::valueAt));
+		}
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
 
 		// Necessary because maxCount could be larger than Long.MAX_VALUE
 		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
 			return Optional.empty();
 		} else {
-			return ExhaustiveGenerators.fromIterable(RangeIterator::new, maxCount.longValueExact(), maxNumberOfSamples);
+			return ExhaustiveGenerators.fromIterable(() -> new RangeIterator(min, max), maxCount.longValueExact(), maxNumberOfSamples);
 		}
 	}
 
 	@Override
 	public EdgeCases<BigInteger> edgeCases() {
+		if (isConstrained()) {
+			return constrainedEdgeCases();
+		}
 		List<Shrinkable<BigInteger>> shrinkables =
 			streamEdgeCases()
 				.map(value -> new ShrinkableBigInteger(
@@ -57,6 +101,24 @@ class IntegralGeneratingArbitrary implements Arbitrary<BigInteger> {
 		return EdgeCasesSupport.fromShrinkables(shrinkables);
 	}
 
+	private EdgeCases<BigInteger> constrainedEdgeCases() {
+		AllowedIntegrals allowed = new AllowedIntegrals(min, max, step, excluded);
+		Range<BigInteger> indexRange = Range.of(ZERO, allowed.maxIndex());
+		BigInteger targetIndex = allowed.indexOf(shrinkingTarget());
+		List<Shrinkable<BigInteger>> shrinkables =
+			Stream.concat(
+				Stream.of(allowed.valueAt(targetIndex)),
+				Stream.concat(
+					streamRawEdgeCases().filter(allowed::isAllowed),
+					Stream.of(allowed.firstValue(), allowed.lastValue())
+				)
+			)
+				  .distinct()
+				  .map(value -> new ShrinkableBigInteger(allowed.indexOf(value), indexRange, targetIndex).map(allowed::valueAt))
+				  .collect(Collectors.toList());
+		return EdgeCasesSupport.fromShrinkables(shrinkables);
+	}
+
 	private Stream<BigInteger> streamEdgeCases() {
 		return streamRawEdgeCases()
 			.distinct()
@@ -81,13 +143,19 @@ class IntegralGeneratingArbitrary implements Arbitrary<BigInteger> {
 		}
 	}
 
-	class RangeIterator implements Iterator<BigInteger> {
+	static class RangeIterator implements Iterator<BigInteger> {
 
-		BigInteger current = min;
+		private final BigInteger last;
+		private BigInteger current;
+
+		RangeIterator(BigInteger first, BigInteger last) {
+			this.current = first;
+			this.last = last;
+		}
 
 		@Override
 		public boolean hasNext() {
-			return current.compareTo(max) <= 0;
+			return current.compareTo(last) <= 0;
 		}
 
 		@Override
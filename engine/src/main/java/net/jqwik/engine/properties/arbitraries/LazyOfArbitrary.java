@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -8,11 +9,14 @@ import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
 public class LazyOfArbitrary<T> implements Arbitrary<T> {
 
+	private static final int MIN_NODE_BUDGET = 10;
+
 	// Cached arbitraries only have to survive one property
 	private static final Store<Map<Integer, LazyOfArbitrary<?>>> cachedArbitraries =
 		Store.create(Tuple.of(LazyOfShrinkable.class, "arbitraries"), Lifespan.PROPERTY, HashMap::new);
@@ -25,14 +29,26 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 		return (Arbitrary<T>) arbitrary;
 	}
 
+	/**
+	 * Whether a value of a {@code lazyOf()} arbitrary is currently being generated in this thread.
+	 * Nested values must then be generated right away to take their nodes from the same budget.
+	 */
+	public static boolean isGeneratingValue() {
+		return NodeBudget.current().isPresent();
+	}
+
 	private final List<Supplier<Arbitrary<T>>> suppliers;
 
-	private final Deque<Set<LazyOfShrinkable<T>>> generatedParts = new ArrayDeque<>();
+	// Supplied arbitraries are kept for the whole property so that their generators can be memoized.
+	// Parameters of a property may be generated in parallel, so the map must be thread safe.
+	private final Map<Integer, Arbitrary<T>> suppliedArbitraries = new ConcurrentHashMap<>();
 
 	// Remember generators during the same try. That way generators with state (e.g. unique()) work as expected
 	private final Store<Map<Integer, RandomGenerator<T>>> generators =
 		Store.getOrCreate(Tuple.of(this, "generators"), Lifespan.TRY, HashMap::new);
 
+	private final Map<Integer, SuppliersProbe> probes = new ConcurrentHashMap<>();
+
 	public LazyOfArbitrary(List<Supplier<Arbitrary<T>>> suppliers) {
 		this.suppliers = suppliers;
 	}
@@ -43,11 +59,37 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 			int index = random.nextInt(suppliers.size());
 			long seed = random.nextLong();
 
-			Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> shrinkableAndParts = generateCurrent(genSize, index, seed);
-			return createShrinkable(shrinkableAndParts, genSize, seed, Collections.singleton(index));
+			int[] nestedWhileProbing = SuppliersProbe.nestedWhileProbing.get();
+			if (nestedWhileProbing != null) {
+				nestedWhileProbing[0]++;
+				return Shrinkable.unshrinkable(null);
+			}
+
+			SuppliersProbe probe = probe(genSize);
+			return NodeBudget.generateWithin(nodeBudget(genSize), budget -> {
+				int nodes = budget.takeNodesForChild();
+				int chosenIndex = nodes > 0 ? index : probe.terminalIndex(index);
+				return budget.generateNode(nodes, probe.expectedChildren(chosenIndex), () -> {
+					Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> shrinkableAndParts = generateCurrent(budget, genSize, chosenIndex, seed);
+					return createShrinkable(shrinkableAndParts, genSize, seed, Collections.singleton(chosenIndex));
+				});
+			});
 		};
 	}
 
+	private static int nodeBudget(int genSize) {
+		return Math.max(MIN_NODE_BUDGET, genSize / 10);
+	}
+
+	private SuppliersProbe probe(int genSize) {
+		SuppliersProbe probe = probes.get(genSize);
+		if (probe == null) {
+			probe = new SuppliersProbe(suppliers.size(), index -> suppliedArbitrary(index).generator(genSize));
+			probes.put(genSize, probe);
+		}
+		return probe;
+	}
+
 	private LazyOfShrinkable<T> createShrinkable(
 		Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> shrinkableAndParts,
 		int genSize,
@@ -67,46 +109,54 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 	}
 
 	private void addGenerated(LazyOfShrinkable<T> lazyOfShrinkable) {
-		if (peekGenerated() != null) {
-			peekGenerated().add(lazyOfShrinkable);
-		}
-	}
-
-	private Set<LazyOfShrinkable<T>> peekGenerated() {
-		return generatedParts.peekFirst();
-	}
-
-	private void pushGeneratedLevel() {
-		generatedParts.addFirst(new HashSet<>());
-	}
-
-	private void popGeneratedLevel() {
-		generatedParts.removeFirst();
+		NodeBudget.current().ifPresent(budget -> {
+			Set<LazyOfShrinkable<T>> generatedLevel = generationState(budget).parts.peekFirst();
+			if (generatedLevel != null) {
+				generatedLevel.add(lazyOfShrinkable);
+			}
+		});
 	}
 
 	private int depth(Set<LazyOfShrinkable<T>> parts) {
 		return parts.stream().mapToInt(p -> p.depth).map(depth -> depth + 1).max().orElse(0);
 	}
 
-	private Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> generateCurrent(int genSize, int index, long seed) {
+	private Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> generateCurrent(NodeBudget budget, int genSize, int index, long seed) {
+		GenerationState<T> state = generationState(budget);
+		state.parts.addFirst(new HashSet<>());
 		try {
-			pushGeneratedLevel();
 			return Tuple.of(
-				getGenerator(index, genSize).next(SourceOfRandomness.newRandom(seed)),
-				peekGenerated()
+				getGenerator(state, index, genSize).next(SourceOfRandomness.newRandom(seed)),
+				state.parts.peekFirst()
 			);
 		} finally {
 			// To clean up even if there's an exception during value generation
-			popGeneratedLevel();
+			state.parts.removeFirst();
+		}
+	}
+
+	// Generators of the current try are only looked up once per generated top-level value
+	private GenerationState<T> generationState(NodeBudget budget) {
+		return budget.state(this, () -> new GenerationState<>(generators.get()));
+	}
+
+	private RandomGenerator<T> getGenerator(GenerationState<T> state, int index, int genSize) {
+		RandomGenerator<T> generator = state.generators.get(index);
+		if (generator == null) {
+			Arbitrary<T> arbitrary = suppliedArbitrary(index);
+			generator = Memoize.memoizedGenerator(arbitrary, genSize);
+			state.generators.put(index, generator);
 		}
+		return generator;
 	}
 
-	private RandomGenerator<T> getGenerator(int index, int genSize) {
-		if (generators.get().get(index) == null) {
-			RandomGenerator<T> generator = suppliers.get(index).get().generator(genSize);
-			generators.get().put(index, generator);
+	private Arbitrary<T> suppliedArbitrary(int index) {
+		Arbitrary<T> arbitrary = suppliedArbitraries.get(index);
+		if (arbitrary == null) {
+			arbitrary = suppliers.get(index).get();
+			suppliedArbitraries.put(index, arbitrary);
 		}
-		return generators.get().get(index);
+		return arbitrary;
 	}
 
 	private Stream<Shrinkable<T>> shrink(
@@ -152,11 +202,23 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 				   .range(0, suppliers.size())
 				   .filter(index -> !usedIndexes.contains(index))
 				   .peek(newUsedIndexes::add)
-				   .mapToObj(index -> generateCurrent(genSize, index, seed))
+				   .mapToObj(index -> generateAlternative(genSize, index, seed))
 				   .filter(shrinkableAndParts -> shrinkableAndParts.get1().distance().compareTo(distance) < 0)
 				   .map(shrinkableAndParts -> createShrinkable(shrinkableAndParts, genSize, seed, newUsedIndexes));
 	}
 
+	private Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> generateAlternative(int genSize, int index, long seed) {
+		SuppliersProbe probe = probe(genSize);
+		return NodeBudget.generateWithin(
+			nodeBudget(genSize),
+			budget -> budget.generateNode(
+				budget.takeNodesForChild(),
+				probe.expectedChildren(index),
+				() -> generateCurrent(budget, genSize, index, seed)
+			)
+		);
+	}
+
 	// Currently disabled since I'm not sure if it provides additional value
 	@SuppressWarnings("unused")
 	private Stream<Shrinkable<T>> shrinkToAlternativesAndGrow(Shrinkable<T> current, int genSize, long seed, Set<Integer> usedIndexes) {
@@ -166,7 +228,7 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 				   .range(0, suppliers.size())
 				   .filter(index -> !usedIndexes.contains(index))
 				   .peek(newUsedIndexes::add)
-				   .mapToObj(index -> generateCurrent(genSize, index, seed))
+				   .mapToObj(index -> generateAlternative(genSize, index, seed))
 				   .map(Tuple1::get1)
 				   .filter(tShrinkable -> tShrinkable.distance().compareTo(distance) < 0)
 				   .flatMap(Shrinkable::grow)
@@ -184,4 +246,13 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 		return EdgeCases.none();
 	}
 
+	private static class GenerationState<T> {
+		private final Map<Integer, RandomGenerator<T>> generators;
+		private final Deque<Set<LazyOfShrinkable<T>>> parts = new ArrayDeque<>();
+
+		private GenerationState(Map<Integer, RandomGenerator<T>> generators) {
+			this.generators = generators;
+		}
+	}
+
 }
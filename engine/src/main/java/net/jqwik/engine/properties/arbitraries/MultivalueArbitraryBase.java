@@ -15,7 +15,7 @@ abstract class MultivalueArbitraryBase<T, U> extends AbstractArbitraryBase imple
 	protected Arbitrary<T> elementArbitrary;
 	protected int minSize = 0;
 	protected int maxSize = RandomGenerators.DEFAULT_COLLECTION_SIZE;
-	private final boolean elementsUnique;
+	protected final boolean elementsUnique;
 
 	protected MultivalueArbitraryBase(Arbitrary<T> elementArbitrary, boolean elementsUnique) {
 		this.elementArbitrary = elementArbitrary;
@@ -63,6 +63,26 @@ abstract class MultivalueArbitraryBase<T, U> extends AbstractArbitraryBase imple
 					   .withEdgeCases(genSize, edgeCases);
 	}
 
+	protected RandomGenerator<Iterable<T>> createLazyGenerator(int genSize) {
+		int statefulBefore = Memoize.countStatefulGeneratorsCreated();
+		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize);
+		// Element arbitraries that are not unique themselves can still contain unique ones, e.g. in combine(..)
+		if (Memoize.countStatefulGeneratorsCreated() != statefulBefore) {
+			String message = "Elements of lazily generated streams and iterators cannot be generated with state, e.g. by unique()";
+			throw new JqwikException(message);
+		}
+		EdgeCases<List<T>> edgeCases = edgeCases((elements, minSize1) -> new ShrinkableList<>(elements, minSize1, maxSize));
+		return RandomGenerators
+					   .lazyElements(elementGenerator, minSize, maxSize, cutoffSize(genSize))
+					   .withEdgeCases(genSize, EdgeCasesSupport.map(edgeCases, LazyElements::of));
+	}
+
+	protected void ensureLazyGenerationIsPossible() {
+		if (elementsUnique) {
+			throw new JqwikException("Elements of lazily generated streams and iterators cannot be unique");
+		}
+	}
+
 	protected int cutoffSize(int genSize) {
 		return RandomGenerators.defaultCutoffSize(minSize, maxSize, genSize);
 	}
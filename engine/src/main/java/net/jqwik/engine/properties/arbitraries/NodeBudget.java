@@ -0,0 +1,106 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * The number of nodes that can still be generated for a value of a recursive structure.
+ * All nested values - and thereby all recursive branches - of a generated value
+ * take their nodes from the same budget.
+ *
+ * <p>
+ * Every node hands the nodes that are left after its own one on to its children.
+ * Each child gets an equal share of what its later siblings have not used up yet,
+ * so that the budget is split among branches instead of being used up by the first one.
+ * Nodes that are left over by a child go back to its parent.
+ * </p>
+ *
+ * <p>
+ * A budget also keeps the state of arbitraries that must only live as long as
+ * the generation of one top-level value, e.g. the generators used by {@code lazyOf()}.
+ * Since budgets are bound to the current thread, so is this state.
+ * </p>
+ */
+class NodeBudget {
+
+	private static final ThreadLocal<NodeBudget> current = new ThreadLocal<>();
+
+	static <T> T generateWithin(int nodes, Function<NodeBudget, T> generate) {
+		NodeBudget budget = current.get();
+		if (budget != null) {
+			return generate.apply(budget);
+		}
+		budget = new NodeBudget(nodes);
+		current.set(budget);
+		try {
+			return generate.apply(budget);
+		} finally {
+			current.remove();
+		}
+	}
+
+	/**
+	 * The budget of the value that is currently being generated in this thread, if any
+	 */
+	static Optional<NodeBudget> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	private final Deque<Node> nodes = new ArrayDeque<>();
+	private final Map<Object, Object> states = new IdentityHashMap<>();
+
+	private NodeBudget(int nodes) {
+		// The top-level value is the only child of the root
+		this.nodes.push(new Node(nodes, 1));
+	}
+
+	/**
+	 * Take the nodes for the next child of the node that is currently being generated.
+	 * Zero means that the child should not have any children itself.
+	 */
+	int takeNodesForChild() {
+		Node parent = nodes.peek();
+		int pendingChildren = Math.max(1, parent.expectedChildren - parent.startedChildren);
+		parent.startedChildren++;
+		if (parent.remaining <= 0) {
+			return 0;
+		}
+		int share = (parent.remaining + pendingChildren - 1) / pendingChildren;
+		parent.remaining -= share;
+		return share;
+	}
+
+	/**
+	 * Generate a node with nodes taken by {@linkplain #takeNodesForChild()}.
+	 * The node itself uses up one of them; the others are available for its {@code expectedChildren}.
+	 */
+	<T> T generateNode(int nodesTaken, int expectedChildren, Supplier<T> generate) {
+		Node node = new Node(nodesTaken - 1, expectedChildren);
+		nodes.push(node);
+		try {
+			return generate.get();
+		} finally {
+			nodes.pop();
+			if (node.remaining > 0) {
+				nodes.peek().remaining += node.remaining;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	<S> S state(Object owner, Supplier<S> createState) {
+		// Owners only ever store states of one type
+		return (S) states.computeIfAbsent(owner, ignore -> createState.get());
+	}
+
+	private static class Node {
+		private int remaining;
+		private final int expectedChildren;
+		private int startedChildren = 0;
+
+		private Node(int remaining, int expectedChildren) {
+			this.remaining = remaining;
+			this.expectedChildren = expectedChildren;
+		}
+	}
+}
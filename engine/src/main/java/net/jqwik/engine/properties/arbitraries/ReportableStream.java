@@ -4,25 +4,52 @@ import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
 public class ReportableStream<T> implements Stream<T> {
 
-	private final List<T> values;
+	static <T> ReportableStream<T> of(Iterable<T> elements) {
+		if (elements instanceof LazyElements) {
+			return new ReportableStream<>((LazyElements<T>) elements);
+		}
+		return new ReportableStream<>((List<T>) elements);
+	}
+
+	private final Supplier<List<T>> values;
+	private final int size;
 	private final Stream<T> stream;
 
 	ReportableStream(List<T> list) {
-		this.values = list;
-		this.stream = list.stream();
+		this(() -> list, list.size(), list.stream());
+	}
+
+	ReportableStream(LazyElements<T> elements) {
+		this(elements::readValues, elements.size(), StreamSupport.stream(elements.spliterator(), false));
 	}
 
+	private ReportableStream(Supplier<List<T>> values, int size, Stream<T> stream) {
+		this.values = values;
+		this.size = size;
+		this.stream = stream;
+	}
+
+	/**
+	 * @return the values of the stream or - for lazily generated streams - the values read so far
+	 */
 	public List<T> values() {
-		return values;
+		return values.get();
+	}
+
+	public int size() {
+		return size;
 	}
 
 	@Override
 	public String toString() {
-		return String.format("%s.of(%s)", getClass().getName(), JqwikStringSupport.displayString(values));
+		List<T> values = values();
+		String unread = values.size() < size ? "..." : "";
+		return String.format("%s.of(%s%s)", getClass().getName(), JqwikStringSupport.displayString(values), unread);
 	}
 
 	@Override
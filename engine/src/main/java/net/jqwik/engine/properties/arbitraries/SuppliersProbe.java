@@ -0,0 +1,98 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * Finds out how the suppliers of a {@code lazyOf()} arbitrary recurse by generating a few values from each one.
+ * While probing, nested {@code lazyOf()} values are not generated but counted and replaced by {@code null}.
+ *
+ * <p>
+ * Suppliers that have requested nested values least often are terminal: they are chosen when the
+ * {@linkplain NodeBudget node budget} is used up. For all other suppliers the average number
+ * of nested values is the number of children among which their budget is split.
+ * </p>
+ */
+class SuppliersProbe {
+
+	private static final int DRAWS_PER_SUPPLIER = 10;
+
+	// Counts nested lazyOf() values while a supplier is probed in the current thread
+	static final ThreadLocal<int[]> nestedWhileProbing = new ThreadLocal<>();
+
+	private final int[] terminalIndices;
+	private final int[] expectedChildren;
+
+	SuppliersProbe(int numberOfSuppliers, IntFunction<RandomGenerator<?>> generatorForSupplier) {
+		double[] recursionRatios = new double[numberOfSuppliers];
+		this.expectedChildren = new int[numberOfSuppliers];
+		for (int index = 0; index < numberOfSuppliers; index++) {
+			probeSupplier(index, generatorForSupplier.apply(index), recursionRatios);
+		}
+		this.terminalIndices = leastRecursive(recursionRatios);
+	}
+
+	private void probeSupplier(int index, RandomGenerator<?> generator, double[] recursionRatios) {
+		int successfulDraws = 0;
+		int recursiveDraws = 0;
+		int nestedValues = 0;
+		for (int draw = 0; draw < DRAWS_PER_SUPPLIER; draw++) {
+			int nested = countNested(generator, SourceOfRandomness.newRandom(index, draw));
+			if (nested < 0) {
+				continue;
+			}
+			successfulDraws++;
+			nestedValues += nested;
+			if (nested > 0) {
+				recursiveDraws++;
+			}
+		}
+		if (successfulDraws == 0) {
+			// Nothing is known so the supplier must be considered to recurse
+			recursionRatios[index] = 1.0;
+			expectedChildren[index] = 1;
+			return;
+		}
+		recursionRatios[index] = (double) recursiveDraws / successfulDraws;
+		expectedChildren[index] = Math.max(1, (int) Math.ceil((double) nestedValues / successfulDraws));
+	}
+
+	// Returns -1 if generation failed before any nested value was requested
+	private static int countNested(RandomGenerator<?> generator, Random random) {
+		int[] before = nestedWhileProbing.get();
+		int[] nested = new int[1];
+		nestedWhileProbing.set(nested);
+		try {
+			// Some nested values, e.g. those of flatMap(), are only generated when the value is created
+			generator.next(random).value();
+			return nested[0];
+		} catch (RuntimeException generationFailed) {
+			// Suppliers may not cope with null as nested value
+			return nested[0] > 0 ? nested[0] : -1;
+		} finally {
+			nestedWhileProbing.set(before);
+		}
+	}
+
+	private static int[] leastRecursive(double[] recursionRatios) {
+		double minRatio = Arrays.stream(recursionRatios).min().orElse(0.0);
+		return IntStream.range(0, recursionRatios.length)
+						.filter(index -> recursionRatios[index] == minRatio)
+						.toArray();
+	}
+
+	/**
+	 * Map a randomly chosen index to a supplier that is least likely to recurse
+	 */
+	int terminalIndex(int index) {
+		return terminalIndices[index % terminalIndices.length];
+	}
+
+	int expectedChildren(int index) {
+		return expectedChildren[index];
+	}
+}
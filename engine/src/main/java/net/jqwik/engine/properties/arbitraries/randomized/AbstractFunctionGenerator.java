@@ -4,6 +4,7 @@ import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
@@ -24,41 +25,54 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 		this.conditions = conditions;
 	}
 
-	F createFunctionProxy(InvocationHandler handler) {
-		//noinspection unchecked
-		return (F) Proxy.newProxyInstance(functionalType.getClassLoader(), new Class[]{functionalType}, handler);
-	}
-
-
-	public Shrinkable<F> createConstantFunction(Shrinkable<R> shrinkableConstant) {
-		return shrinkableConstant.map(this::constantFunction);
+	/**
+	 * Common functional interfaces are implemented directly, all others through a dynamic proxy.
+	 */
+	F createFunction(FunctionImplementations.Invocation invocation, Supplier<String> toString, int hashCode) {
+		return FunctionImplementations
+				   .forType(functionalType, invocation, toString, hashCode)
+				   .orElseGet(() -> createFunctionProxy(invocation, toString, hashCode));
 	}
 
-	private F constantFunction(R constant) {
+	private F createFunctionProxy(FunctionImplementations.Invocation invocation, Supplier<String> toString, int hashCode) {
 		InvocationHandler handler = (proxy, method, args) -> {
 			if (JqwikReflectionSupport.isEqualsMethod(method)) {
 				return handleEqualsMethod(proxy, args);
 			}
 			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToStringOfConstantMethod(constant);
+				return toString.get();
 			}
 			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return constant.hashCode() + constant.hashCode();
+				return hashCode;
 			}
 			if (method.isDefault()) {
 				return handleDefaultMethod(proxy, method, args);
 			}
-
-			return conditionalResult(args).orElse(new Object[]{constant})[0];
+			return invocation.invoke(args);
 		};
-		return createFunctionProxy(handler);
+		//noinspection unchecked
+		return (F) Proxy.newProxyInstance(functionalType.getClassLoader(), new Class[]{functionalType}, handler);
+	}
+
+	public Shrinkable<F> createConstantFunction(Shrinkable<R> shrinkableConstant) {
+		return new ShrinkableConstantFunction(shrinkableConstant);
+	}
+
+	// The constant is created anew on each call so that mutable results are not shared between calls
+	private F constantFunction(Shrinkable<R> shrinkableConstant) {
+		R constant = shrinkableConstant.value();
+		return createFunction(
+			args -> conditionalResult(args).orElseGet(() -> new Object[]{shrinkableConstant.value()})[0],
+			() -> handleToStringOfConstantMethod(constant),
+			Objects.hashCode(constant) * 2
+		);
 	}
 
 	protected Object handleEqualsMethod(final Object proxy, Object[] args) {
 		return proxy == args[0];
 	}
 
-	private Object handleToStringOfConstantMethod(final R constant) {
+	private String handleToStringOfConstantMethod(final R constant) {
 		return String.format(
 			"Constant Function<%s>(%s)",
 			functionalType.getSimpleName(),
@@ -89,4 +103,43 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 		return new DefaultMethodHandleFactory().create(method);
 	}
 
+	private class ShrinkableConstantFunction implements Shrinkable<F> {
+
+		private final Shrinkable<R> shrinkableConstant;
+
+		private ShrinkableConstantFunction(Shrinkable<R> shrinkableConstant) {
+			this.shrinkableConstant = shrinkableConstant;
+		}
+
+		@Override
+		public F value() {
+			return constantFunction(shrinkableConstant);
+		}
+
+		@Override
+		public Stream<Shrinkable<F>> shrink() {
+			return shrinkableConstant.shrink().map(AbstractFunctionGenerator.this::createConstantFunction);
+		}
+
+		@Override
+		public Optional<Shrinkable<F>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+			if (before instanceof AbstractFunctionGenerator.ShrinkableConstantFunction
+					&& after instanceof AbstractFunctionGenerator.ShrinkableConstantFunction) {
+				Shrinkable<?> beforeConstant = ((AbstractFunctionGenerator<?, ?>.ShrinkableConstantFunction) before).shrinkableConstant;
+				Shrinkable<?> afterConstant = ((AbstractFunctionGenerator<?, ?>.ShrinkableConstantFunction) after).shrinkableConstant;
+				return shrinkableConstant.grow(beforeConstant, afterConstant).map(AbstractFunctionGenerator.this::createConstantFunction);
+			}
+			return shrinkableConstant.grow(before, after).map(AbstractFunctionGenerator.this::createConstantFunction);
+		}
+
+		@Override
+		public Stream<Shrinkable<F>> grow() {
+			return shrinkableConstant.grow().map(AbstractFunctionGenerator.this::createConstantFunction);
+		}
+
+		@Override
+		public ShrinkingDistance distance() {
+			return shrinkableConstant.distance();
+		}
+	}
 }
@@ -0,0 +1,77 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.properties.arbitraries.randomized.LongDistribution.*;
+
+/**
+ * Uses the same partitions as {@linkplain BiasedNumericGenerator}
+ * but generates values within each partition as long values.
+ */
+class BiasedLongGenerator implements RandomLongGenerator {
+
+	private static final int MAX_CACHED_PARTITIONS = 1000;
+
+	private static final Map<Tuple4<Long, Long, Long, Integer>, UniformLongGenerator[]> partitionsCache =
+		Collections.synchronizedMap(new LinkedHashMap<Tuple4<Long, Long, Long, Integer>, UniformLongGenerator[]>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Tuple4<Long, Long, Long, Integer>, UniformLongGenerator[]> eldest) {
+				return size() > MAX_CACHED_PARTITIONS;
+			}
+		});
+
+	private final UniformLongGenerator[] partitions;
+
+	BiasedLongGenerator(int genSize, long min, long max, long center) {
+		partitions = partitions(genSize, min, max, center);
+	}
+
+	@Override
+	public long next(Random random) {
+		if (partitions.length == 1) {
+			return partitions[0].next(random);
+		}
+		return partitions[random.nextInt(partitions.length)].next(random);
+	}
+
+	private static UniformLongGenerator[] partitions(int genSize, long min, long max, long center) {
+		Tuple4<Long, Long, Long, Integer> key = Tuple.of(min, max, center, genSize);
+		UniformLongGenerator[] partitions = partitionsCache.get(key);
+		if (partitions == null) {
+			partitions = createPartitions(genSize, min, max, center);
+			partitionsCache.put(key, partitions);
+		}
+		return partitions;
+	}
+
+	private static UniformLongGenerator[] createPartitions(int genSize, long min, long max, long center) {
+		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(center)
+		);
+		List<UniformLongGenerator> partitions = new ArrayList<>();
+		Collections.sort(partitionPoints);
+		long lower = min;
+		for (BigInteger partitionPoint : partitionPoints) {
+			long upper = partitionPoint.longValueExact();
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= max) {
+				break;
+			}
+			partitions.add(new UniformLongGenerator(lower, upper - 1, upper - 1 < center));
+			lower = upper;
+		}
+		partitions.add(new UniformLongGenerator(lower, max, max < center));
+		// Random choices of 0 select the partition and value closest to center,
+		// which lets shrinking of recorded choice sequences move towards center
+		partitions.sort((left, right) -> Long.compareUnsigned(left.distanceTo(center), right.distanceTo(center)));
+		return partitions.toArray(new UniformLongGenerator[0]);
+	}
+}
@@ -5,39 +5,64 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.properties.*;
 
 class BiasedNumericGenerator implements RandomNumericGenerator {
 
-	private final RandomNumericGenerator partitionedGenerator;
+	private static final int MAX_CACHED_PARTITION_TABLES = 1000;
+
+	// Partition tables only depend on their key and the partition generators are stateless.
+	// Therefore they can be shared by all generators with the same key.
+	private static final Map<Tuple4<BigInteger, BigInteger, BigInteger, Integer>, PartitionTable> partitionTables =
+		Collections.synchronizedMap(new LinkedHashMap<Tuple4<BigInteger, BigInteger, BigInteger, Integer>, PartitionTable>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Tuple4<BigInteger, BigInteger, BigInteger, Integer>, PartitionTable> eldest) {
+				return size() > MAX_CACHED_PARTITION_TABLES;
+			}
+		});
+
+	private final PartitionTable partitionTable;
 
 	BiasedNumericGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
-		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(genSize, min, max, center);
-		Range<BigInteger> range = Range.of(min, max);
-		partitionedGenerator = partitionedGenerator(range, partitionPoints);
+		partitionTable = partitionTable(genSize, min, max, center);
 	}
 
 	@Override
 	public BigInteger next(Random random) {
-		return partitionedGenerator.next(random);
+		return partitionTable.next(random);
+	}
+
+	private static PartitionTable partitionTable(int genSize, BigInteger min, BigInteger max, BigInteger center) {
+		Tuple4<BigInteger, BigInteger, BigInteger, Integer> key = Tuple.of(min, max, center, genSize);
+		PartitionTable partitionTable = partitionTables.get(key);
+		if (partitionTable == null) {
+			List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(genSize, min, max, center);
+			partitionTable = createPartitionTable(Range.of(min, max), center, partitionPoints);
+			partitionTables.put(key, partitionTable);
+		}
+		return partitionTable;
 	}
 
-	private RandomNumericGenerator partitionedGenerator(
+	private static PartitionTable createPartitionTable(
 		Range<BigInteger> range,
+		BigInteger center,
 		List<BigInteger> partitionPoints
 	) {
 		if (partitionPoints.isEmpty()) {
-			return createUniformGenerator(range.min, range.max);
+			RandomNumericGenerator uniform = createUniformGenerator(range.min, range.max, range.min);
+			return new PartitionTable(new RandomNumericGenerator[]{uniform}, false);
 		}
-		List<RandomNumericGenerator> generators = createPartitions(range, partitionPoints);
-		return random -> generators.get(random.nextInt(generators.size())).next(random);
+		List<RandomNumericGenerator> partitions = createPartitions(range, center, partitionPoints);
+		return new PartitionTable(partitions.toArray(new RandomNumericGenerator[0]), true);
 	}
 
-	private List<RandomNumericGenerator> createPartitions(
+	private static List<RandomNumericGenerator> createPartitions(
 		Range<BigInteger> range,
+		BigInteger center,
 		List<BigInteger> partitionPoints
 	) {
-		List<RandomNumericGenerator> partitions = new ArrayList<>();
+		List<Range<BigInteger>> ranges = new ArrayList<>();
 		Collections.sort(partitionPoints);
 		BigInteger lower = range.min;
 		for (BigInteger partitionPoint : partitionPoints) {
@@ -48,20 +73,55 @@ class BiasedNumericGenerator implements RandomNumericGenerator {
 			if (upper.compareTo(range.max) >= 0) {
 				break;
 			}
-			partitions.add(createUniformGenerator(lower, upper.subtract(BigInteger.ONE)));
+			ranges.add(Range.of(lower, upper.subtract(BigInteger.ONE)));
 			lower = upper;
 		}
-		partitions.add(createUniformGenerator(lower, range.max));
+		ranges.add(Range.of(lower, range.max));
+		// Random choices of 0 select the partition and value closest to center,
+		// which lets shrinking of recorded choice sequences move towards center
+		ranges.sort(Comparator.comparing(partition -> distance(partition, center)));
+		List<RandomNumericGenerator> partitions = new ArrayList<>();
+		for (Range<BigInteger> partition : ranges) {
+			BigInteger startFrom = partition.max.compareTo(center) < 0 ? partition.max : partition.min;
+			partitions.add(createUniformGenerator(partition.min, partition.max, startFrom));
+		}
 		return partitions;
 	}
 
-	private RandomNumericGenerator createUniformGenerator(
+	private static BigInteger distance(Range<BigInteger> partition, BigInteger center) {
+		if (partition.max.compareTo(center) < 0) {
+			return center.subtract(partition.max);
+		}
+		if (partition.min.compareTo(center) > 0) {
+			return partition.min.subtract(center);
+		}
+		return BigInteger.ZERO;
+	}
+
+	private static RandomNumericGenerator createUniformGenerator(
 		BigInteger minGenerate,
-		BigInteger maxGenerate
+		BigInteger maxGenerate,
+		BigInteger center
 	) {
 		int ignoredGenSize = 1000;
-		BigInteger ignoredCenter = minGenerate;
-		return RandomDistribution.uniform().createGenerator(ignoredGenSize, minGenerate, maxGenerate, ignoredCenter);
+		return RandomDistribution.uniform().createGenerator(ignoredGenSize, minGenerate, maxGenerate, center);
+	}
+
+	private static class PartitionTable {
+		private final RandomNumericGenerator[] partitions;
+		private final boolean partitioned;
+
+		private PartitionTable(RandomNumericGenerator[] partitions, boolean partitioned) {
+			this.partitions = partitions;
+			this.partitioned = partitioned;
+		}
+
+		private BigInteger next(Random random) {
+			if (!partitioned) {
+				return partitions[0].next(random);
+			}
+			return partitions[random.nextInt(partitions.length)].next(random);
+		}
 	}
 
 }
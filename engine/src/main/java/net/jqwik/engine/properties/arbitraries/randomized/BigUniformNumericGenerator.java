@@ -11,19 +11,21 @@ class BigUniformNumericGenerator implements RandomDistribution.RandomNumericGene
 	private final BigInteger max;
 	private final BigInteger range;
 	private final int bits;
+	private final boolean fromMax;
 
-	BigUniformNumericGenerator(BigInteger min, BigInteger max) {
+	BigUniformNumericGenerator(BigInteger min, BigInteger max, boolean fromMax) {
 		this.min = min;
 		this.max = max;
 		this.range = max.subtract(min);
 		this.bits = range.bitLength();
+		this.fromMax = fromMax;
 	}
 
 	@Override
 	public BigInteger next(Random random) {
 		while (true) {
 			BigInteger rawValue = new BigInteger(bits, random);
-			BigInteger value = rawValue.add(min);
+			BigInteger value = fromMax ? max.subtract(rawValue) : rawValue.add(min);
 			if (value.compareTo(min) >= 0 && value.compareTo(max) <= 0) {
 				return value;
 			}
@@ -0,0 +1,83 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Generates a fixed number of values that only depend on a seed.
+ * Values of stateless generators are generated independently of each other
+ * so that the stream can be split for parallel processing.
+ *
+ * <p>
+ * Generators that hold state between values or access stores, e.g. those of {@code lazyOf()},
+ * are not thread safe. Their streams cannot be split, so that all values are generated
+ * in the thread that consumes the stream - even if it is parallel.
+ * </p>
+ */
+public class BulkSamples {
+
+	private BulkSamples() {
+	}
+
+	public static <T> Stream<T> stream(Arbitrary<T> arbitrary, int genSize, long count, long seed) {
+		return stream(arbitrary, genSize, 0, count, seed);
+	}
+
+	/**
+	 * Generate the values at positions {@code [fromIndex, toIndex)} of the stream for {@code seed}.
+	 */
+	public static <T> Stream<T> stream(Arbitrary<T> arbitrary, int genSize, long fromIndex, long toIndex, long seed) {
+		int statefulBefore = Memoize.countStatefulGeneratorsCreated();
+		long storeAccessesBefore = StoreAccess.countAccesses();
+		RandomGenerator<T> generator = arbitrary.generator(genSize);
+		if (Memoize.countStatefulGeneratorsCreated() != statefulBefore) {
+			return inOrder(generator, fromIndex, toIndex, seed);
+		}
+		Stream<T> values = LongStream.range(fromIndex, toIndex)
+									 .mapToObj(index -> generator.next(SourceOfRandomness.newRandom(seed, index)).value());
+		if (fromIndex < toIndex) {
+			// Some generators only access stores when generating values
+			generator.next(SourceOfRandomness.newRandom(seed, fromIndex));
+		}
+		if (StoreAccess.countAccesses() != storeAccessesBefore) {
+			return unsplittable(values.iterator(), toIndex - fromIndex);
+		}
+		return values;
+	}
+
+	// Values of stateful generators depend on all values before
+	private static <T> Stream<T> inOrder(RandomGenerator<T> generator, long fromIndex, long toIndex, long seed) {
+		long count = toIndex - fromIndex;
+		Iterator<T> values = generator.stream(SourceOfRandomness.newRandom(seed, -1))
+									  .skip(fromIndex)
+									  .limit(count)
+									  .map(Shrinkable::value)
+									  .iterator();
+		return unsplittable(values, count);
+	}
+
+	// Spliterators.spliterator() would split off batches of values and hand them to other threads
+	private static <T> Stream<T> unsplittable(Iterator<T> values, long count) {
+		Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(count, Spliterator.ORDERED | Spliterator.SIZED) {
+			@Override
+			public boolean tryAdvance(Consumer<? super T> action) {
+				if (!values.hasNext()) {
+					return false;
+				}
+				action.accept(values.next());
+				return true;
+			}
+
+			@Override
+			public Spliterator<T> trySplit() {
+				return null;
+			}
+		};
+		return StreamSupport.stream(spliterator, false);
+	}
+}
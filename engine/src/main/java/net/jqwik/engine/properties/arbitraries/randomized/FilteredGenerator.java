@@ -10,6 +10,8 @@ import net.jqwik.engine.properties.shrinking.*;
 public class FilteredGenerator<T> implements RandomGenerator<T> {
 	private final RandomGenerator<T> toFilter;
 	private final Predicate<T> filterPredicate;
+	// Looked up on first use since generators in flatMap() are created for every single value
+	private FilterStatistics.Counter counter;
 
 	public FilteredGenerator(RandomGenerator<T> toFilter, Predicate<T> filterPredicate) {
 		this.toFilter = toFilter;
@@ -26,15 +28,23 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		return String.format("Filtering [%s]", toFilter);
 	}
 
+	private FilterStatistics.Counter counter() {
+		if (counter == null) {
+			// All generators of the same filter lambda share its class, even if they capture different values
+			counter = FilterStatistics.counterFor(filterPredicate.getClass(), toString());
+		}
+		return counter;
+	}
+
 	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
+		FilterStatistics.Counter counter = counter();
 		Shrinkable<T> accepted = MaxTriesLoop.loop(
 			() -> true,
 			next -> {
 				next = fetchShrinkable.apply(random);
-				if (filterPredicate.test(next.value())) {
-					return Tuple.of(true, next);
-				}
-				return Tuple.of(false, next);
+				boolean passed = filterPredicate.test(next.value());
+				counter.count(passed);
+				return Tuple.of(passed, next);
 			},
 			(maxMisses) -> {
 				String message = String.format("%s missed more than %s times.", toString(), maxMisses);
@@ -1,6 +1,5 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
-import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
@@ -9,18 +8,20 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.*;
-import net.jqwik.engine.support.*;
 
 public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
+	private final int maxCachedResults;
 	private final AtomicReference<Shrinkable<R>> lastResult = new AtomicReference<>();
 
 	public FunctionGenerator(
 		Class<F> functionalType,
 		RandomGenerator<R> resultGenerator,
-		List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions
+		List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions,
+		int maxCachedResults
 	) {
 		super(functionalType, resultGenerator, conditions);
+		this.maxCachedResults = maxCachedResults;
 	}
 
 	@Override
@@ -30,34 +31,47 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 	private F createFunction(Random random) {
 		long baseSeed = random.nextLong();
-		InvocationHandler handler = (proxy, method, args) -> {
-			if (JqwikReflectionSupport.isEqualsMethod(method)) {
-				return handleEqualsMethod(proxy, args);
-			}
-			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToString(baseSeed);
-			}
-			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return handleHashCode((int) baseSeed);
-			}
-			if (method.isDefault()) {
-				return handleDefaultMethod(proxy, method, args);
-			}
-			return conditionalResult(args).orElseGet(() -> {
-				Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
-				Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
+		Function<Object[], Shrinkable<R>> results = args -> {
+			Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
+			return resultGenerator.next(randomForArgs);
+		};
+		if (maxCachedResults > 0) {
+			results = cached(results);
+		}
+		Function<Object[], Shrinkable<R>> shrinkableResults = results;
+		return createFunction(
+			args -> conditionalResult(args).orElseGet(() -> {
+				Shrinkable<R> shrinkableResult = shrinkableResults.apply(args);
 				storeLastResult(shrinkableResult);
 				return new Object[]{shrinkableResult.value()};
-			})[0];
-		};
-		return createFunctionProxy(handler);
+			})[0],
+			() -> handleToString(baseSeed),
+			handleHashCode((int) baseSeed)
+		);
+	}
+
+	// Results only depend on the args so their shrinkables can be cached for repeated calls with equal args.
+	// Values are not cached because a mutable result must not be shared between calls.
+	private Function<Object[], Shrinkable<R>> cached(Function<Object[], Shrinkable<R>> results) {
+		Map<List<Object>, Shrinkable<R>> resultsCache = Collections.synchronizedMap(
+			new LinkedHashMap<List<Object>, Shrinkable<R>>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<List<Object>, Shrinkable<R>> eldest) {
+					return size() > maxCachedResults;
+				}
+			});
+		return args -> resultsCache.computeIfAbsent(argsKey(args), ignore -> results.apply(args));
+	}
+
+	private static List<Object> argsKey(Object[] args) {
+		return args == null ? Collections.emptyList() : Arrays.asList(args);
 	}
 
 	private int handleHashCode(final int baseSeed) {
 		return baseSeed;
 	}
 
-	private Object handleToString(final long baseSeed) {
+	private String handleToString(final long baseSeed) {
 		return String.format(
 			"Function<%s>(baseSeed: %s)",
 			functionalType.getSimpleName(),
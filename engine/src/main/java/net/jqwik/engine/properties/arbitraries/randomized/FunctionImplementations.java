@@ -0,0 +1,114 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Plain implementations of common functional interfaces. They are used instead of
+ * dynamic proxies, which check the invoked method reflectively on every call.
+ */
+class FunctionImplementations {
+
+	interface Invocation {
+		Object invoke(Object[] args);
+	}
+
+	private static final Object[] NO_ARGS = new Object[0];
+
+	private FunctionImplementations() {
+	}
+
+	@SuppressWarnings("unchecked")
+	static <F> Optional<F> forType(Class<F> functionalType, Invocation invocation, Supplier<String> toString, int hashCode) {
+		Object function = null;
+		if (functionalType == Function.class) {
+			function = new JavaFunction(invocation, toString, hashCode);
+		} else if (functionalType == BiFunction.class) {
+			function = new JavaBiFunction(invocation, toString, hashCode);
+		} else if (functionalType == Predicate.class) {
+			function = new JavaPredicate(invocation, toString, hashCode);
+		} else if (functionalType == Comparator.class) {
+			function = new JavaComparator(invocation, toString, hashCode);
+		} else if (functionalType == Supplier.class) {
+			function = new JavaSupplier(invocation, toString, hashCode);
+		}
+		return Optional.ofNullable((F) function);
+	}
+
+	private abstract static class GeneratedFunction {
+		final Invocation invocation;
+		private final Supplier<String> toString;
+		private final int hashCode;
+
+		private GeneratedFunction(Invocation invocation, Supplier<String> toString, int hashCode) {
+			this.invocation = invocation;
+			this.toString = toString;
+			this.hashCode = hashCode;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return toString.get();
+		}
+	}
+
+	private static class JavaFunction extends GeneratedFunction implements Function<Object, Object> {
+		private JavaFunction(Invocation invocation, Supplier<String> toString, int hashCode) {
+			super(invocation, toString, hashCode);
+		}
+
+		@Override
+		public Object apply(Object t) {
+			return invocation.invoke(new Object[]{t});
+		}
+	}
+
+	private static class JavaBiFunction extends GeneratedFunction implements BiFunction<Object, Object, Object> {
+		private JavaBiFunction(Invocation invocation, Supplier<String> toString, int hashCode) {
+			super(invocation, toString, hashCode);
+		}
+
+		@Override
+		public Object apply(Object t, Object u) {
+			return invocation.invoke(new Object[]{t, u});
+		}
+	}
+
+	private static class JavaPredicate extends GeneratedFunction implements Predicate<Object> {
+		private JavaPredicate(Invocation invocation, Supplier<String> toString, int hashCode) {
+			super(invocation, toString, hashCode);
+		}
+
+		@Override
+		public boolean test(Object t) {
+			return (Boolean) invocation.invoke(new Object[]{t});
+		}
+	}
+
+	private static class JavaComparator extends GeneratedFunction implements Comparator<Object> {
+		private JavaComparator(Invocation invocation, Supplier<String> toString, int hashCode) {
+			super(invocation, toString, hashCode);
+		}
+
+		@Override
+		public int compare(Object o1, Object o2) {
+			return (Integer) invocation.invoke(new Object[]{o1, o2});
+		}
+	}
+
+	private static class JavaSupplier extends GeneratedFunction implements Supplier<Object> {
+		private JavaSupplier(Invocation invocation, Supplier<String> toString, int hashCode) {
+			super(invocation, toString, hashCode);
+		}
+
+		@Override
+		public Object get() {
+			return invocation.invoke(NO_ARGS);
+		}
+	}
+}
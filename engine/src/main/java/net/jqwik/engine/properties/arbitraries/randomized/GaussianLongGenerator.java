@@ -0,0 +1,40 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.engine.properties.arbitraries.randomized.LongDistribution.*;
+
+class GaussianLongGenerator implements RandomLongGenerator {
+	private final double borderSigma;
+	private final long min;
+	private final long max;
+	private final long center;
+	private final long leftRange;
+	private final long rightRange;
+
+	GaussianLongGenerator(double borderSigma, long min, long max, long center) {
+		this.borderSigma = borderSigma;
+		this.min = min;
+		this.max = max;
+		this.center = center;
+		this.leftRange = center - min;
+		this.rightRange = max - center;
+	}
+
+	@Override
+	public long next(Random random) {
+		while (true) {
+			double gaussianFactor = random.nextGaussian() / borderSigma;
+			long value = center;
+			if (gaussianFactor < 0.0 && leftRange > 0) {
+				value = center - (long) (leftRange * -gaussianFactor);
+			}
+			if (gaussianFactor > 0.0 && rightRange > 0) {
+				value = center + (long) (rightRange * gaussianFactor);
+			}
+			if (value >= min && value <= max) {
+				return value;
+			}
+		}
+	}
+}
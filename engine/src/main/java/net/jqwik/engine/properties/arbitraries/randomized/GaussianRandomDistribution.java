@@ -4,7 +4,7 @@ import java.math.*;
 
 import net.jqwik.api.*;
 
-public class GaussianRandomDistribution implements RandomDistribution {
+public class GaussianRandomDistribution implements RandomDistribution, LongDistribution {
 
 	private final double borderSigma;
 
@@ -20,6 +20,11 @@ public class GaussianRandomDistribution implements RandomDistribution {
 		return new GaussianNumericGenerator(borderSigma, min, max, center);
 	}
 
+	@Override
+	public RandomLongGenerator createLongGenerator(int genSize, long min, long max, long center) {
+		return new GaussianLongGenerator(borderSigma, min, max, center);
+	}
+
 	@Override
 	public String toString() {
 		return String.format("GaussianDistribution(%s)", borderSigma);
@@ -11,8 +11,10 @@ public class InjectDuplicatesGenerator<T> implements RandomGenerator<T> {
 	private final RandomGenerator<T> base;
 	private final double duplicateProbability;
 
-	public InjectDuplicatesGenerator(RandomGenerator<T> base, double duplicateProbability) {this.base = base;
+	public InjectDuplicatesGenerator(RandomGenerator<T> base, double duplicateProbability) {
+		this.base = base;
 		this.duplicateProbability = duplicateProbability;
+		Memoize.statefulGeneratorCreated();
 	}
 
 	@Override
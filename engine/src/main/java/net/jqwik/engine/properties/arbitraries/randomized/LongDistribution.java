@@ -0,0 +1,16 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Implemented by jqwik's own distributions to generate numbers within a range of long values
+ * without going through {@linkplain java.math.BigInteger}.
+ */
+interface LongDistribution {
+
+	interface RandomLongGenerator {
+		long next(Random random);
+	}
+
+	RandomLongGenerator createLongGenerator(int genSize, long min, long max, long center);
+}
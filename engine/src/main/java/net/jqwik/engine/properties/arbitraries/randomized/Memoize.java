@@ -0,0 +1,110 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Memoizes generators by arbitrary identity and genSize for the duration of a property.
+ * That way repeated {@code lazyOf} expansions reuse already created generators,
+ * e.g. with their partition tables, across tries.
+ *
+ * <p>
+ * Generators that hold state between values, e.g. {@linkplain UniqueGenerator},
+ * are never memoized. Neither are generators that contain such a generator.
+ * </p>
+ */
+public class Memoize {
+
+	private static final int MAX_MEMOIZED_GENERATORS = 1000;
+
+	// Counts creation of stateful generators to detect them during generator creation.
+	// Contract: Every generator that keeps state between values must call statefulGeneratorCreated()
+	// when it is created. Currently these are UniqueGenerator and InjectDuplicatesGenerator.
+	// Memoization, parallel parameter generation and bulk sampling rely on this to be complete;
+	// a stateful generator that does not report itself would be shared between tries or threads.
+	private static final ThreadLocal<int[]> statefulGeneratorsCreated = ThreadLocal.withInitial(() -> new int[1]);
+
+	public static <T> RandomGenerator<T> memoizedGenerator(Arbitrary<T> arbitrary, int genSize) {
+		if (CurrentTestDescriptor.isEmpty()) {
+			// Outside a jqwik context there is no property to scope the memoized generators
+			return arbitrary.generator(genSize);
+		}
+		Map<Key, RandomGenerator<?>> generators = generatorsStore().get();
+		Key key = new Key(arbitrary, genSize);
+		synchronized (generators) {
+			RandomGenerator<?> memoized = generators.get(key);
+			if (memoized != null) {
+				// The key's arbitrary only creates generators of its own type T
+				@SuppressWarnings("unchecked")
+				RandomGenerator<T> memoizedGenerator = (RandomGenerator<T>) memoized;
+				return memoizedGenerator;
+			}
+		}
+
+		int[] statefulCount = statefulGeneratorsCreated.get();
+		int countBefore = statefulCount[0];
+		// Not using computeIfAbsent since creating a generator can memoize other generators
+		RandomGenerator<T> generator = arbitrary.generator(genSize);
+		if (statefulCount[0] == countBefore) {
+			synchronized (generators) {
+				generators.put(key, generator);
+			}
+		}
+		return generator;
+	}
+
+	/**
+	 * Must be called by every generator that keeps state between generated values
+	 */
+	static void statefulGeneratorCreated() {
+		statefulGeneratorsCreated.get()[0]++;
+	}
+
+	/**
+	 * The number of stateful generators created in this thread so far.
+	 * Compare the count before and after creating a generator to find out
+	 * if the generator or any generator it contains holds state.
+	 */
+	public static int countStatefulGeneratorsCreated() {
+		return statefulGeneratorsCreated.get()[0];
+	}
+
+	private static Store<Map<Key, RandomGenerator<?>>> generatorsStore() {
+		return Store.getOrCreate(
+			Tuple.of(Memoize.class, "generators"),
+			Lifespan.PROPERTY,
+			() -> new LinkedHashMap<Key, RandomGenerator<?>>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, RandomGenerator<?>> eldest) {
+					return size() > MAX_MEMOIZED_GENERATORS;
+				}
+			}
+		);
+	}
+
+	private static class Key {
+		private final Arbitrary<?> arbitrary;
+		private final int genSize;
+
+		private Key(Arbitrary<?> arbitrary, int genSize) {
+			this.arbitrary = arbitrary;
+			this.genSize = genSize;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Key key = (Key) o;
+			return arbitrary == key.arbitrary && genSize == key.genSize;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(arbitrary) + genSize;
+		}
+	}
+}
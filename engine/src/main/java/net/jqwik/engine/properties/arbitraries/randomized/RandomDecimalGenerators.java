@@ -4,6 +4,8 @@ import java.math.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.randomized.LongDistribution.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class RandomDecimalGenerators {
 
@@ -14,11 +16,7 @@ public class RandomDecimalGenerators {
 		RandomDistribution distribution,
 		BigDecimal shrinkingTarget
 	) {
-		checkRangeIsSound(range, scale);
-
-		if (scale < 0) {
-			throw new JqwikException(String.format("Scale [%s] must be positive.", scale));
-		}
+		checkRangeAndScale(range, scale);
 
 		if (range.isSingular()) {
 			return ignored -> Shrinkable.unshrinkable(range.min);
@@ -32,6 +30,94 @@ public class RandomDecimalGenerators {
 		return scaledBigDecimalGenerator(unscaledBigIntegerGenerator, scale);
 	}
 
+	/**
+	 * Generates doubles from unscaled long values if all values in range can be represented that way
+	 * and if the distribution supports it. Otherwise falls back to unscaled BigInteger values.
+	 */
+	public static RandomGenerator<Double> doubles(
+		int genSize,
+		Range<BigDecimal> range,
+		int scale,
+		RandomDistribution distribution,
+		BigDecimal shrinkingTarget
+	) {
+		checkRangeAndScale(range, scale);
+
+		Range<BigInteger> unscaledRange = unscaledBigIntegerRange(range, scale);
+		if (!isRepresentableByShrinkableDouble(unscaledRange, scale) || !(distribution instanceof LongDistribution)) {
+			if (range.isSingular()) {
+				double value = range.min.doubleValue();
+				return ignored -> Shrinkable.unshrinkable(value);
+			}
+			BigInteger unscaledShrinkingTarget = unscaledBigInteger(shrinkingTarget, scale);
+			BigInteger divisor = BigInteger.TEN.pow(scale);
+			return RandomIntegralGenerators
+					   .bigIntegers(genSize, unscaledRange.min, unscaledRange.max, unscaledShrinkingTarget, distribution)
+					   .map(unscaledValue -> scaledDouble(unscaledValue, divisor));
+		}
+
+		long unscaledTarget = unscaledBigInteger(shrinkingTarget, scale).longValueExact();
+		Range<Long> unscaledLongRange = unscaledRange.map(BigInteger::longValueExact);
+		checkTargetInRange(unscaledLongRange, unscaledTarget);
+
+		RandomLongGenerator unscaledGenerator = ((LongDistribution) distribution).createLongGenerator(
+			genSize,
+			unscaledLongRange.min,
+			unscaledLongRange.max,
+			unscaledTarget
+		);
+		return random -> new ShrinkableDouble(unscaledGenerator.next(random), unscaledLongRange, unscaledTarget, scale);
+	}
+
+	/**
+	 * Returns the double closest to {@code unscaledValue / divisor}, which is the same as
+	 * {@code new BigDecimal(unscaledValue, scale).doubleValue()} for {@code divisor = 10^scale}
+	 * but does not go through the decimal's string representation for big unscaled values.
+	 */
+	static double scaledDouble(BigInteger unscaledValue, BigInteger divisor) {
+		if (unscaledValue.signum() == 0) {
+			return 0.0;
+		}
+		BigInteger magnitude = unscaledValue.abs();
+		// Quotient needs at least 55 bits so that its lowest bit is below the rounding position
+		int shift = Math.max(0, 65 + divisor.bitLength() - magnitude.bitLength());
+		BigInteger[] quotientAndRemainder = magnitude.shiftLeft(shift).divideAndRemainder(divisor);
+		BigInteger quotient = quotientAndRemainder[0];
+		if (quotientAndRemainder[1].signum() != 0) {
+			// Mark an inexact quotient so that it cannot be rounded like an exact tie
+			quotient = quotient.setBit(0);
+		}
+		double value = Math.scalb(quotient.doubleValue(), -shift);
+		if (value < Double.MIN_NORMAL) {
+			// Scaling a subnormal value would round twice
+			BigDecimal decimal = new BigDecimal(unscaledValue).divide(new BigDecimal(divisor));
+			return decimal.doubleValue();
+		}
+		return unscaledValue.signum() < 0 ? -value : value;
+	}
+
+	public static boolean isRepresentableByShrinkableDouble(Range<BigInteger> unscaledRange, int scale) {
+		BigInteger maxUnscaled = BigInteger.valueOf(ShrinkableDouble.MAX_UNSCALED_VALUE);
+		return scale <= ShrinkableDouble.MAX_SCALE
+				   && unscaledRange.min.compareTo(maxUnscaled.negate()) >= 0
+				   && unscaledRange.max.compareTo(maxUnscaled) <= 0;
+	}
+
+	private static void checkTargetInRange(Range<Long> range, long value) {
+		if (!range.includes(value)) {
+			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
+			throw new JqwikException(message);
+		}
+	}
+
+	private static void checkRangeAndScale(Range<BigDecimal> range, int scale) {
+		checkRangeIsSound(range, scale);
+
+		if (scale < 0) {
+			throw new JqwikException(String.format("Scale [%s] must be positive.", scale));
+		}
+	}
+
 	private static void checkRangeIsSound(Range<BigDecimal> range, int scale) {
 		if (range.minIncluded || range.maxIncluded) {
 			return;
@@ -41,8 +41,12 @@ public class RandomGenerators {
 		return choose(validCharacters);
 	}
 
-	public static RandomGenerator<Character> chars(char min, char max) {
-		return integers(min, max).map(anInt -> ((char) (int) anInt));
+	public static RandomGenerator<Character> chars(CharacterRanges ranges) {
+		if (ranges.isEmpty()) {
+			return fail("empty set of values");
+		}
+		int size = ranges.size();
+		return random -> new ShrinkableCharacter(random.nextInt(size), ranges);
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
@@ -86,6 +90,16 @@ public class RandomGenerators {
 		return container(elementGenerator, createShrinkable, minSize, maxSize, cutoffSize);
 	}
 
+	public static <T> RandomGenerator<Iterable<T>> lazyElements(
+		RandomGenerator<T> elementGenerator, int minSize, int maxSize, int cutoffSize
+	) {
+		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
+		return random -> {
+			int size = sizeGenerator.apply(random);
+			return new ShrinkableLazyElements<>(elementGenerator, size, random.nextLong(), minSize, maxSize);
+		};
+	}
+
 	public static <T> RandomGenerator<T> oneOf(List<RandomGenerator<T>> all) {
 		return choose(all).flatMap(Function.identity());
 	}
@@ -134,7 +148,7 @@ public class RandomGenerators {
 			return random -> randomSize(random, minSize, maxSize);
 		// Choose size below cutoffSize with probability of 0.9
 		return random -> {
-			if (random.nextDouble() > 0.1)
+			if (random.nextDouble() < 0.9)
 				return randomSize(random, minSize, cutoffSize);
 			else
 				return randomSize(random, cutoffSize + 1, maxSize);
@@ -182,6 +196,37 @@ public class RandomGenerators {
 		};
 	}
 
+	public static <K, V> RandomGenerator<Map<K, V>> map(
+		RandomGenerator<K> keyGenerator, RandomGenerator<V> valueGenerator, int minSize, int maxSize, int cutoffSize
+	) {
+		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
+		return random -> {
+			int mapSize = sizeGenerator.apply(random);
+			List<Shrinkable<Map.Entry<K, V>>> entries = new ArrayList<>(mapSize);
+			Set<K> keys = new HashSet<>();
+			MaxTriesLoop.loop(
+				() -> entries.size() < mapSize,
+				ignore -> {
+					Shrinkable<K> key = keyGenerator.next(random);
+					if (!keys.add(key.value())) {
+						return Tuple.of(false, ignore);
+					}
+					Shrinkable<V> value = valueGenerator.next(random);
+					entries.add(ShrinkableMap.entry(key, value));
+					return Tuple.of(false, ignore);
+				},
+				maxMisses -> {
+					String message = String.format(
+						"Generating keys for map of size %s missed more than %s times.",
+						mapSize, maxMisses
+					);
+					return new JqwikException(message);
+				}
+			);
+			return new ShrinkableMap<>(entries, minSize, maxSize);
+		};
+	}
+
 	public static <T> RandomGenerator<T> samplesFromShrinkables(List<Shrinkable<T>> samples) {
 		AtomicInteger tryCount = new AtomicInteger(0);
 		return ignored -> {
@@ -9,16 +9,19 @@ class SmallUniformNumericGenerator implements RandomDistribution.RandomNumericGe
 
 	private final int min;
 	private final int max;
+	private final boolean fromMax;
 
-	SmallUniformNumericGenerator(BigInteger min, BigInteger max) {
+	SmallUniformNumericGenerator(BigInteger min, BigInteger max, boolean fromMax) {
 		this.min = min.intValueExact();
 		this.max = max.intValueExact();
+		this.fromMax = fromMax;
 	}
 
 	@Override
 	public BigInteger next(Random random) {
 		int bound = Math.abs(max - min) + 1;
-		int value = random.nextInt(bound >= 0 ? bound : Integer.MAX_VALUE) + min;
+		int offset = random.nextInt(bound >= 0 ? bound : Integer.MAX_VALUE);
+		int value = fromMax ? max - offset : offset + min;
 		return BigInteger.valueOf(value);
 	}
 }
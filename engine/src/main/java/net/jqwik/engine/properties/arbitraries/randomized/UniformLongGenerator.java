@@ -0,0 +1,55 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.engine.properties.arbitraries.randomized.LongDistribution.*;
+
+class UniformLongGenerator implements RandomLongGenerator {
+
+	private final long min;
+	private final long max;
+	private final long bound;
+	private final boolean fromMax;
+
+	/**
+	 * max - min + 1 must not overflow
+	 *
+	 * @param fromMax if true a random offset of 0 results in {@code max} instead of {@code min}
+	 */
+	UniformLongGenerator(long min, long max, boolean fromMax) {
+		this.min = min;
+		this.max = max;
+		this.bound = max - min + 1;
+		this.fromMax = fromMax;
+	}
+
+	@Override
+	public long next(Random random) {
+		long offset = nextOffset(random);
+		return fromMax ? max - offset : min + offset;
+	}
+
+	private long nextOffset(Random random) {
+		if (bound <= Integer.MAX_VALUE) {
+			return random.nextInt((int) bound);
+		}
+		while (true) {
+			long bits = random.nextLong() >>> 1;
+			long value = bits % bound;
+			// Reject values from the incomplete last block to avoid a modulo bias
+			if (bits - value + (bound - 1) >= 0) {
+				return value;
+			}
+		}
+	}
+
+	long distanceTo(long center) {
+		if (center < min) {
+			return min - center;
+		}
+		if (center > max) {
+			return center - max;
+		}
+		return 0;
+	}
+}
@@ -4,7 +4,7 @@ import java.math.*;
 
 import net.jqwik.api.*;
 
-public class UniformRandomDistribution implements RandomDistribution {
+public class UniformRandomDistribution implements RandomDistribution, LongDistribution {
 
 	@Override
 	public RandomNumericGenerator createGenerator(
@@ -13,15 +13,22 @@ public class UniformRandomDistribution implements RandomDistribution {
 		BigInteger max,
 		BigInteger center
 	) {
+		// Values are drawn as offsets from max only if center is max
+		boolean fromMax = center.equals(max) && !center.equals(min);
 		// Small number generation can be faster
 		if (isWithinIntegerRange(min, max)) {
-			return new SmallUniformNumericGenerator(min, max);
+			return new SmallUniformNumericGenerator(min, max, fromMax);
 		} else {
-			return new BigUniformNumericGenerator(min, max);
+			return new BigUniformNumericGenerator(min, max, fromMax);
 		}
 
 	}
 
+	@Override
+	public RandomLongGenerator createLongGenerator(int genSize, long min, long max, long center) {
+		return new UniformLongGenerator(min, max, center == max && center != min);
+	}
+
 	private static boolean isWithinIntegerRange(BigInteger min, BigInteger max) {
 		return min.compareTo(BigInteger.valueOf(Integer.MIN_VALUE)) >= 0
 			&& max.compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) <= 0;
@@ -11,9 +11,12 @@ import net.jqwik.engine.properties.shrinking.*;
 public class UniqueGenerator<T> implements RandomGenerator<T> {
 	private final RandomGenerator<T> toFilter;
 	private final Set<T> usedValues = Collections.synchronizedSet(new HashSet<>());
+	// Not looked up on construction because many generators never generate a value
+	private FilterStatistics.Counter counter;
 
 	public UniqueGenerator(RandomGenerator<T> toFilter) {
 		this.toFilter = toFilter;
+		Memoize.statefulGeneratorCreated();
 	}
 
 	@Override
@@ -29,17 +32,24 @@ public class UniqueGenerator<T> implements RandomGenerator<T> {
 		return String.format("Unique [%s]", toFilter);
 	}
 
+	private FilterStatistics.Counter counter() {
+		if (counter == null) {
+			// There is no predicate to tell unique generators apart so they are merged by the kind of generator they filter
+			counter = FilterStatistics.counterFor(Tuple.of(UniqueGenerator.class, toFilter.getClass()), toString());
+		}
+		return counter;
+	}
+
 	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
+		FilterStatistics.Counter counter = counter();
 		return MaxTriesLoop.loop(
 			() -> true,
 			next -> {
 				next = fetchShrinkable.apply(random);
 				T value = next.value();
-				if (usedValues.contains(value)) {
-					return Tuple.of(false, next);
-				}
-				usedValues.add(value);
-				return Tuple.of(true, next);
+				boolean accepted = usedValues.add(value);
+				counter.count(accepted);
+				return Tuple.of(accepted, next);
 			},
 			maxMisses -> {
 				String message = String.format("%s missed more than %s times.", toString(), maxMisses);
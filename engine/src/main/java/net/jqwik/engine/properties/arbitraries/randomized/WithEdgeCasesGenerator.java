@@ -5,6 +5,7 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 class WithEdgeCasesGenerator<T> implements RandomGenerator<T> {
 
@@ -20,6 +21,10 @@ class WithEdgeCasesGenerator<T> implements RandomGenerator<T> {
 
 	@Override
 	public Shrinkable<T> next(final Random random) {
+		// Injected edge cases could not be shrunk towards regular values through recorded choices
+		if (random instanceof ChoiceSequenceRandom) {
+			return base.next(random);
+		}
 		if (random.nextInt(baseToEdgeCaseRatio) == 0) {
 			return edgeCasesGenerator.next(random);
 		} else {
@@ -0,0 +1,101 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A random that records all choices drawn from it so that generation can later be replayed.
+ * When replaying, choices are taken from a given sequence and 0 is used after it is exhausted.
+ * Since some generators never finish with zeros only - e.g. {@linkplain Random#nextGaussian()} -
+ * replaying fails after {@linkplain #MAX_CHOICES_BEYOND_REPLAYED} additional choices.
+ */
+public class ChoiceSequenceRandom extends Random {
+
+	public static final int MAX_CHOICES_BEYOND_REPLAYED = 1000;
+
+	public static ChoiceSequenceRandom recording(Random source) {
+		return new ChoiceSequenceRandom(source, null);
+	}
+
+	public static ChoiceSequenceRandom replaying(int[] choices) {
+		return new ChoiceSequenceRandom(null, choices);
+	}
+
+	private final Random source;
+	private final int[] toReplay;
+
+	private int[] choices = new int[16];
+	private int size = 0;
+
+	private ChoiceSequenceRandom(Random source, int[] toReplay) {
+		this.source = source;
+		this.toReplay = toReplay;
+	}
+
+	@Override
+	protected int next(int bits) {
+		int choice;
+		if (source != null) {
+			choice = source.nextInt() >>> (32 - bits);
+		} else {
+			choice = choiceToReplay() & mask(bits);
+		}
+		record(choice);
+		return choice;
+	}
+
+	/**
+	 * Bounded choices are recorded as the drawn value itself so that lowering a choice
+	 * also lowers the value; {@linkplain Random#nextInt(int)} would map it through a modulo.
+	 */
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		int choice;
+		if (source != null) {
+			choice = source.nextInt(bound);
+		} else {
+			choice = choiceToReplay();
+			if (choice < 0 || choice >= bound) {
+				choice = 0;
+			}
+		}
+		record(choice);
+		return choice;
+	}
+
+	private int choiceToReplay() {
+		if (size < toReplay.length) {
+			return toReplay[size];
+		}
+		if (size - toReplay.length >= MAX_CHOICES_BEYOND_REPLAYED) {
+			String message = String.format(
+				"Replaying %s choices needed more than %s additional choices",
+				toReplay.length, MAX_CHOICES_BEYOND_REPLAYED
+			);
+			throw new JqwikException(message);
+		}
+		return 0;
+	}
+
+	private static int mask(int bits) {
+		return bits == 32 ? -1 : (1 << bits) - 1;
+	}
+
+	private void record(int choice) {
+		if (size == choices.length) {
+			choices = Arrays.copyOf(choices, size * 2);
+		}
+		choices[size++] = choice;
+	}
+
+	/**
+	 * @return the choices that have been drawn so far
+	 */
+	public int[] choices() {
+		return Arrays.copyOf(choices, size);
+	}
+}
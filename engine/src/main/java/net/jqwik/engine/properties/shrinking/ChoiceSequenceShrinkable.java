@@ -0,0 +1,149 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A value that is represented by the sequence of random choices its generator has drawn.
+ * Shrinking deletes, zeroes and lowers choices and then replays generation with the changed sequence.
+ * A replayed candidate is only used if its value is simpler, i.e. if the distance of the generated
+ * shrinkable is smaller or - for equal distances - if its choice sequence is shorter or lower.
+ */
+public class ChoiceSequenceShrinkable<T> implements Shrinkable<T> {
+
+	private static final int[] BLOCK_SIZES = {8, 4, 2, 1};
+
+	private final RandomGenerator<T> generator;
+	private final int[] choices;
+	private final Shrinkable<T> generated;
+
+	public ChoiceSequenceShrinkable(RandomGenerator<T> generator, int[] choices, Shrinkable<T> generated) {
+		this.generator = generator;
+		this.choices = choices;
+		this.generated = generated;
+	}
+
+	@Override
+	public T value() {
+		return generated.value();
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> shrink() {
+		return JqwikStreamSupport.concat(
+			deleteBlocks(),
+			zeroBlocks(),
+			lowerChoices()
+		).map(this::replay)
+		 .filter(Optional::isPresent)
+		 .map(Optional::get)
+		 // Smaller choices do not necessarily lead to simpler values
+		 .filter(this::isSimplerThanThis)
+		 .map(Function.identity());
+	}
+
+	private boolean isSimplerThanThis(ChoiceSequenceShrinkable<T> candidate) {
+		int compareDistance = candidate.distance().compareTo(distance());
+		if (compareDistance != 0) {
+			return compareDistance < 0;
+		}
+		return candidate.choicesDistance().compareTo(choicesDistance()) < 0;
+	}
+
+	private Stream<int[]> deleteBlocks() {
+		return Arrays.stream(BLOCK_SIZES).boxed().flatMap(
+			blockSize -> IntStream.rangeClosed(0, choices.length - blockSize).mapToObj(start -> {
+				int[] candidate = new int[choices.length - blockSize];
+				System.arraycopy(choices, 0, candidate, 0, start);
+				System.arraycopy(choices, start + blockSize, candidate, start, choices.length - start - blockSize);
+				return candidate;
+			})
+		);
+	}
+
+	private Stream<int[]> zeroBlocks() {
+		return Arrays.stream(BLOCK_SIZES).boxed().flatMap(
+			blockSize -> IntStream.rangeClosed(0, choices.length - blockSize)
+								  .filter(start -> !isZero(start, blockSize))
+								  .mapToObj(start -> {
+									  int[] candidate = choices.clone();
+									  Arrays.fill(candidate, start, start + blockSize, 0);
+									  return candidate;
+								  })
+		);
+	}
+
+	private boolean isZero(int start, int blockSize) {
+		for (int i = start; i < start + blockSize; i++) {
+			if (choices[i] != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Stream<int[]> lowerChoices() {
+		return IntStream.range(0, choices.length)
+						.filter(index -> choices[index] != 0)
+						.boxed()
+						.flatMap(index -> {
+							BigInteger choice = BigInteger.valueOf(Integer.toUnsignedLong(choices[index]));
+							return new BigIntegerShrinker(BigInteger.ZERO)
+									   .shrink(choice)
+									   .filter(lowered -> lowered.signum() > 0)
+									   .sorted()
+									   .map(lowered -> {
+										   int[] candidate = choices.clone();
+										   candidate[index] = lowered.intValue();
+										   return candidate;
+									   });
+						});
+	}
+
+	private Optional<ChoiceSequenceShrinkable<T>> replay(int[] candidateChoices) {
+		ChoiceSequenceRandom random = ChoiceSequenceRandom.replaying(candidateChoices);
+		try {
+			Shrinkable<T> regenerated = generator.next(random);
+			return Optional.of(new ChoiceSequenceShrinkable<>(generator, random.choices(), regenerated));
+		} catch (RuntimeException cannotGenerateFromChoices) {
+			// Generation may fail for some choice sequences, e.g. when a filter is never satisfied
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return generated.distance();
+	}
+
+	private ShrinkingDistance choicesDistance() {
+		long sumOfChoices = 0;
+		for (int choice : choices) {
+			sumOfChoices += Integer.toUnsignedLong(choice);
+		}
+		return ShrinkingDistance.of(choices.length, sumOfChoices);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ChoiceSequenceShrinkable<?> that = (ChoiceSequenceShrinkable<?>) o;
+		return Arrays.equals(choices, that.choices);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(choices);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ChoiceSequenceShrinkable<%s>(%s choices:%s)", value(), choices.length, choicesDistance());
+	}
+}
@@ -0,0 +1,53 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Removes chunks of decreasing size from a list in the spirit of delta debugging (ddmin):
+ * First each half is removed, then each quarter and so on until single elements are removed.
+ *
+ * <p>
+ * Large irrelevant parts of a list are thereby removed in a few tries.
+ * Since the last round removes each single element, a list for which no candidate is accepted
+ * any longer is 1-minimal. Candidates are created lazily so that only tried candidates are created.
+ * </p>
+ */
+public class ChunkRemovalShrinker {
+
+	public <T> Stream<List<T>> shrink(List<T> toShrink, int minSize) {
+		int size = toShrink.size();
+		if (size <= minSize) {
+			return Stream.empty();
+		}
+		Set<List<Integer>> removedChunks = new HashSet<>();
+		return chunkSizes(size)
+				   .flatMap(chunkSize -> chunks(size, chunkSize))
+				   .filter(chunk -> size - (chunk[1] - chunk[0]) >= minSize)
+				   .filter(chunk -> removedChunks.add(Arrays.asList(chunk[0], chunk[1])))
+				   .map(chunk -> removeChunk(toShrink, chunk[0], chunk[1]));
+	}
+
+	private Stream<Integer> chunkSizes(int size) {
+		List<Integer> chunkSizes = new ArrayList<>();
+		int chunkSize = size;
+		do {
+			chunkSize = (chunkSize + 1) / 2;
+			chunkSizes.add(chunkSize);
+		} while (chunkSize > 1);
+		return chunkSizes.stream();
+	}
+
+	private Stream<int[]> chunks(int size, int chunkSize) {
+		return IntStream.iterate(0, start -> start + chunkSize)
+						.limit((size + chunkSize - 1) / chunkSize)
+						.mapToObj(start -> new int[]{start, Math.min(start + chunkSize, size)});
+	}
+
+	private <T> List<T> removeChunk(List<T> toShrink, int start, int end) {
+		List<T> candidate = new ArrayList<>(toShrink.size() - (end - start));
+		candidate.addAll(toShrink.subList(0, start));
+		candidate.addAll(toShrink.subList(end, toShrink.size()));
+		return candidate;
+	}
+}
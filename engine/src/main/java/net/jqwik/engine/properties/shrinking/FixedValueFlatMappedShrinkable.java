@@ -13,10 +13,24 @@ public class FixedValueFlatMappedShrinkable<T, U> extends FlatMappedShrinkable<T
 		Function<T, Shrinkable<U>> mapper,
 		Supplier<Shrinkable<U>> shrinkableSupplier
 	) {
-		super(toMap, mapper);
+		this(toMap, mapper, mapper, shrinkableSupplier);
+	}
+
+	FixedValueFlatMappedShrinkable(
+		Shrinkable<T> toMap,
+		Function<T, Shrinkable<U>> mapper,
+		Function<T, Shrinkable<U>> rightSides,
+		Supplier<Shrinkable<U>> shrinkableSupplier
+	) {
+		super(toMap, mapper, rightSides);
 		this.shrinkableSupplier = shrinkableSupplier;
 	}
 
+	@Override
+	public U value() {
+		return shrinkableSupplier.get().value();
+	}
+
 	@Override
 	protected Shrinkable<U> shrinkable() {
 		return shrinkableSupplier.get();
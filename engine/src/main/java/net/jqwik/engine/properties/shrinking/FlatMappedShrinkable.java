@@ -10,8 +10,14 @@ import net.jqwik.engine.support.*;
 
 public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 
+	private static final int MAX_MEMOIZED_RIGHT_SIDES = 1000;
+
 	private final Shrinkable<T> toMap;
 	private final Function<T, Shrinkable<U>> mapper;
+	private final Function<T, Shrinkable<U>> rightSides;
+
+	private Shrinkable<U> shrinkable;
+	private ShrinkingDistance distance;
 
 	public FlatMappedShrinkable(Shrinkable<T> toMap, Function<T, Arbitrary<U>> toArbitraryMapper, int genSize, long randomSeed) {
 		this(toMap, t -> toArbitraryMapper.apply(t).generator(genSize), randomSeed);
@@ -22,12 +28,32 @@ public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 	}
 
 	protected FlatMappedShrinkable(Shrinkable<T> toMap, Function<T, Shrinkable<U>> mapper) {
+		this(toMap, mapper, memoizeRightSides(mapper));
+	}
+
+	protected FlatMappedShrinkable(Shrinkable<T> toMap, Function<T, Shrinkable<U>> mapper, Function<T, Shrinkable<U>> rightSides) {
 		this.toMap = toMap;
 		this.mapper = mapper;
+		this.rightSides = rightSides;
+	}
+
+	// The right side only depends on the left value. All shrinkables derived from
+	// the same flat mapping share already generated right sides for shrinking.
+	// Values are always generated by the original mapper, because mappers can
+	// return or modify mutable objects that must not be shared between values.
+	private static <T, U> Function<T, Shrinkable<U>> memoizeRightSides(Function<T, Shrinkable<U>> mapper) {
+		Map<T, Shrinkable<U>> rightSides = Collections.synchronizedMap(
+			new LinkedHashMap<T, Shrinkable<U>>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<T, Shrinkable<U>> eldest) {
+					return size() > MAX_MEMOIZED_RIGHT_SIDES;
+				}
+			});
+		return t -> rightSides.computeIfAbsent(t, mapper);
 	}
 
 	private Shrinkable<U> generateShrinkable(T value) {
-		return mapper.apply(value);
+		return rightSides.apply(value);
 	}
 
 	@Override
@@ -43,7 +69,7 @@ public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 		final ShrinkingDistance rightDistance = shrinkable().distance();
 		return shrinkable().shrink()
 						   .filter(s -> s.distance().size() <= rightDistance.size())
-						   .map(rightSide -> new FixedValueFlatMappedShrinkable<>(toMap, mapper, () -> rightSide));
+						   .map(rightSide -> new FixedValueFlatMappedShrinkable<>(toMap, mapper, rightSides, () -> rightSide));
 	}
 
 	private Stream<Shrinkable<U>> shrinkLeftSide() {
@@ -51,32 +77,38 @@ public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 		return toMap.shrink()
 					// Seems to make shrinking less effective in some cases:
 					// .filter(s -> s.distance().size() <= leftDistance.size())
-					.map(shrunkLeftSide -> new FlatMappedShrinkable<>(shrunkLeftSide, mapper));
+					.map(shrunkLeftSide -> new FlatMappedShrinkable<>(shrunkLeftSide, mapper, rightSides));
 	}
 
 	private Stream<Shrinkable<U>> growRightSide() {
 		return shrinkable().grow()
-						   .map(rightSide -> new FixedValueFlatMappedShrinkable<>(toMap, mapper, () -> rightSide));
+						   .map(rightSide -> new FixedValueFlatMappedShrinkable<>(toMap, mapper, rightSides, () -> rightSide));
 	}
 
 	private Stream<Shrinkable<U>> shrinkLeftGrowRightSide() {
 		return toMap.shrink()
-					.map(shrunkLeftSide -> new FlatMappedShrinkable<>(shrunkLeftSide, mapper))
+					.map(shrunkLeftSide -> new FlatMappedShrinkable<>(shrunkLeftSide, mapper, rightSides))
 					.flatMap(FlatMappedShrinkable::growRightSide);
 	}
 
 	@Override
 	public U value() {
-		return shrinkable().value();
+		return mapper.apply(toMap.value()).value();
 	}
 
 	protected Shrinkable<U> shrinkable() {
-		return generateShrinkable(toMap.value());
+		if (shrinkable == null) {
+			shrinkable = generateShrinkable(toMap.value());
+		}
+		return shrinkable;
 	}
 
 	@Override
 	public ShrinkingDistance distance() {
-		return toMap.distance().append(shrinkable().distance());
+		if (distance == null) {
+			distance = toMap.distance().append(shrinkable().distance());
+		}
+		return distance;
 	}
 
 	@Override
@@ -0,0 +1,89 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * A sequence of elements that are generated only when they are iterated over.
+ * It keeps track of how many elements have been read so that reporting and shrinking
+ * can ignore the rest.
+ */
+public class LazyElements<T> implements Iterable<T> {
+
+	/**
+	 * Wrap already generated elements, e.g. edge cases, so that they are reported like lazy ones
+	 */
+	public static <T> LazyElements<T> of(List<T> elements) {
+		return new LazyElements<>(elements::get, elements.size(), new AtomicInteger(0));
+	}
+
+	private final IntFunction<T> valueAt;
+	private final int size;
+	private final AtomicInteger read;
+
+	LazyElements(IntFunction<T> valueAt, int size, AtomicInteger read) {
+		this.valueAt = valueAt;
+		this.size = size;
+		this.read = read;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int countRead() {
+		return read.get();
+	}
+
+	public List<T> readValues() {
+		return IntStream.range(0, read.get())
+						.mapToObj(valueAt)
+						.collect(Collectors.toList());
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new LazyIterator();
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+	}
+
+	@Override
+	public String toString() {
+		String unread = read.get() < size ? "..." : "";
+		return JqwikStringSupport.displayString(readValues()) + unread;
+	}
+
+	private class LazyIterator implements Iterator<T> {
+
+		private int index = 0;
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			T value = valueAt.apply(index);
+			index++;
+			read.accumulateAndGet(index, Math::max);
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return LazyElements.this.toString();
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * A character that is represented by its index in a table of character ranges.
+ * Shrinking goes towards index 0, i.e. the first character of the first range.
+ */
+public class ShrinkableCharacter extends AbstractValueShrinkable<Character> {
+
+	private final int index;
+	private final CharacterRanges ranges;
+
+	public ShrinkableCharacter(int index, CharacterRanges ranges) {
+		super(ranges.charAt(index));
+		this.index = index;
+		this.ranges = ranges;
+	}
+
+	@Override
+	public Stream<Shrinkable<Character>> shrink() {
+		return new BigIntegerShrinker(BigInteger.ZERO)
+				   .shrink(BigInteger.valueOf(index))
+				   .map(candidate -> createShrinkable(candidate.intValue()))
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	@Override
+	public Optional<Shrinkable<Character>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		if (before instanceof ShrinkableCharacter && after instanceof ShrinkableCharacter) {
+			int diff = ((ShrinkableCharacter) before).index - ((ShrinkableCharacter) after).index;
+			if (diff != 0) {
+				int grownIndex = index + diff;
+				if (grownIndex >= 0 && grownIndex < ranges.size()) {
+					return Optional.of(createShrinkable(grownIndex));
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public Stream<Shrinkable<Character>> grow() {
+		int lastIndex = ranges.size() - 1;
+		return IntStream.of(index + 1, index + 10, lastIndex / 2, lastIndex)
+						.filter(grownIndex -> grownIndex > index && grownIndex <= lastIndex)
+						.distinct()
+						.mapToObj(this::createShrinkable);
+	}
+
+	private Shrinkable<Character> createShrinkable(int newIndex) {
+		return new ShrinkableCharacter(newIndex, ranges);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(index);
+	}
+}
@@ -0,0 +1,113 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A double value that is represented by an unscaled long value and a scale.
+ * Only use it if unscaled values and powers of ten up to scale can be represented exactly as double:
+ * In that case the value is the double closest to the decimal value.
+ */
+public class ShrinkableDouble extends AbstractValueShrinkable<Double> {
+
+	public static final long MAX_UNSCALED_VALUE = 1L << 53;
+	public static final int MAX_SCALE = 22;
+
+	private static final double[] DOUBLE_POWERS_OF_TEN = new double[MAX_SCALE + 1];
+	private static final long[] LONG_POWERS_OF_TEN = new long[19];
+
+	static {
+		DOUBLE_POWERS_OF_TEN[0] = 1.0;
+		for (int i = 1; i < DOUBLE_POWERS_OF_TEN.length; i++) {
+			DOUBLE_POWERS_OF_TEN[i] = DOUBLE_POWERS_OF_TEN[i - 1] * 10;
+		}
+		LONG_POWERS_OF_TEN[0] = 1L;
+		for (int i = 1; i < LONG_POWERS_OF_TEN.length; i++) {
+			LONG_POWERS_OF_TEN[i] = LONG_POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	private final long unscaledValue;
+	private final Range<Long> unscaledRange;
+	private final long unscaledTarget;
+	private final int scale;
+
+	public ShrinkableDouble(long unscaledValue, Range<Long> unscaledRange, long unscaledTarget, int scale) {
+		super(unscaledValue / DOUBLE_POWERS_OF_TEN[scale]);
+		this.unscaledValue = unscaledValue;
+		this.unscaledRange = unscaledRange;
+		this.unscaledTarget = unscaledTarget;
+		this.scale = scale;
+		checkValueInRange(unscaledValue);
+	}
+
+	@Override
+	public Stream<Shrinkable<Double>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkToFewerDecimalPlaces(),
+			shrinkTowardsTarget(),
+			shrinkNegativeToPositive()
+		);
+	}
+
+	// Try values with as few decimal places as possible first
+	private Stream<Shrinkable<Double>> shrinkToFewerDecimalPlaces() {
+		int maxPlacesToRemove = Math.min(scale, LONG_POWERS_OF_TEN.length - 1);
+		return IntStream.iterate(maxPlacesToRemove, places -> places - 1)
+						.limit(maxPlacesToRemove)
+						.mapToLong(places -> roundTowardsTarget(LONG_POWERS_OF_TEN[places]))
+						.distinct()
+						.filter(candidate -> distanceTo(candidate) < distanceTo(unscaledValue))
+						.filter(unscaledRange::includes)
+						.mapToObj(this::createShrinkable);
+	}
+
+	private long roundTowardsTarget(long unit) {
+		long roundedDown = Math.floorDiv(unscaledValue, unit) * unit;
+		if (unscaledValue > unscaledTarget || roundedDown == unscaledValue) {
+			return roundedDown;
+		}
+		return roundedDown + unit;
+	}
+
+	private Stream<Shrinkable<Double>> shrinkTowardsTarget() {
+		return new BigIntegerShrinker(BigInteger.valueOf(unscaledTarget))
+				   .shrink(BigInteger.valueOf(unscaledValue))
+				   .map(candidate -> createShrinkable(candidate.longValue()))
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private Stream<Shrinkable<Double>> shrinkNegativeToPositive() {
+		if (unscaledValue >= 0) {
+			return Stream.empty();
+		}
+		return Stream.of(-unscaledValue)
+					 .filter(unscaledRange::includes)
+					 .map(this::createShrinkable);
+	}
+
+	private Shrinkable<Double> createShrinkable(long unscaledCandidate) {
+		return new ShrinkableDouble(unscaledCandidate, unscaledRange, unscaledTarget, scale);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(distanceTo(unscaledValue));
+	}
+
+	private long distanceTo(long unscaled) {
+		return Math.abs(unscaled - unscaledTarget);
+	}
+
+	private void checkValueInRange(long value) {
+		if (!unscaledRange.includes(value)) {
+			String message = String.format("Value <%s> is outside allowed range %s", value, unscaledRange);
+			throw new JqwikException(message);
+		}
+	}
+}
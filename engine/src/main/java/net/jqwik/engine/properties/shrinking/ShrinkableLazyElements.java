@@ -0,0 +1,141 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * Elements are generated on demand, each one from its own random derived from {@code seed}
+ * and its position. Only the elements that have been read take part in shrinking;
+ * the remaining elements are cut off as far as minSize allows and stay lazy.
+ */
+public class ShrinkableLazyElements<T> implements Shrinkable<Iterable<T>> {
+
+	private final RandomGenerator<T> elementGenerator;
+	// Elements in front of the lazy part, e.g. shrunk elements
+	private final List<Shrinkable<T>> prefix;
+	// Position of the first lazy element in the originally generated sequence
+	private final long tailStart;
+	private final int size;
+	private final long seed;
+	private final int minSize;
+	private final int maxSize;
+	private final AtomicInteger read = new AtomicInteger(0);
+
+	// Shrinkables of the elements read so far. They are only needed for shrinking and
+	// are therefore not kept while values are generated.
+	private final List<Shrinkable<T>> readElements = new ArrayList<>();
+	private ShrinkingDistance distance;
+	private int distanceForRelevantSize = -1;
+
+	public ShrinkableLazyElements(RandomGenerator<T> elementGenerator, int size, long seed, int minSize, int maxSize) {
+		this(elementGenerator, Collections.emptyList(), 0, size, seed, minSize, maxSize);
+	}
+
+	private ShrinkableLazyElements(
+		RandomGenerator<T> elementGenerator,
+		List<Shrinkable<T>> prefix,
+		long tailStart,
+		int size,
+		long seed,
+		int minSize,
+		int maxSize
+	) {
+		this.elementGenerator = elementGenerator;
+		this.prefix = prefix;
+		this.tailStart = tailStart;
+		this.size = size;
+		this.seed = seed;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public Iterable<T> value() {
+		return new LazyElements<>(index -> elementAt(index).value(), size, read);
+	}
+
+	private Shrinkable<T> elementAt(int index) {
+		if (index < prefix.size()) {
+			return prefix.get(index);
+		}
+		long position = tailStart + index - prefix.size();
+		return elementGenerator.next(SourceOfRandomness.newRandom(seed, position));
+	}
+
+	@Override
+	public Stream<Shrinkable<Iterable<T>>> shrink() {
+		List<Shrinkable<T>> relevantElements = relevantElements();
+		long newTailStart = tailStart + relevantElements.size() - prefix.size();
+		int unread = size - relevantElements.size();
+		int requiredUnread = Math.max(0, minSize - relevantElements.size());
+
+		Stream<Shrinkable<Iterable<T>>> cutOffUnread =
+			unread > requiredUnread
+				? Stream.of(withPrefix(relevantElements, newTailStart, requiredUnread))
+				: Stream.empty();
+
+		int minSizeOfRelevantPart = Math.max(0, minSize - requiredUnread);
+		Stream<Shrinkable<Iterable<T>>> shrinkRelevantPart =
+			new ShrinkableList<>(relevantElements, minSizeOfRelevantPart, maxSize)
+				.shrink()
+				.map(candidate -> {
+					List<Shrinkable<T>> shrunkElements = ((ShrinkableList<T>) candidate).elements;
+					return withPrefix(shrunkElements, newTailStart, requiredUnread);
+				});
+
+		return Stream.concat(cutOffUnread, shrinkRelevantPart);
+	}
+
+	private Shrinkable<Iterable<T>> withPrefix(List<Shrinkable<T>> newPrefix, long newTailStart, int lazySize) {
+		return new ShrinkableLazyElements<>(
+			elementGenerator,
+			newPrefix,
+			newTailStart,
+			newPrefix.size() + lazySize,
+			seed,
+			minSize,
+			maxSize
+		);
+	}
+
+	private int relevantSize() {
+		return Math.min(Math.max(read.get(), prefix.size()), size);
+	}
+
+	// Elements that have not been read do not influence the result
+	private synchronized List<Shrinkable<T>> relevantElements() {
+		int relevantSize = relevantSize();
+		for (int index = readElements.size(); index < relevantSize; index++) {
+			readElements.add(elementAt(index));
+		}
+		return new ArrayList<>(readElements);
+	}
+
+	/**
+	 * Only elements that have been read contribute to the distance.
+	 * The distance can therefore grow while the value is being used;
+	 * it is only recomputed when more elements have been read since the last call.
+	 */
+	@Override
+	public synchronized ShrinkingDistance distance() {
+		if (distanceForRelevantSize != relevantSize()) {
+			List<Shrinkable<T>> relevantElements = relevantElements();
+			ShrinkingDistance sumDistanceOfElements =
+				relevantElements.stream()
+								.map(Shrinkable::distance)
+								.reduce(ShrinkingDistance.of(0), ShrinkingDistance::plus);
+			distance = ShrinkingDistance.of(size).append(sumDistanceOfElements);
+			distanceForRelevantSize = relevantElements.size();
+		}
+		return distance;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShrinkableLazyElements<%s>(%s:%s)", size, value(), distance());
+	}
+}
@@ -0,0 +1,71 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A map that is represented by a list of entries, each of which shrinks its key and its value
+ * independently. Shrunk candidates with duplicate keys are not considered.
+ */
+public class ShrinkableMap<K, V> extends ShrinkableContainer<Map<K, V>, Map.Entry<K, V>> {
+
+	@SuppressWarnings("unchecked")
+	public static <K, V> Shrinkable<Map.Entry<K, V>> entry(Shrinkable<K> key, Shrinkable<V> value) {
+		List<Shrinkable<Object>> parts = Arrays.asList((Shrinkable<Object>) key, (Shrinkable<Object>) value);
+		return new CombinedShrinkable<>(parts, keyAndValue -> new AbstractMap.SimpleImmutableEntry<>(
+			(K) keyAndValue.get(0),
+			(V) keyAndValue.get(1)
+		));
+	}
+
+	public ShrinkableMap(List<Shrinkable<Map.Entry<K, V>>> entries, int minSize, int maxSize) {
+		super(entries, minSize, maxSize);
+	}
+
+	@Override
+	public Stream<Shrinkable<Map<K, V>>> shrink() {
+		// Removing entries cannot introduce duplicate keys but shrinking keys can
+		return JqwikStreamSupport.concat(
+			shrinkSizeOfList(),
+			shrinkElementsOneAfterTheOther().filter(ShrinkableMap::hasUniqueKeys),
+			shrinkPairsOfElements().filter(ShrinkableMap::hasUniqueKeys)
+		);
+	}
+
+	@Override
+	protected boolean hasReallyGrown(Shrinkable<Map<K, V>> grownShrinkable) {
+		return hasUniqueKeys(grownShrinkable)
+				   && grownShrinkable.value().size() > elements.size();
+	}
+
+	private static boolean hasUniqueKeys(Shrinkable<? extends Map<?, ?>> shrinkableMap) {
+		Set<Object> keys = new HashSet<>();
+		for (Shrinkable<? extends Map.Entry<?, ?>> entry : ((ShrinkableMap<?, ?>) shrinkableMap).elements) {
+			if (!keys.add(entry.value().getKey())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	Collector<Map.Entry<K, V>, ?, Map<K, V>> containerCollector() {
+		// Collectors.toMap() does not allow null values
+		return Collector.of(
+			HashMap::new,
+			(map, entry) -> map.put(entry.getKey(), entry.getValue()),
+			(left, right) -> {
+				left.putAll(right);
+				return left;
+			}
+		);
+	}
+
+	@Override
+	Shrinkable<Map<K, V>> createShrinkable(List<Shrinkable<Map.Entry<K, V>>> shrunkElements) {
+		return new ShrinkableMap<>(shrunkElements, minSize, maxSize);
+	}
+}
@@ -10,4 +10,20 @@ interface ActionGenerator<M> {
 	Action<M> next(M model);
 
 	List<Shrinkable<Action<M>>> generated();
+
+	/**
+	 * Fast-forward through all actions whose outcome is known from {@code checkpoints}
+	 * and return the checkpoint to resume from.
+	 * Returns null if runs of this generator should not be checkpointed.
+	 */
+	default ModelCheckpoints<M>.Checkpoint resume(ModelCheckpoints<M> checkpoints) {
+		return null;
+	}
+
+	/**
+	 * Actions that were skipped because of a failing precondition during the last call to {@linkplain #next(Object)}
+	 */
+	default List<Shrinkable<Action<M>>> lastSkipped() {
+		return Collections.emptyList();
+	}
 }
@@ -1,18 +1,28 @@
 package net.jqwik.engine.properties.stateful;
 
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.stateful.*;
 
 class ActionSequenceGenerator<M> implements RandomGenerator<ActionSequence<M>> {
 	private final int genSize;
 	private final int minSize;
 	private final int maxSize;
-	private final Arbitrary<Action<M>> actionArbitrary;
+	private final List<Tuple2<Predicate<? super M>, Arbitrary<Action<M>>>> actionArbitraries;
+	private final Tuple2<Function<? super M, ?>, Function<?, ? extends M>> snapshotAndRestore;
 
-	ActionSequenceGenerator(Arbitrary<Action<M>> actionArbitrary, int genSize, int minSize, int maxSize) {
-		this.actionArbitrary = actionArbitrary;
+	ActionSequenceGenerator(
+		List<Tuple2<Predicate<? super M>, Arbitrary<Action<M>>>> actionArbitraries,
+		Tuple2<Function<? super M, ?>, Function<?, ? extends M>> snapshotAndRestore,
+		int genSize,
+		int minSize,
+		int maxSize
+	) {
+		this.actionArbitraries = actionArbitraries;
+		this.snapshotAndRestore = snapshotAndRestore;
 		this.genSize = genSize;
 		this.minSize = minSize;
 		this.maxSize = maxSize;
@@ -20,8 +30,12 @@ class ActionSequenceGenerator<M> implements RandomGenerator<ActionSequence<M>> {
 
 	@Override
 	public Shrinkable<ActionSequence<M>> next(Random random) {
-		ActionGenerator<M> actionGenerator = new RandomActionGenerator<>(actionArbitrary, genSize, random);
-		return new ShrinkableActionSequence<>(actionGenerator, minSize, maxSize, ShrinkingDistance.of(maxSize));
+		ActionGenerator<M> actionGenerator = new RandomActionGenerator<>(actionArbitraries, genSize, random);
+		// Each generated sequence has its own checkpoints which are shared by all its shrunk sequences
+		ModelCheckpoints<M> checkpoints =
+			snapshotAndRestore == null ? null
+				: new ModelCheckpoints<>(snapshotAndRestore.get1(), snapshotAndRestore.get2());
+		return new ShrinkableActionSequence<>(actionGenerator, minSize, maxSize, ShrinkingDistance.of(maxSize), checkpoints);
 	}
 
 }
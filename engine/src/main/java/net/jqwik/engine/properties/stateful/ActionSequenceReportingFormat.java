@@ -13,10 +13,23 @@ public class ActionSequenceReportingFormat implements SampleReportingFormat {
 
 	@Override
 	public Object report(Object value) {
+		if (value instanceof ParallelActionSequence) {
+			return reportParallel((ParallelActionSequence<?>) value);
+		}
 		ActionSequence sequence = (ActionSequence) value;
 		return sequence.runActions();
 	}
 
+	private Object reportParallel(ParallelActionSequence<?> sequence) {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("prefix", sequence.prefix());
+		List<? extends List<?>> threads = sequence.threads();
+		for (int i = 0; i < threads.size(); i++) {
+			report.put("thread " + (i + 1), threads.get(i));
+		}
+		return report;
+	}
+
 	@Override
 	public Optional<String> label(Object value) {
 		ActionSequence sequence = (ActionSequence) value;
@@ -1,19 +1,25 @@
 package net.jqwik.engine.properties.stateful;
 
+import java.util.*;
+import java.util.function.*;
+
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.stateful.*;
 import net.jqwik.engine.properties.arbitraries.*;
 
 public class DefaultActionSequenceArbitrary<M> extends AbstractArbitraryBase implements ActionSequenceArbitrary<M> {
 
-	private final Arbitrary<Action<M>> actionArbitrary;
+	private List<Tuple2<Predicate<? super M>, Arbitrary<Action<M>>>> actionArbitraries = new ArrayList<>();
+	private Tuple2<Function<? super M, ?>, Function<?, ? extends M>> snapshotAndRestore = null;
 
 	private int minSize = 1;
 	private int maxSize = 0;
+	private int threads = 0;
 
 	public DefaultActionSequenceArbitrary(Arbitrary<? extends Action<M>> actionArbitrary) {
 		//noinspection unchecked
-		this.actionArbitrary = (Arbitrary<Action<M>>) actionArbitrary;
+		this.actionArbitraries.add(Tuple.of(model -> true, (Arbitrary<Action<M>>) actionArbitrary));
 	}
 
 	@Override
@@ -30,12 +36,45 @@ public class DefaultActionSequenceArbitrary<M> extends AbstractArbitraryBase imp
 		return clone;
 	}
 
+	@Override
+	public ActionSequenceArbitrary<M> withActions(Predicate<? super M> applicable, Arbitrary<? extends Action<M>> actionArbitrary) {
+		DefaultActionSequenceArbitrary<M> clone = typedClone();
+		clone.actionArbitraries = new ArrayList<>(actionArbitraries);
+		//noinspection unchecked
+		clone.actionArbitraries.add(Tuple.of(applicable, (Arbitrary<Action<M>>) actionArbitrary));
+		return clone;
+	}
+
+	@Override
+	public <S> ActionSequenceArbitrary<M> withSnapshots(Function<? super M, ? extends S> snapshot, Function<? super S, ? extends M> restore) {
+		DefaultActionSequenceArbitrary<M> clone = typedClone();
+		clone.snapshotAndRestore = Tuple.of(snapshot, restore);
+		return clone;
+	}
+
+	@Override
+	public ActionSequenceArbitrary<M> inParallel(int threads) {
+		if (threads < 2) {
+			String message = String.format("Number of threads must be at least 2 but was %s", threads);
+			throw new IllegalArgumentException(message);
+		}
+		DefaultActionSequenceArbitrary<M> clone = typedClone();
+		clone.threads = threads;
+		return clone;
+	}
+
 	@Override
 	public RandomGenerator<ActionSequence<M>> generator(int genSize) {
 		final int effectiveMaxSize =
 			maxSize != 0 ? maxSize
 				: (int) Math.max(Math.round(Math.sqrt(genSize)), 10);
-		return new ActionSequenceGenerator<>(actionArbitrary, genSize, minSize, effectiveMaxSize);
+		if (threads > 0) {
+			if (snapshotAndRestore == null) {
+				throw new JqwikException("Sequences in parallel require snapshots. Use withSnapshots(..) to provide them.");
+			}
+			return new ParallelActionSequenceGenerator<>(actionArbitraries, snapshotAndRestore, threads, genSize, minSize, effectiveMaxSize);
+		}
+		return new ActionSequenceGenerator<>(actionArbitraries, snapshotAndRestore, genSize, minSize, effectiveMaxSize);
 	}
 
 	@Override
@@ -0,0 +1,113 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.stateful.*;
+
+/**
+ * Snapshots of the model taken while running shrunk action sequences.
+ *
+ * <p>
+ * Checkpoints form a tree: Each checkpoint holds the snapshot after executing one more action
+ * than its parent. Actions are identified by their shrinkable so that a sequence which shares a prefix
+ * with an already executed sequence can restore the snapshot at the end of that prefix
+ * instead of running all prefix actions again. Actions that were skipped because of a failing precondition
+ * are remembered as well since they can be skipped again without checking.
+ * </p>
+ *
+ * <p>
+ * The model state must only depend on the executed actions, i.e. each run of a sequence
+ * starts with an equivalent model and actions are deterministic.
+ * </p>
+ */
+class ModelCheckpoints<M> {
+
+	private static final int MAX_CHECKPOINTS = 1000;
+
+	private final Function<M, Object> snapshot;
+	private final Function<Object, M> restore;
+
+	private Checkpoint root = new Checkpoint(null, null, null);
+	private int countCheckpoints = 0;
+
+	@SuppressWarnings("unchecked")
+	ModelCheckpoints(Function<? super M, ?> snapshot, Function<?, ? extends M> restore) {
+		this.snapshot = (Function<M, Object>) snapshot;
+		this.restore = (Function<Object, M>) restore;
+	}
+
+	Checkpoint root() {
+		// Start over instead of evicting single checkpoints. Recent runs are most likely to be shrunk further.
+		if (countCheckpoints >= MAX_CHECKPOINTS) {
+			root = new Checkpoint(null, null, null);
+			countCheckpoints = 0;
+		}
+		return root;
+	}
+
+	class Checkpoint {
+		private final Checkpoint parent;
+		private final Shrinkable<Action<M>> executed;
+		private final Object snapshot;
+		private final Map<Shrinkable<Action<M>>, Checkpoint> children = new IdentityHashMap<>();
+		private final Set<Shrinkable<Action<M>>> skipped = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		private Checkpoint(Checkpoint parent, Shrinkable<Action<M>> executed, Object snapshot) {
+			this.parent = parent;
+			this.executed = executed;
+			this.snapshot = snapshot;
+		}
+
+		boolean isRoot() {
+			return parent == null;
+		}
+
+		Optional<Checkpoint> afterExecuting(Shrinkable<Action<M>> action) {
+			return Optional.ofNullable(children.get(action));
+		}
+
+		boolean wasSkipped(Shrinkable<Action<M>> action) {
+			return skipped.contains(action);
+		}
+
+		void skip(Shrinkable<Action<M>> action) {
+			skipped.add(action);
+		}
+
+		/**
+		 * Record the model after executing {@code action}.
+		 * Returns null if no more checkpoints can be recorded in this run.
+		 */
+		Checkpoint execute(Shrinkable<Action<M>> action, M model) {
+			Checkpoint child = children.get(action);
+			if (child != null) {
+				return child;
+			}
+			if (countCheckpoints >= MAX_CHECKPOINTS) {
+				return null;
+			}
+			child = new Checkpoint(this, action, ModelCheckpoints.this.snapshot.apply(model));
+			children.put(action, child);
+			countCheckpoints++;
+			return child;
+		}
+
+		/**
+		 * A new model instance for every call
+		 */
+		M restoreModel() {
+			return restore.apply(snapshot);
+		}
+
+		List<Shrinkable<Action<M>>> executedActions() {
+			List<Shrinkable<Action<M>>> actions = new ArrayList<>();
+			for (Checkpoint checkpoint = this; !checkpoint.isRoot(); checkpoint = checkpoint.parent) {
+				actions.add(checkpoint.executed);
+			}
+			Collections.reverse(actions);
+			return actions;
+		}
+	}
+}
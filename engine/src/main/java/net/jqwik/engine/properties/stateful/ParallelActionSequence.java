@@ -0,0 +1,460 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.stateful.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Runs a prefix of actions sequentially and then the actions of each thread in parallel on the same model.
+ *
+ * <p>
+ * The actions of a thread are generated before the parallel run by running them sequentially on a model
+ * restored from the snapshot after the prefix. Only actions whose preconditions hold in all interleavings
+ * are kept since preconditions cannot be checked while running in parallel.
+ * </p>
+ */
+class ParallelActionSequence<M> implements ActionSequence<M> {
+
+	// Deadlocks would otherwise block the property forever
+	private static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+	private final ActionGenerator<M> prefixGenerator;
+	private final List<ActionGenerator<M>> threadGenerators;
+	private final int intendedPrefixSize;
+	private final int intendedThreadSize;
+	private final Function<M, Object> snapshot;
+	private final Function<Object, M> restore;
+	private final long timeoutMillis;
+
+	private final List<Action<M>> prefix = new ArrayList<>();
+	private final List<List<Action<M>>> threads = new ArrayList<>();
+	private final List<List<Shrinkable<Action<M>>>> threadShrinkables = new ArrayList<>();
+	private final List<Tuple2<String, Invariant<M>>> invariants = new ArrayList<>();
+	private final List<Consumer<M>> peekers = new ArrayList<>();
+
+	private RunState runState = RunState.NOT_RUN;
+	private M currentModel = null;
+
+	ParallelActionSequence(
+		ActionGenerator<M> prefixGenerator,
+		List<ActionGenerator<M>> threadGenerators,
+		int intendedPrefixSize,
+		int intendedThreadSize,
+		Function<? super M, ?> snapshot,
+		Function<?, ? extends M> restore
+	) {
+		this(prefixGenerator, threadGenerators, intendedPrefixSize, intendedThreadSize, snapshot, restore, DEFAULT_TIMEOUT_MILLIS);
+	}
+
+	@SuppressWarnings("unchecked")
+	ParallelActionSequence(
+		ActionGenerator<M> prefixGenerator,
+		List<ActionGenerator<M>> threadGenerators,
+		int intendedPrefixSize,
+		int intendedThreadSize,
+		Function<? super M, ?> snapshot,
+		Function<?, ? extends M> restore,
+		long timeoutMillis
+	) {
+		this.prefixGenerator = prefixGenerator;
+		this.threadGenerators = threadGenerators;
+		this.intendedPrefixSize = intendedPrefixSize;
+		this.intendedThreadSize = intendedThreadSize;
+		this.snapshot = (Function<M, Object>) snapshot;
+		this.restore = (Function<Object, M>) restore;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * The prefix followed by the actions of each thread
+	 */
+	@Override
+	public synchronized List<Action<M>> runActions() {
+		List<Action<M>> runActions = new ArrayList<>(prefix);
+		threads.forEach(runActions::addAll);
+		return runActions;
+	}
+
+	synchronized List<Action<M>> prefix() {
+		return prefix;
+	}
+
+	synchronized List<List<Action<M>>> threads() {
+		return threads;
+	}
+
+	/**
+	 * The shrinkables of each thread's actions. Can be fewer than generated by the thread's generator.
+	 */
+	synchronized List<List<Shrinkable<Action<M>>>> threadShrinkables() {
+		return threadShrinkables;
+	}
+
+	@Override
+	public synchronized M run(M model) {
+		currentModel = model;
+		boolean initialRun = runState == RunState.NOT_RUN;
+		runState = RunState.RUNNING;
+		if (initialRun) {
+			initialRunOfPrefix();
+		} else {
+			repeatedRunOfPrefix();
+		}
+		Object afterPrefix = snapshot.apply(currentModel);
+		if (initialRun) {
+			generateThreads(afterPrefix);
+		}
+		if (size() == 0) {
+			throw new JqwikException("Sequences without actions are invalid");
+		}
+		runThreadsInParallel();
+		checkLinearizability(afterPrefix);
+		runState = RunState.SUCCEEDED;
+		return currentModel;
+	}
+
+	private void initialRunOfPrefix() {
+		for (int i = 0; i < intendedPrefixSize; i++) {
+			Action<M> action;
+			try {
+				action = prefixGenerator.next(currentModel);
+			} catch (NoSuchElementException nsee) {
+				break;
+			}
+			prefix.add(action);
+			runPrefixAction(action);
+		}
+	}
+
+	private void repeatedRunOfPrefix() {
+		for (Action<M> action : prefix) {
+			if (!action.precondition(currentModel)) {
+				throw new TestAbortedException("Precondition violated on repeated run");
+			}
+			runPrefixAction(action);
+		}
+	}
+
+	private void runPrefixAction(Action<M> action) {
+		try {
+			currentModel = action.run(currentModel);
+			callModelPeekersAndCheckInvariants();
+		} catch (InvariantFailedError ife) {
+			runState = RunState.FAILED;
+			throw ife;
+		} catch (Throwable t) {
+			throw failure("Run", t);
+		}
+	}
+
+	// A thread's actions are cut off before the first action whose precondition does not hold in all interleavings
+	private void generateThreads(Object afterPrefix) {
+		for (int i = 0; i < threadGenerators.size(); i++) {
+			threads.add(new ArrayList<>());
+			threadShrinkables.add(new ArrayList<>());
+		}
+		// Interleavings are kept while actions are added so that only new interleavings must be checked
+		Interleavings interleavings = new Interleavings();
+		interleavings.allFulfillPreconditions(afterPrefix);
+		for (int threadIndex = 0; threadIndex < threadGenerators.size(); threadIndex++) {
+			ActionGenerator<M> threadGenerator = threadGenerators.get(threadIndex);
+			List<Action<M>> threadActions = threads.get(threadIndex);
+			List<Shrinkable<Action<M>>> shrinkables = threadShrinkables.get(threadIndex);
+			M model = restore.apply(afterPrefix);
+			for (int i = 0; i < intendedThreadSize; i++) {
+				Action<M> action;
+				try {
+					action = threadGenerator.next(model);
+				} catch (NoSuchElementException nsee) {
+					break;
+				}
+				threadActions.add(action);
+				if (!interleavings.lastActionFulfillsPreconditions(threadIndex)) {
+					threadActions.remove(threadActions.size() - 1);
+					break;
+				}
+				List<Shrinkable<Action<M>>> generated = threadGenerator.generated();
+				shrinkables.add(generated.get(generated.size() - 1));
+				try {
+					model = action.run(model);
+				} catch (Throwable t) {
+					throw failure("Run", t);
+				}
+			}
+		}
+	}
+
+	private void runThreadsInParallel() {
+		M model = currentModel;
+		CountDownLatch start = new CountDownLatch(1);
+		Throwable[] failures = new Throwable[threads.size()];
+		List<Thread> runningThreads = new ArrayList<>();
+		for (int i = 0; i < threads.size(); i++) {
+			int index = i;
+			List<Action<M>> threadActions = threads.get(i);
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+					for (Action<M> action : threadActions) {
+						if (Thread.currentThread().isInterrupted()) {
+							return;
+						}
+						action.run(model);
+					}
+				} catch (Throwable t) {
+					failures[index] = t;
+				}
+			}, "jqwik-parallel-actions-" + (i + 1));
+			thread.setDaemon(true);
+			thread.start();
+			runningThreads.add(thread);
+		}
+		// Release all threads at once to maximize the chance of interfering actions
+		start.countDown();
+		awaitTermination(runningThreads);
+		for (Throwable failure : failures) {
+			if (failure != null) {
+				throw failure("Parallel run", failure);
+			}
+		}
+		try {
+			callModelPeekersAndCheckInvariants();
+		} catch (InvariantFailedError ife) {
+			runState = RunState.FAILED;
+			throw ife;
+		}
+	}
+
+	private void awaitTermination(List<Thread> runningThreads) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		try {
+			for (Thread thread : runningThreads) {
+				try {
+					long millisLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+					thread.join(Math.max(1, millisLeft));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new JqwikException("Interrupted while waiting for parallel actions");
+				}
+				if (thread.isAlive()) {
+					String message = String.format("Parallel actions did not finish within %s ms", timeoutMillis);
+					throw failure("Parallel run", new TimeoutException(message));
+				}
+			}
+		} finally {
+			// Abandoned threads would otherwise go on running actions while later tries use the model
+			runningThreads.stream().filter(Thread::isAlive).forEach(Thread::interrupt);
+		}
+	}
+
+	private void checkLinearizability(Object afterPrefix) {
+		Object finalSnapshot = snapshot.apply(currentModel);
+		if (new Interleavings().anyResultsIn(afterPrefix, finalSnapshot)) {
+			return;
+		}
+		String message = String.format(
+			"No sequential interleaving of parallel actions results in final snapshot %s",
+			JqwikStringSupport.displayString(finalSnapshot)
+		);
+		throw failure("Linearizability check", new AssertionError(message));
+	}
+
+	/**
+	 * Sequential runs of all interleavings of the threads' actions starting from a snapshot.
+	 * Interleavings that reach a state which has already been tried are not followed again.
+	 */
+	private class Interleavings {
+		private final Set<Tuple2<List<Integer>, Object>> triedStates = new HashSet<>();
+
+		// States tried while checking the last added action, to forget them if the action is rejected
+		private List<Tuple2<List<Integer>, Object>> statesOfLastAction = null;
+
+		boolean allFulfillPreconditions(Object start) {
+			return allFulfillPreconditions(start, new int[threads.size()]);
+		}
+
+		/**
+		 * Check only the interleavings that run the last action of thread {@code threadIndex}.
+		 * Together with the states tried so far they cover all interleavings.
+		 */
+		boolean lastActionFulfillsPreconditions(int threadIndex) {
+			List<Action<M>> threadActions = threads.get(threadIndex);
+			int lastPosition = threadActions.size() - 1;
+			List<Tuple2<List<Integer>, Object>> beforeLastAction =
+				triedStates.stream()
+						   .filter(tried -> tried.get1().get(threadIndex) == lastPosition)
+						   .collect(Collectors.toList());
+			statesOfLastAction = new ArrayList<>();
+			try {
+				for (Tuple2<List<Integer>, Object> tried : beforeLastAction) {
+					Object nextState = runSequentially(threadActions.get(lastPosition), tried.get2());
+					int[] positions = tried.get1().stream().mapToInt(Integer::intValue).toArray();
+					positions[threadIndex]++;
+					if (nextState == null || !allFulfillPreconditions(nextState, positions)) {
+						triedStates.removeAll(statesOfLastAction);
+						return false;
+					}
+				}
+				return true;
+			} finally {
+				statesOfLastAction = null;
+			}
+		}
+
+		private boolean allFulfillPreconditions(Object state, int[] positions) {
+			Tuple2<List<Integer>, Object> positionsAndState = Tuple.of(asList(positions), state);
+			if (!triedStates.add(positionsAndState)) {
+				return true;
+			}
+			if (statesOfLastAction != null) {
+				statesOfLastAction.add(positionsAndState);
+			}
+			for (int i = 0; i < positions.length; i++) {
+				if (positions[i] >= threads.get(i).size()) {
+					continue;
+				}
+				Object nextState = runSequentially(threads.get(i).get(positions[i]), state);
+				if (nextState == null) {
+					return false;
+				}
+				positions[i]++;
+				boolean fulfilled = allFulfillPreconditions(nextState, positions);
+				positions[i]--;
+				if (!fulfilled) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		boolean anyResultsIn(Object start, Object finalSnapshot) {
+			return anyResultsIn(start, new int[threads.size()], finalSnapshot);
+		}
+
+		private boolean anyResultsIn(Object state, int[] positions, Object finalSnapshot) {
+			if (!triedStates.add(Tuple.of(asList(positions), state))) {
+				return false;
+			}
+			boolean allActionsRun = true;
+			for (int i = 0; i < positions.length; i++) {
+				if (positions[i] >= threads.get(i).size()) {
+					continue;
+				}
+				allActionsRun = false;
+				Object nextState = runSequentially(threads.get(i).get(positions[i]), state);
+				if (nextState == null) {
+					continue;
+				}
+				positions[i]++;
+				boolean found = anyResultsIn(nextState, positions, finalSnapshot);
+				positions[i]--;
+				if (found) {
+					return true;
+				}
+			}
+			return allActionsRun && state.equals(finalSnapshot);
+		}
+
+		// Returns null if the action's precondition does not hold
+		private Object runSequentially(Action<M> action, Object state) {
+			M model = restore.apply(state);
+			if (!action.precondition(model)) {
+				return null;
+			}
+			try {
+				return snapshot.apply(action.run(model));
+			} catch (Throwable t) {
+				throw failure("Run", t);
+			}
+		}
+
+		private List<Integer> asList(int[] positions) {
+			return Arrays.stream(positions).boxed().collect(Collectors.toList());
+		}
+	}
+
+	private void callModelPeekersAndCheckInvariants() {
+		for (Consumer<M> peeker : peekers) {
+			peeker.accept(currentModel);
+		}
+		for (Tuple2<String, Invariant<M>> tuple : invariants) {
+			String label = tuple.get1();
+			Invariant<M> invariant = tuple.get2();
+			try {
+				invariant.check(currentModel);
+			} catch (Throwable t) {
+				String invariantLabel = label == null ? "Invariant" : String.format("Invariant '%s'", label);
+				throw new InvariantFailedError(createErrorMessage(invariantLabel, t.getMessage()), t);
+			}
+		}
+	}
+
+	private AssertionFailedError failure(String name, Throwable cause) {
+		runState = RunState.FAILED;
+		AssertionFailedError assertionFailedError = new AssertionFailedError(createErrorMessage(name, cause.getMessage()), cause);
+		assertionFailedError.setStackTrace(cause.getStackTrace());
+		return assertionFailedError;
+	}
+
+	private String createErrorMessage(String name, String causeMessage) {
+		StringBuilder actionsString = new StringBuilder();
+		actionsString.append(String.format("  prefix: %s", JqwikStringSupport.displayString(prefix)));
+		for (int i = 0; i < threads.size(); i++) {
+			actionsString.append(String.format("%n  thread %s: %s", i + 1, JqwikStringSupport.displayString(threads.get(i))));
+		}
+		return String.format(
+			"%s failed after following actions:%n%s%n  final currentModel: %s%n%s",
+			name,
+			actionsString,
+			JqwikStringSupport.displayString(currentModel),
+			causeMessage
+		);
+	}
+
+	@Override
+	public synchronized ActionSequence<M> withInvariant(String label, Invariant<M> invariant) {
+		invariants.add(Tuple.of(label, invariant));
+		return this;
+	}
+
+	@Override
+	public synchronized ActionSequence<M> peek(Consumer<M> modelPeeker) {
+		peekers.add(modelPeeker);
+		return this;
+	}
+
+	@Override
+	public RunState runState() {
+		return runState;
+	}
+
+	@Override
+	public int size() {
+		if (runState == RunState.NOT_RUN) {
+			return intendedPrefixSize + threadGenerators.size() * intendedThreadSize;
+		}
+		return prefix.size() + threads.stream().mapToInt(List::size).sum();
+	}
+
+	@Override
+	public synchronized M finalModel() {
+		return currentModel;
+	}
+
+	@Override
+	public String toString() {
+		if (runState == RunState.NOT_RUN) {
+			return String.format("ActionSequence[%s]: %s actions intended", runState.name(), size());
+		}
+		String threadsString = threads.stream().map(JqwikStringSupport::displayString).collect(Collectors.joining(" | "));
+		return String.format("ActionSequence[%s]: %s then %s", runState.name(), JqwikStringSupport.displayString(prefix), threadsString);
+	}
+}
@@ -0,0 +1,59 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.stateful.*;
+
+class ParallelActionSequenceGenerator<M> implements RandomGenerator<ActionSequence<M>> {
+
+	// The number of interleavings to check for linearizability grows exponentially with the number of parallel actions
+	private static final int MAX_PARALLEL_ACTIONS = 12;
+
+	private final List<Tuple2<Predicate<? super M>, Arbitrary<Action<M>>>> actionArbitraries;
+	private final Tuple2<Function<? super M, ?>, Function<?, ? extends M>> snapshotAndRestore;
+	private final int threads;
+	private final int genSize;
+	private final int minSize;
+	private final int prefixSize;
+	private final int threadSize;
+
+	ParallelActionSequenceGenerator(
+		List<Tuple2<Predicate<? super M>, Arbitrary<Action<M>>>> actionArbitraries,
+		Tuple2<Function<? super M, ?>, Function<?, ? extends M>> snapshotAndRestore,
+		int threads,
+		int genSize,
+		int minSize,
+		int maxSize
+	) {
+		this.actionArbitraries = actionArbitraries;
+		this.snapshotAndRestore = snapshotAndRestore;
+		this.threads = threads;
+		this.genSize = genSize;
+		this.minSize = minSize;
+		this.threadSize = Math.max(1, Math.min(MAX_PARALLEL_ACTIONS / threads, maxSize / (threads + 1)));
+		this.prefixSize = Math.max(0, maxSize - threads * threadSize);
+	}
+
+	@Override
+	public Shrinkable<ActionSequence<M>> next(Random random) {
+		ActionGenerator<M> prefixGenerator = new RandomActionGenerator<>(actionArbitraries, genSize, random);
+		List<ActionGenerator<M>> threadGenerators = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			threadGenerators.add(new RandomActionGenerator<>(actionArbitraries, genSize, random));
+		}
+		return new ShrinkableParallelActionSequence<>(
+			prefixGenerator,
+			threadGenerators,
+			minSize,
+			prefixSize,
+			threadSize,
+			ShrinkingDistance.of(threads * threadSize, prefixSize + threads * threadSize),
+			snapshotAndRestore.get1(),
+			snapshotAndRestore.get2()
+		);
+	}
+
+}
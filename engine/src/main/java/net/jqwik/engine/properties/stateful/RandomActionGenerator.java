@@ -1,29 +1,54 @@
 package net.jqwik.engine.properties.stateful;
 
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.stateful.*;
+import net.jqwik.engine.properties.*;
 
+/**
+ * Only action arbitraries that are applicable to the current model are used to generate the next action.
+ * That way actions with a failing precondition are rarely generated and must be rejected.
+ * Generators and rejection counters of action arbitraries are created on first use.
+ */
 class RandomActionGenerator<T> implements ActionGenerator<T> {
 
 	private static final int MAX_TRIES = 1000;
 
-	private final RandomGenerator<Action<T>> randomGenerator;
+	private final List<Tuple2<Predicate<? super T>, Arbitrary<Action<T>>>> actionArbitraries;
+	private final List<RandomGenerator<Action<T>>> randomGenerators;
+	private final FilterStatistics.Counter[] counters;
+	private final int genSize;
 	private final Random random;
 	private List<Shrinkable<Action<T>>> shrinkableActions = new ArrayList<>();
 
 	RandomActionGenerator(Arbitrary<Action<T>> actionArbitrary, int genSize, Random random) {
+		this(Collections.singletonList(Tuple.of(model -> true, actionArbitrary)), genSize, random);
+	}
+
+	RandomActionGenerator(List<Tuple2<Predicate<? super T>, Arbitrary<Action<T>>>> actionArbitraries, int genSize, Random random) {
+		this.actionArbitraries = actionArbitraries;
+		this.randomGenerators = new ArrayList<>(Collections.nCopies(actionArbitraries.size(), null));
+		this.counters = new FilterStatistics.Counter[actionArbitraries.size()];
+		this.genSize = genSize;
 		this.random = random;
-		this.randomGenerator = actionArbitrary.generator(genSize);
 	}
 
 	@Override
 	public Action<T> next(T model) {
+		int[] applicable = applicableIndices(model);
+		if (applicable.length == 0) {
+			throw new NoSuchElementException("No action arbitrary is applicable to current model");
+		}
 		int tries = 0;
 		while (tries++ < MAX_TRIES) {
-			Shrinkable<Action<T>> shrinkable = randomGenerator.next(random);
+			// Do not consume random numbers if there is nothing to choose from
+			int index = applicable.length == 1 ? applicable[0] : applicable[random.nextInt(applicable.length)];
+			Shrinkable<Action<T>> shrinkable = generator(index).next(random);
 			boolean precondition = shrinkable.value().precondition(model);
+			counter(index).count(precondition);
 			if (!precondition) {
 				continue;
 			}
@@ -34,6 +59,35 @@ class RandomActionGenerator<T> implements ActionGenerator<T> {
 		throw new NoSuchElementException(message);
 	}
 
+	private int[] applicableIndices(T model) {
+		int[] indices = new int[actionArbitraries.size()];
+		int count = 0;
+		for (int i = 0; i < indices.length; i++) {
+			if (actionArbitraries.get(i).get1().test(model)) {
+				indices[count++] = i;
+			}
+		}
+		return count == indices.length ? indices : Arrays.copyOf(indices, count);
+	}
+
+	private RandomGenerator<Action<T>> generator(int index) {
+		RandomGenerator<Action<T>> generator = randomGenerators.get(index);
+		if (generator == null) {
+			generator = actionArbitraries.get(index).get2().generator(genSize);
+			randomGenerators.set(index, generator);
+		}
+		return generator;
+	}
+
+	private FilterStatistics.Counter counter(int index) {
+		if (counters[index] == null) {
+			Arbitrary<Action<T>> actionArbitrary = actionArbitraries.get(index).get2();
+			String description = String.format("Preconditions of [%s]", actionArbitrary);
+			counters[index] = FilterStatistics.counterFor(actionArbitrary, description);
+		}
+		return counters[index];
+	}
+
 	@Override
 	public List<Shrinkable<Action<T>>> generated() {
 		return shrinkableActions;
@@ -18,16 +18,22 @@ class SequentialActionSequence<M> implements ActionSequence<M> {
 	protected final List<Action<M>> sequence = new ArrayList<>();
 	private final List<Tuple2<String, Invariant<M>>> invariants = new ArrayList<>();
 	private final List<Consumer<M>> peekers = new ArrayList<>();
+	private final ModelCheckpoints<M> checkpoints;
 
 	protected RunState runState = RunState.NOT_RUN;
 	private M currentModel = null;
 
 	SequentialActionSequence(ActionGenerator<M> actionGenerator, int intendedSize) {
+		this(actionGenerator, intendedSize, null);
+	}
+
+	SequentialActionSequence(ActionGenerator<M> actionGenerator, int intendedSize, ModelCheckpoints<M> checkpoints) {
 		if (intendedSize < 1) {
 			throw new IllegalArgumentException("The intended size of an ActionSequence must not be 0");
 		}
 		this.actionGenerator = actionGenerator;
 		this.intendedSize = intendedSize;
+		this.checkpoints = checkpoints;
 	}
 
 	@Override
@@ -52,16 +58,52 @@ class SequentialActionSequence<M> implements ActionSequence<M> {
 
 	private void initialRun() {
 		runState = RunState.RUNNING;
-		for (int i = 0; i < intendedSize; i++) {
+		ModelCheckpoints<M>.Checkpoint checkpoint = resumeFromCheckpoint();
+		for (int i = sequence.size(); i < intendedSize; i++) {
 			Action<M> action;
 			try {
 				action = actionGenerator.next(currentModel);
 			} catch (NoSuchElementException nsee) {
+				recordSkipped(checkpoint);
 				break;
 			}
+			recordSkipped(checkpoint);
 			sequence.add(action);
 			runAction(action);
+			checkpoint = recordExecuted(checkpoint);
+		}
+	}
+
+	// Actions of a resumed prefix are neither run again nor are peekers and invariants called for them
+	private ModelCheckpoints<M>.Checkpoint resumeFromCheckpoint() {
+		if (checkpoints == null) {
+			return null;
+		}
+		ModelCheckpoints<M>.Checkpoint checkpoint = actionGenerator.resume(checkpoints);
+		if (checkpoint != null && !checkpoint.isRoot()) {
+			currentModel = checkpoint.restoreModel();
+			for (Shrinkable<Action<M>> executed : actionGenerator.generated()) {
+				sequence.add(executed.value());
+			}
+		}
+		return checkpoint;
+	}
+
+	private void recordSkipped(ModelCheckpoints<M>.Checkpoint checkpoint) {
+		if (checkpoint == null) {
+			return;
+		}
+		for (Shrinkable<Action<M>> skipped : actionGenerator.lastSkipped()) {
+			checkpoint.skip(skipped);
+		}
+	}
+
+	private ModelCheckpoints<M>.Checkpoint recordExecuted(ModelCheckpoints<M>.Checkpoint checkpoint) {
+		if (checkpoint == null) {
+			return null;
 		}
+		List<Shrinkable<Action<M>>> generated = actionGenerator.generated();
+		return checkpoint.execute(generated.get(generated.size() - 1), currentModel);
 	}
 
 	private void repeatedRun() {
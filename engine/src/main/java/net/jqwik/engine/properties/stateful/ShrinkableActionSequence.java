@@ -14,21 +14,33 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	private final int minSize;
 	private final int maxSize;
 	private final ShrinkingDistance distance;
+	private final ModelCheckpoints<T> checkpoints;
 
 	private SequentialActionSequence<T> generatedSequence = null;
 
 	ShrinkableActionSequence(ActionGenerator<T> actionGenerator, int minSize, int maxSize, ShrinkingDistance distance) {
+		this(actionGenerator, minSize, maxSize, distance, null);
+	}
+
+	ShrinkableActionSequence(
+		ActionGenerator<T> actionGenerator,
+		int minSize,
+		int maxSize,
+		ShrinkingDistance distance,
+		ModelCheckpoints<T> checkpoints
+	) {
 		this.actionGenerator = actionGenerator;
 		this.minSize = minSize;
 		this.maxSize = maxSize;
 		this.distance = distance;
+		this.checkpoints = checkpoints;
 	}
 
 	@Override
 	public ActionSequence<T> value() {
 		// Cannot be recreated on each access because creation takes place on first access and must be preserved for shrinking
 		if (generatedSequence == null) {
-			generatedSequence = new SequentialActionSequence<>(actionGenerator, maxSize);
+			generatedSequence = new SequentialActionSequence<>(actionGenerator, maxSize, checkpoints);
 		}
 		return generatedSequence;
 	}
@@ -45,7 +57,7 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	}
 
 	private Stream<Shrinkable<ActionSequence<T>>> shrinkSequenceOfActions() {
-		return new ComprehensiveSizeOfListShrinker()
+		return new ChunkRemovalShrinker()
 				   .shrink(actionGenerator.generated(), minSize)
 				   .map(this::createShrinkableActionSequence);
 	}
@@ -69,7 +81,7 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	private ShrinkableActionSequence<T> createShrinkableActionSequence(List<Shrinkable<Action<T>>> list) {
 		ActionGenerator<T> newGenerator = new ShrinkablesActionGenerator<>(list);
 		ShrinkingDistance newDistance = ShrinkingDistance.forCollection(list);
-		return new ShrinkableActionSequence<>(newGenerator, minSize, list.size(), newDistance);
+		return new ShrinkableActionSequence<>(newGenerator, minSize, list.size(), newDistance, checkpoints);
 	}
 
 	@Override
@@ -0,0 +1,180 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.stateful.*;
+import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinking removes actions from the threads and from the prefix, moves the first action of a thread
+ * to the end of the prefix and finally shrinks single actions.
+ * Actions that are run in parallel count more than actions of the prefix.
+ */
+class ShrinkableParallelActionSequence<M> implements Shrinkable<ActionSequence<M>> {
+
+	private final ActionGenerator<M> prefixGenerator;
+	private final List<ActionGenerator<M>> threadGenerators;
+	private final int minSize;
+	private final int prefixSize;
+	private final int threadSize;
+	private final ShrinkingDistance distance;
+	private final Function<? super M, ?> snapshot;
+	private final Function<?, ? extends M> restore;
+
+	private ParallelActionSequence<M> generatedSequence = null;
+
+	ShrinkableParallelActionSequence(
+		ActionGenerator<M> prefixGenerator,
+		List<ActionGenerator<M>> threadGenerators,
+		int minSize,
+		int prefixSize,
+		int threadSize,
+		ShrinkingDistance distance,
+		Function<? super M, ?> snapshot,
+		Function<?, ? extends M> restore
+	) {
+		this.prefixGenerator = prefixGenerator;
+		this.threadGenerators = threadGenerators;
+		this.minSize = minSize;
+		this.prefixSize = prefixSize;
+		this.threadSize = threadSize;
+		this.distance = distance;
+		this.snapshot = snapshot;
+		this.restore = restore;
+	}
+
+	@Override
+	public ActionSequence<M> value() {
+		// Cannot be recreated on each access because creation takes place on first access and must be preserved for shrinking
+		if (generatedSequence == null) {
+			generatedSequence = new ParallelActionSequence<>(prefixGenerator, threadGenerators, prefixSize, threadSize, snapshot, restore);
+		}
+		return generatedSequence;
+	}
+
+	@Override
+	public Stream<Shrinkable<ActionSequence<M>>> shrink() {
+		if (generatedSequence == null) {
+			return Stream.empty();
+		}
+		List<Shrinkable<Action<M>>> prefix = prefixGenerator.generated();
+		List<List<Shrinkable<Action<M>>>> threads = generatedSequence.threadShrinkables();
+		return JqwikStreamSupport.concat(
+			removeActionsFromThreads(prefix, threads),
+			removeActionsFromPrefix(prefix, threads),
+			moveActionsToPrefix(prefix, threads),
+			shrinkActionsOneAfterTheOther(prefix, threads)
+		).filter(candidate -> candidate.size() >= minSize)
+		 .map(ParallelCandidate::toShrinkable);
+	}
+
+	private Stream<ParallelCandidate> removeActionsFromThreads(
+		List<Shrinkable<Action<M>>> prefix,
+		List<List<Shrinkable<Action<M>>>> threads
+	) {
+		return IntStream.range(0, threads.size()).boxed().flatMap(
+			index -> new ChunkRemovalShrinker()
+						 .shrink(threads.get(index), 0)
+						 .map(shrunkThread -> new ParallelCandidate(prefix, replaceIn(threads, index, shrunkThread)))
+		);
+	}
+
+	private Stream<ParallelCandidate> removeActionsFromPrefix(
+		List<Shrinkable<Action<M>>> prefix,
+		List<List<Shrinkable<Action<M>>>> threads
+	) {
+		return new ChunkRemovalShrinker()
+				   .shrink(prefix, 0)
+				   .map(shrunkPrefix -> new ParallelCandidate(shrunkPrefix, threads));
+	}
+
+	private Stream<ParallelCandidate> moveActionsToPrefix(
+		List<Shrinkable<Action<M>>> prefix,
+		List<List<Shrinkable<Action<M>>>> threads
+	) {
+		return IntStream.range(0, threads.size())
+						.filter(index -> !threads.get(index).isEmpty())
+						.mapToObj(index -> {
+							List<Shrinkable<Action<M>>> thread = threads.get(index);
+							List<Shrinkable<Action<M>>> extendedPrefix = new ArrayList<>(prefix);
+							extendedPrefix.add(thread.get(0));
+							List<Shrinkable<Action<M>>> shortenedThread = thread.subList(1, thread.size());
+							return new ParallelCandidate(extendedPrefix, replaceIn(threads, index, shortenedThread));
+						});
+	}
+
+	private Stream<ParallelCandidate> shrinkActionsOneAfterTheOther(
+		List<Shrinkable<Action<M>>> prefix,
+		List<List<Shrinkable<Action<M>>>> threads
+	) {
+		Stream<ParallelCandidate> shrinkPrefixActions =
+			shrinkEachAction(prefix).map(shrunkPrefix -> new ParallelCandidate(shrunkPrefix, threads));
+		Stream<ParallelCandidate> shrinkThreadActions = IntStream.range(0, threads.size()).boxed().flatMap(
+			index -> shrinkEachAction(threads.get(index))
+						 .map(shrunkThread -> new ParallelCandidate(prefix, replaceIn(threads, index, shrunkThread)))
+		);
+		return JqwikStreamSupport.concat(shrinkPrefixActions, shrinkThreadActions);
+	}
+
+	private Stream<List<Shrinkable<Action<M>>>> shrinkEachAction(List<Shrinkable<Action<M>>> actions) {
+		return IntStream.range(0, actions.size()).boxed().flatMap(
+			index -> actions.get(index).shrink().map(shrunkAction -> replaceIn(actions, index, shrunkAction))
+		);
+	}
+
+	private static <T> List<T> replaceIn(List<T> list, int index, T replacement) {
+		List<T> copy = new ArrayList<>(list);
+		copy.set(index, replacement);
+		return copy;
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		if (generatedSequence == null) {
+			return distance;
+		}
+		return new ParallelCandidate(prefixGenerator.generated(), generatedSequence.threadShrinkables()).distance();
+	}
+
+	private class ParallelCandidate {
+		private final List<Shrinkable<Action<M>>> prefix;
+		private final List<List<Shrinkable<Action<M>>>> threads;
+
+		private ParallelCandidate(List<Shrinkable<Action<M>>> prefix, List<List<Shrinkable<Action<M>>>> threads) {
+			this.prefix = prefix;
+			this.threads = threads;
+		}
+
+		private int size() {
+			return prefix.size() + threads.stream().mapToInt(List::size).sum();
+		}
+
+		private ShrinkingDistance distance() {
+			List<Shrinkable<Action<M>>> allActions = new ArrayList<>(prefix);
+			threads.forEach(allActions::addAll);
+			long parallelActions = threads.stream().mapToInt(List::size).sum();
+			return ShrinkingDistance.of(parallelActions).append(ShrinkingDistance.forCollection(allActions));
+		}
+
+		private Shrinkable<ActionSequence<M>> toShrinkable() {
+			List<ActionGenerator<M>> newThreadGenerators = threads.stream()
+																  .map(ShrinkablesActionGenerator::new)
+																  .collect(Collectors.toList());
+			int maxThreadSize = threads.stream().mapToInt(List::size).max().orElse(0);
+			return new ShrinkableParallelActionSequence<>(
+				new ShrinkablesActionGenerator<>(prefix),
+				newThreadGenerators,
+				minSize,
+				prefix.size(),
+				maxThreadSize,
+				distance(),
+				snapshot,
+				restore
+			);
+		}
+	}
+}
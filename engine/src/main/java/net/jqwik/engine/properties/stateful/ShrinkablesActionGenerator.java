@@ -7,18 +7,22 @@ import net.jqwik.api.stateful.*;
 
 class ShrinkablesActionGenerator<T> implements ActionGenerator<T> {
 
-	private Iterator<Shrinkable<Action<T>>> iterator;
+	private final List<Shrinkable<Action<T>>> candidates;
+	private int position = 0;
 	private List<Shrinkable<Action<T>>> shrinkables = new ArrayList<>();
+	private final List<Shrinkable<Action<T>>> lastSkipped = new ArrayList<>();
 
 	ShrinkablesActionGenerator(List<Shrinkable<Action<T>>> shrinkables) {
-		iterator = shrinkables.iterator();
+		this.candidates = shrinkables;
 	}
 
 	@Override
 	public Action<T> next(T model) {
-		while (iterator.hasNext()) {
-			Shrinkable<Action<T>> next = iterator.next();
+		lastSkipped.clear();
+		while (position < candidates.size()) {
+			Shrinkable<Action<T>> next = candidates.get(position++);
 			if (!next.value().precondition(model)) {
+				lastSkipped.add(next);
 				continue;
 			}
 			shrinkables.add(next);
@@ -31,4 +35,26 @@ class ShrinkablesActionGenerator<T> implements ActionGenerator<T> {
 	public List<Shrinkable<Action<T>>> generated() {
 		return shrinkables;
 	}
+
+	@Override
+	public ModelCheckpoints<T>.Checkpoint resume(ModelCheckpoints<T> checkpoints) {
+		ModelCheckpoints<T>.Checkpoint current = checkpoints.root();
+		while (position < candidates.size()) {
+			Shrinkable<Action<T>> next = candidates.get(position);
+			Optional<ModelCheckpoints<T>.Checkpoint> afterExecuting = current.afterExecuting(next);
+			if (afterExecuting.isPresent()) {
+				current = afterExecuting.get();
+				shrinkables.add(next);
+			} else if (!current.wasSkipped(next)) {
+				break;
+			}
+			position++;
+		}
+		return current;
+	}
+
+	@Override
+	public List<Shrinkable<Action<T>>> lastSkipped() {
+		return lastSkipped;
+	}
 }
@@ -13,10 +13,7 @@ import static java.util.Arrays.*;
 public class Combinatorics {
 
 	public static <T> Iterator<List<T>> combine(List<Iterable<T>> listOfIterables) {
-		if (listOfIterables.isEmpty()) {
-			return emptyListSingleton();
-		}
-		return new CombinedIterator<>(listOfIterables);
+		return new OdometerCombinations<>(listOfIterables).iterator();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -255,9 +255,20 @@ public class JqwikReflectionSupport {
 		return Arrays
 				   .stream(methods)
 				   .filter(m -> !m.isDefault() && !ModifierSupport.isStatic(m))
+				   .filter(m -> !isPublicObjectMethod(m))
 				   .collect(Collectors.toList());
 	}
 
+	// Abstract redeclarations of Object methods - like Comparator.equals() - do not count as function methods
+	private static boolean isPublicObjectMethod(Method method) {
+		try {
+			Object.class.getMethod(method.getName(), method.getParameterTypes());
+			return true;
+		} catch (NoSuchMethodException notAnObjectMethod) {
+			return false;
+		}
+	}
+
 	public static Optional<Method> getFunctionMethod(Class<?> candidateType) {
 		Method[] methods = candidateType.getMethods();
 		List<Method> candidates = findInterfaceMethods(methods);
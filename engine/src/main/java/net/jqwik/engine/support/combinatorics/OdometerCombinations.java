@@ -0,0 +1,191 @@
+package net.jqwik.engine.support.combinatorics;
+
+import java.util.*;
+
+/**
+ * All combinations of values from a list of iterables, ordered like an odometer:
+ * The last position changes fastest.
+ *
+ * <p>
+ * Every combination has an index in the range {@code 0..size()-1} which can be
+ * converted into its digits (one value index per position) and back again.
+ * That way any range of combinations can be iterated directly.
+ * </p>
+ *
+ * <p>
+ * Only the number of values per position is counted up front.
+ * An iterable is iterated again whenever its position rolls over, just like in nested loops.
+ * Thereby iterables that create new - and maybe mutable - values on each pass
+ * never share a value between combinations.
+ * </p>
+ */
+public class OdometerCombinations<T> {
+
+	private final List<? extends Iterable<T>> iterables;
+	private final int[] radices;
+	private final long size;
+
+	public OdometerCombinations(List<? extends Iterable<T>> iterables) {
+		this.iterables = iterables;
+		this.radices = new int[iterables.size()];
+		for (int i = 0; i < radices.length; i++) {
+			radices[i] = count(iterables.get(i));
+		}
+		this.size = calculateSize(radices);
+	}
+
+	private static <T> int count(Iterable<T> iterable) {
+		int count = 0;
+		for (Iterator<T> iterator = iterable.iterator(); iterator.hasNext(); iterator.next()) {
+			count++;
+		}
+		return count;
+	}
+
+	private static long calculateSize(int[] radices) {
+		long size = 1;
+		for (int radix : radices) {
+			if (radix == 0) {
+				return 0;
+			}
+			if (size > Long.MAX_VALUE / radix) {
+				return Long.MAX_VALUE;
+			}
+			size *= radix;
+		}
+		return size;
+	}
+
+	/**
+	 * The number of combinations. {@code Long.MAX_VALUE} means that there might be even more.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Convert digits, i.e. one value index per position, into the index of the combination.
+	 *
+	 * @throws ArithmeticException if the index does not fit into a long
+	 */
+	public long rank(int[] digits) {
+		if (digits.length != radices.length) {
+			String message = String.format("Number of digits must be %s but was %s", radices.length, digits.length);
+			throw new IllegalArgumentException(message);
+		}
+		long index = 0;
+		for (int position = 0; position < radices.length; position++) {
+			int radix = radices[position];
+			if (digits[position] < 0 || digits[position] >= radix) {
+				String message = String.format("Digit [%s] at position %s must be between 0 and %s", digits[position], position, radix - 1);
+				throw new IllegalArgumentException(message);
+			}
+			index = Math.addExact(Math.multiplyExact(index, radix), digits[position]);
+		}
+		return index;
+	}
+
+	/**
+	 * Convert the index of a combination into its digits, i.e. one value index per position.
+	 */
+	public int[] unrank(long index) {
+		checkIndex(index, size);
+		int[] digits = new int[radices.length];
+		long rest = index;
+		for (int position = radices.length - 1; position >= 0; position--) {
+			int radix = radices[position];
+			digits[position] = (int) (rest % radix);
+			rest /= radix;
+		}
+		return digits;
+	}
+
+	public List<T> get(long index) {
+		checkIndex(index, size);
+		return iterator(index, index + 1, false).next();
+	}
+
+	public Iterator<List<T>> iterator() {
+		return iterator(0, size, false);
+	}
+
+	/**
+	 * Iterate through combinations with index {@code fromIndex} (inclusive) up to {@code toIndex} (exclusive).
+	 *
+	 * @param reuseBuffer If true, all returned lists are the same unmodifiable view on an internal buffer.
+	 *                    Use it only if returned lists are consumed before calling {@code next()} again.
+	 */
+	public Iterator<List<T>> iterator(long fromIndex, long toIndex, boolean reuseBuffer) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			String message = String.format("Range [%s..%s) is not within [0..%s)", fromIndex, toIndex, size);
+			throw new IllegalArgumentException(message);
+		}
+		return new OdometerIterator(fromIndex, toIndex, reuseBuffer);
+	}
+
+	private static void checkIndex(long index, long size) {
+		if (index < 0 || index >= size) {
+			String message = String.format("Index [%s] is not within [0..%s)", index, size);
+			throw new IndexOutOfBoundsException(message);
+		}
+	}
+
+	private class OdometerIterator implements Iterator<List<T>> {
+
+		private final List<Iterator<T>> iterators = new ArrayList<>();
+		private final Object[] buffer = new Object[radices.length];
+		private final List<T> bufferView;
+		private long remaining;
+		private boolean started = false;
+
+		@SuppressWarnings("unchecked")
+		private OdometerIterator(long fromIndex, long toIndex, boolean reuseBuffer) {
+			this.remaining = toIndex - fromIndex;
+			this.bufferView = reuseBuffer ? Collections.unmodifiableList((List<T>) Arrays.asList(buffer)) : null;
+			if (remaining > 0) {
+				int[] digits = unrank(fromIndex);
+				for (int position = 0; position < digits.length; position++) {
+					Iterator<T> iterator = iterables.get(position).iterator();
+					for (int i = 0; i < digits[position]; i++) {
+						iterator.next();
+					}
+					iterators.add(iterator);
+					buffer[position] = iterator.next();
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public List<T> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			// Advance lazily so that a reused buffer is not changed before the caller has consumed it
+			if (started) {
+				advance();
+			}
+			started = true;
+			remaining--;
+			return bufferView != null ? bufferView : (List<T>) new ArrayList<>(Arrays.asList(buffer));
+		}
+
+		private void advance() {
+			for (int position = buffer.length - 1; position >= 0; position--) {
+				Iterator<T> iterator = iterators.get(position);
+				if (iterator.hasNext()) {
+					buffer[position] = iterator.next();
+					return;
+				}
+				iterator = iterables.get(position).iterator();
+				iterators.set(position, iterator);
+				buffer[position] = iterator.next();
+			}
+		}
+	}
+}
@@ -15,7 +15,9 @@ public class SetIterator<T> implements Iterator<Set<T>> {
 		for (int i = 0; i < setSize; i++) {
 			iterables.add(elementIterable);
 		}
-		combinedListIterator = new CombinedIterator<>(iterables);
+		// Candidates are copied into a new set, so the list buffer can be reused
+		OdometerCombinations<T> combinations = new OdometerCombinations<>(iterables);
+		combinedListIterator = combinations.iterator(0, combinations.size(), true);
 		next = findNext();
 	}
 
@@ -443,6 +443,120 @@ class ArbitrariesTests {
 			);
 		}
 
+		@Example
+		void numberOfGeneratedNodesIsLimited() {
+			// 1000 / 10 nodes of a binary tree have at most 100 leaves
+			ArbitraryTestHelper.assertAllGenerated(
+					listOfIntegers().generator(1000),
+					list -> {
+						assertThat(list).hasSizeLessThanOrEqualTo(100);
+					}
+			);
+		}
+
+		@Example
+		void budgetIsSplitAmongBranches(@ForAll Random random) {
+			RandomGenerator<List<?>> generator = binaryTrees().generator(1000);
+			long leftLeaves = 0;
+			long rightLeaves = 0;
+			int maxDepth = 0;
+			for (int i = 0; i < 1000; i++) {
+				List<?> tree = generator.next(random).value();
+				maxDepth = Math.max(maxDepth, depth(tree));
+				if (!tree.isEmpty()) {
+					leftLeaves += leaves(tree.get(0));
+					rightLeaves += leaves(tree.get(1));
+				}
+			}
+			// Using up the budget in the first branch would create left-deep trees
+			assertThat((double) leftLeaves / rightLeaves).isBetween(0.5, 2.0);
+			assertThat(maxDepth).isLessThanOrEqualTo(30);
+		}
+
+		@Example
+		void unaryRecursionCanUseMoreThanAShareOfTheBudget(@ForAll Random random) {
+			RandomGenerator<List<?>> generator = chains().generator(1000);
+			int maxDepth = 0;
+			for (int i = 0; i < 1000; i++) {
+				maxDepth = Math.max(maxDepth, depth(generator.next(random).value()));
+			}
+			assertThat(maxDepth).isBetween(20, 100);
+		}
+
+		@Example
+		void suppliersThatSometimesRecurseAreNotUsedToTerminate() {
+			// 1000 / 10 nodes of a ternary tree have at most 201 leaves
+			ArbitraryTestHelper.assertAllGenerated(
+					sometimesRecursiveTrees().generator(1000),
+					tree -> {
+						assertThat(leaves(tree)).as("leaves").isLessThanOrEqualTo(201);
+					}
+			);
+		}
+
+		private Arbitrary<List<?>> binaryTrees() {
+			return Arbitraries.lazyOf(
+					() -> Arbitraries.just(Collections.emptyList()),
+					this::pairsOfBinaryTrees,
+					this::pairsOfBinaryTrees,
+					this::pairsOfBinaryTrees
+			);
+		}
+
+		private Arbitrary<List<?>> pairsOfBinaryTrees() {
+			return Combinators.combine(binaryTrees(), binaryTrees()).as(Arrays::asList);
+		}
+
+		private Arbitrary<List<?>> sometimesRecursiveTrees() {
+			return Arbitraries.lazyOf(
+					() -> Arbitraries.just(Collections.emptyList()),
+					() -> Arbitraries.frequencyOf(
+							Tuple.of(1, Arbitraries.just(Collections.emptyList())),
+							Tuple.of(9, triplesOfSometimesRecursiveTrees())
+					)
+			);
+		}
+
+		private Arbitrary<List<?>> triplesOfSometimesRecursiveTrees() {
+			return Combinators.combine(sometimesRecursiveTrees(), sometimesRecursiveTrees(), sometimesRecursiveTrees())
+							  .as(Arrays::asList);
+		}
+
+		private Arbitrary<List<?>> chains() {
+			// Recursion in 9 of 10 cases creates chains longer than a binary split of the budget would allow
+			return Arbitraries.lazyOf(
+					() -> Arbitraries.just(Collections.emptyList()),
+					this::chainLinks, this::chainLinks, this::chainLinks,
+					this::chainLinks, this::chainLinks, this::chainLinks,
+					this::chainLinks, this::chainLinks, this::chainLinks
+			);
+		}
+
+		private Arbitrary<List<?>> chainLinks() {
+			return chains().map(Collections::singletonList);
+		}
+
+		private int depth(Object tree) {
+			return ((List<?>) tree).stream().mapToInt(child -> depth(child) + 1).max().orElse(0);
+		}
+
+		private int leaves(Object tree) {
+			List<?> children = (List<?>) tree;
+			return children.isEmpty() ? 1 : children.stream().mapToInt(this::leaves).sum();
+		}
+
+		private Arbitrary<List<Integer>> listOfIntegers() {
+			return Arbitraries.lazyOf(
+					() -> Arbitraries.integers().between(1, 5).list().ofSize(1),
+					() -> Combinators.combine(listOfIntegers(), listOfIntegers())
+									 .as((l1, l2) -> {
+										 ArrayList<Integer> list = new ArrayList<>(l1);
+										 list.addAll(l2);
+										 return list;
+									 })
+			);
+		}
+
 	}
 
 	class Tree {
@@ -725,6 +839,80 @@ class ArbitrariesTests {
 					min, max
 			);
 		}
+
+		@Example
+		void integersMultipleOf() {
+			Arbitrary<Integer> intArbitrary = Arbitraries.integers().between(-100, 100).multipleOf(7);
+			RandomGenerator<Integer> generator = intArbitrary.generator(10);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == -98);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == 98);
+			assertAllGenerated(generator, value -> value % 7 == 0 && value >= -100 && value <= 100);
+		}
+
+		@Example
+		void integersExcluding() {
+			Arbitrary<Integer> intArbitrary = Arbitraries.integers().between(-10, 10).excluding(-10, 0, 10);
+			RandomGenerator<Integer> generator = intArbitrary.generator(10);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == -9);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == 9);
+			assertAllGenerated(generator, value -> value != -10 && value != 0 && value != 10);
+		}
+
+		@Example
+		void multipleOfAndExcludingCanBeCombined() {
+			Arbitrary<Long> longArbitrary = Arbitraries.longs().multipleOf(-3L).excluding(0L, 3L, 6L);
+			RandomGenerator<Long> generator = longArbitrary.generator(1000);
+
+			assertAllGenerated(generator, value -> value % 3 == 0 && value != 0L && value != 3L && value != 6L);
+			assertThat(collectEdgeCases(longArbitrary.edgeCases())).allMatch(value -> value % 3 == 0 && value != 0L);
+		}
+
+		@Example
+		void multipleOfBoundsDoNotHaveToBeMultiples() {
+			Arbitrary<Short> shortArbitrary = Arbitraries.shorts().between((short) 1, (short) 11).multipleOf((short) 5);
+			assertThat(shortArbitrary.exhaustive()).isPresent();
+			assertThat(shortArbitrary.exhaustive().get()).containsExactly((short) 5, (short) 10);
+		}
+
+		@Example
+		void bigIntegersMultipleOfAndExcluding() {
+			Arbitrary<BigInteger> bigIntegerArbitrary =
+					Arbitraries.bigIntegers()
+							   .between(valueOf(-1000L), valueOf(1000L))
+							   .multipleOf(valueOf(10))
+							   .excluding(valueOf(0));
+			RandomGenerator<BigInteger> generator = bigIntegerArbitrary.generator(1000);
+
+			assertAllGenerated(generator, value -> value.mod(valueOf(10)).signum() == 0 && value.signum() != 0);
+		}
+
+		@Example
+		void bytesExcludingRespectsEdgeCases() {
+			Arbitrary<Byte> byteArbitrary = Arbitraries.bytes().excluding((byte) 0, Byte.MIN_VALUE);
+			assertThat(collectEdgeCases(byteArbitrary.edgeCases()))
+				.doesNotContain((byte) 0, Byte.MIN_VALUE)
+				.contains((byte) -127, Byte.MAX_VALUE);
+		}
+
+		@Property(tries = 10)
+		void shrinkingOnlyProducesAllowedValues(@ForAll Random random) {
+			Arbitrary<Integer> intArbitrary = Arbitraries.integers().between(0, 1000).multipleOf(7).excluding(308);
+			TestingFalsifier<Integer> falsifier = value -> value < 300;
+			Integer shrunkValue = ShrinkingTestHelper.falsifyThenShrink(intArbitrary, random, falsifier);
+			assertThat(shrunkValue).isEqualTo(301);
+		}
+
+		@Example
+		void multipleOfWithoutAllowedValueFails() {
+			assertThatThrownBy(() -> Arbitraries.integers().between(1, 6).multipleOf(7).generator(10))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> Arbitraries.integers().between(1, 2).excluding(1, 2).generator(10))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> Arbitraries.integers().multipleOf(0))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
 	}
 
 	@Group
@@ -830,6 +1018,27 @@ class ArbitrariesTests {
 			assertThatThrownBy(() -> arbitrary.generator(1)).isInstanceOf(JqwikException.class);
 		}
 
+		@Example
+		void doublesWithStandardSpecialValues() {
+			Arbitrary<Double> doubleArbitrary = Arbitraries.doubles().between(1.0, 10.0).withStandardSpecialValues();
+			RandomGenerator<Double> generator = doubleArbitrary.generator(100);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value.isNaN());
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Double.NEGATIVE_INFINITY);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value > 1.0 && value < 10.0);
+		}
+
+		@Example
+		void doublesWithHighScale() {
+			Arbitrary<Double> doubleArbitrary = Arbitraries.doubles().between(-1000.0, 1000.0).ofScale(6);
+			RandomGenerator<Double> generator = doubleArbitrary.generator(1000);
+
+			assertAllGenerated(generator, value -> {
+				double rounded = Math.round(value * 1_000_000) / 1_000_000.0;
+				return value >= -1000.0 && value <= 1000.0 && value == rounded;
+			});
+		}
+
 	}
 
 	@Group
@@ -905,6 +1114,15 @@ class ArbitrariesTests {
 			assertThatThrownBy(() -> arbitrary.generator(1)).isInstanceOf(JqwikException.class);
 		}
 
+		@Example
+		void floatsWithSpecialValue() {
+			Arbitrary<Float> floatArbitrary = Arbitraries.floats().between(1.0f, 10.0f).withSpecialValue(Float.POSITIVE_INFINITY);
+			RandomGenerator<Float> generator = floatArbitrary.generator(100);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Float.POSITIVE_INFINITY);
+			assertAllGenerated(generator, value -> value == Float.POSITIVE_INFINITY || (value >= 1.0f && value <= 10.0f));
+		}
+
 	}
 
 	@Group
@@ -1,6 +1,7 @@
 package net.jqwik.api;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.stream.*;
 
@@ -402,6 +403,60 @@ class ArbitraryTests {
 				.forEach(anInt -> assertThat(anInt).isIn(values));
 		}
 
+		@Property
+		void bulkSampleStreamDependsOnSeedOnly(@ForAll long seed) {
+			Arbitrary<String> strings = Arbitraries.strings().alpha().ofMaxLength(10);
+
+			List<String> sequential = strings.bulkSampleStream(1000, seed).collect(Collectors.toList());
+			List<String> parallel = strings.bulkSampleStream(1000, seed).parallel().collect(Collectors.toList());
+
+			assertThat(sequential).hasSize(1000);
+			assertThat(parallel).isEqualTo(sequential);
+			assertThat(strings.bulkSampleStream(1000, seed + 1).collect(Collectors.toList())).isNotEqualTo(sequential);
+			assertThat(strings.bulkSampleStream(1000, seed).parallel().spliterator().trySplit()).isNotNull();
+		}
+
+		@Example
+		void bulkSampleStreamOfUniqueArbitrary() {
+			Arbitrary<Integer> unique = Arbitraries.integers().between(0, 10000).unique();
+
+			List<Integer> sequential = unique.bulkSampleStream(1000, 42L).collect(Collectors.toList());
+			List<Integer> parallel = unique.bulkSampleStream(1000, 42L).parallel().collect(Collectors.toList());
+
+			assertThat(sequential).doesNotHaveDuplicates();
+			assertThat(parallel).isEqualTo(sequential);
+		}
+
+		@Example
+		void bulkSampleStreamOfRecursiveArbitrary() {
+			Arbitrary<String> expressions = expressions();
+
+			Set<Thread> generatingThreads = ConcurrentHashMap.newKeySet();
+			List<String> sequential = expressions.bulkSampleStream(20000, 7L).collect(Collectors.toList());
+			List<String> parallel = expressions.bulkSampleStream(20000, 7L)
+											   .parallel()
+											   .peek(expression -> generatingThreads.add(Thread.currentThread()))
+											   .collect(Collectors.toList());
+
+			assertThat(sequential).hasSize(20000);
+			assertThat(parallel).isEqualTo(sequential);
+			// Generation of lazyOf() values accesses stores, which must not happen in other threads
+			assertThat(generatingThreads).containsExactly(Thread.currentThread());
+		}
+
+		private Arbitrary<String> expressions() {
+			return Arbitraries.lazyOf(
+				() -> Arbitraries.integers().between(0, 9).map(String::valueOf),
+				() -> Combinators.combine(expressions(), expressions()).as((left, right) -> "(" + left + "+" + right + ")")
+			);
+		}
+
+		@Example
+		void bulkSampleStreamWithNegativeCount() {
+			assertThatThrownBy(() -> Arbitraries.integers().bulkSampleStream(-1, 42L))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
 	}
 
 	@Group
@@ -1,8 +1,11 @@
 package net.jqwik.api;
 
+import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
+import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.statistics.*;
@@ -148,6 +151,92 @@ class FunctionsTests {
 		assertThat(supplier.get()).isEqualTo(value);
 	}
 
+	@Example
+	void comparator_returns_same_result_for_same_input(@ForAll Random random) {
+		Arbitrary<Integer> results = Arbitraries.integers().between(-1, 1);
+		Arbitrary<Comparator<String>> comparators =
+			Functions.function(Comparator.class).returns(results);
+
+		Comparator<String> comparator = comparators.generator(10).next(random).value();
+
+		int result = comparator.compare("a", "b");
+		assertThat(result).isBetween(-1, 1);
+		assertThat(comparator.compare("a", "b")).isEqualTo(result);
+		assertThat(comparator.reversed().compare("b", "a")).isEqualTo(result);
+	}
+
+	@Example
+	void repeated_calls_with_equal_input_do_not_share_mutable_results(@ForAll Random random) {
+		Arbitrary<List<Integer>> lists = Arbitraries.integers().list().ofMinSize(1);
+		Arbitrary<BiFunction<String, Integer, List<Integer>>> functions =
+			Functions.function(BiFunction.class).returns(lists);
+
+		// Enough functions to also get constant ones
+		for (int i = 0; i < 50; i++) {
+			BiFunction<String, Integer, List<Integer>> function = functions.generator(10).next(random).value();
+
+			List<Integer> first = function.apply("hello", 42);
+			List<Integer> expected = new ArrayList<>(first);
+			first.clear();
+
+			List<Integer> second = function.apply("hello", 42);
+			assertThat(second).isNotSameAs(first);
+			assertThat(second).isEqualTo(expected);
+		}
+	}
+
+	@Example
+	void results_are_only_cached_if_configured(@ForAll Random random) {
+		AtomicInteger generatedResults = new AtomicInteger();
+		Arbitrary<Integer> countingIntegers = Arbitraries.fromGenerator(r -> {
+			generatedResults.incrementAndGet();
+			return Shrinkable.unshrinkable(r.nextInt());
+		});
+		FunctionArbitrary<Function<String, Integer>, Integer> functions = Functions.function(Function.class).returns(countingIntegers);
+
+		Function<String, Integer> uncached = nonConstantFunction(functions, random);
+		generatedResults.set(0);
+		Integer first = uncached.apply("hello");
+		assertThat(uncached.apply("hello")).isEqualTo(first);
+		assertThat(generatedResults.get()).isEqualTo(2);
+
+		Function<String, Integer> cached = nonConstantFunction(functions.cacheResults(10), random);
+		generatedResults.set(0);
+		first = cached.apply("hello");
+		assertThat(cached.apply("hello")).isEqualTo(first);
+		assertThat(cached.apply("world")).isNotNull();
+		assertThat(generatedResults.get()).isEqualTo(2);
+	}
+
+	private Function<String, Integer> nonConstantFunction(Arbitrary<Function<String, Integer>> functions, Random random) {
+		RandomGenerator<Function<String, Integer>> generator = functions.generator(10);
+		while (true) {
+			Function<String, Integer> function = generator.next(random).value();
+			if (!function.toString().startsWith("Constant")) {
+				return function;
+			}
+		}
+	}
+
+	@Example
+	void negative_cache_size_is_rejected() {
+		FunctionArbitrary<Function<String, Integer>, Integer> functions = Functions.function(Function.class).returns(Arbitraries.integers());
+		assertThatThrownBy(() -> functions.cacheResults(-1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Example
+	void common_functional_interfaces_are_not_implemented_through_proxies(@ForAll Random random) {
+		Arbitrary<Boolean> booleans = Arbitraries.of(true, false);
+
+		Arbitrary<Predicate<String>> predicates = Functions.function(Predicate.class).returns(booleans);
+		Predicate<String> predicate = predicates.generator(10).next(random).value();
+		assertThat(Proxy.isProxyClass(predicate.getClass())).isFalse();
+
+		Arbitrary<MySupplier<Boolean>> mySuppliers = Functions.function(MySupplier.class).returns(booleans);
+		MySupplier<Boolean> mySupplier = mySuppliers.generator(10).next(random).value();
+		assertThat(Proxy.isProxyClass(mySupplier.getClass())).isTrue();
+	}
+
 	@Example
 	void consumer_accepts_anything(@ForAll Random random) {
 		Arbitrary<Consumer<Integer>> functions =
@@ -167,6 +256,7 @@ class FunctionsTests {
 		assertThat(Functions.function(Supplier.class).returns(any)).isNotNull();
 		assertThat(Functions.function(Consumer.class).returns(Arbitraries.nothing())).isNotNull();
 		assertThat(Functions.function(Predicate.class).returns(any)).isNotNull();
+		assertThat(Functions.function(Comparator.class).returns(any)).isNotNull();
 		assertThat(Functions.function(MyFunctionalInterface.class).returns(any)).isNotNull();
 		assertThat(Functions.function(MyInheritedFunctionalInterface.class).returns(any)).isNotNull();
 		assertThat(Functions.function(MySamType.class).returns(any)).isNotNull();
@@ -0,0 +1,85 @@
+package net.jqwik.api;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SampleExportTests {
+
+	private final Arbitrary<String> strings = Arbitraries.strings().alpha().ofMaxLength(10);
+
+	@Example
+	void linesAreWrittenInOrderOfBulkSamples() throws IOException {
+		Path file = Files.createTempFile("samples", ".jsonl");
+		try {
+			SampleExport<String> export = SampleExport.lines(strings, s -> "{\"s\":\"" + s + "\"}");
+			export.writeTo(file, 1000, 42L);
+
+			List<String> expected = strings.bulkSampleStream(1000, 42L)
+										   .map(s -> "{\"s\":\"" + s + "\"}")
+										   .collect(Collectors.toList());
+			assertThat(Files.readAllLines(file)).isEqualTo(expected);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Example
+	void shardsContainTheirPartOfTheDataset() throws IOException {
+		Path whole = Files.createTempFile("samples", ".csv");
+		Path first = Files.createTempFile("shard", ".csv");
+		Path second = Files.createTempFile("shard", ".csv");
+		try {
+			SampleExport<String> export = SampleExport.lines(strings, s -> s + "," + s.length()).withHeader("s,length");
+			export.writeTo(whole, 500, 42L);
+			export.writeShardTo(first, 0, 200, 42L);
+			export.writeShardTo(second, 200, 500, 42L);
+
+			List<String> lines = Files.readAllLines(whole);
+			assertThat(Files.readAllLines(first)).first().isEqualTo("s,length");
+			assertThat(Files.readAllLines(second)).first().isEqualTo("s,length");
+			assertThat(Files.readAllLines(first)).isEqualTo(lines.subList(0, 201));
+			assertThat(Files.readAllLines(second).subList(1, 301)).isEqualTo(lines.subList(201, 501));
+		} finally {
+			Files.delete(whole);
+			Files.delete(first);
+			Files.delete(second);
+		}
+	}
+
+	@Example
+	void bytesLargerThanBufferAreWritten() throws IOException {
+		Path file = Files.createTempFile("samples", ".bin");
+		try {
+			long written = SampleExport.bytes(Arbitraries.just((byte) 7), b -> {
+				byte[] record = new byte[100_000];
+				Arrays.fill(record, b);
+				return record;
+			}).writeTo(file, 3, 42L);
+
+			assertThat(written).isEqualTo(300_000);
+			byte[] bytes = Files.readAllBytes(file);
+			assertThat(bytes).hasSize(300_000);
+			assertThat(bytes[299_999]).isEqualTo((byte) 7);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Example
+	void invalidShard() throws IOException {
+		Path file = Files.createTempFile("samples", ".jsonl");
+		try {
+			SampleExport<String> export = SampleExport.lines(strings, s -> s);
+			assertThatThrownBy(() -> export.writeShardTo(file, 5, 3, 42L))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> export.writeShardTo(file, -1, 3, 42L))
+				.isInstanceOf(IllegalArgumentException.class);
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
@@ -185,6 +185,38 @@ class StreamableArbitraryTests {
 			assertGeneratedStream(generator.next(random));
 		}
 
+		@Example
+		void lazyStream(@ForAll Random random) {
+			Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10);
+			StreamArbitrary<Integer> streamArbitrary = integerArbitrary.stream().ofMinSize(1_000_000).ofMaxSize(Integer.MAX_VALUE).lazy();
+
+			RandomGenerator<Stream<Integer>> generator = streamArbitrary.generator(1);
+			Shrinkable<Stream<Integer>> shrinkable = generator.next(random);
+
+			List<Integer> firstElements = shrinkable.value().limit(10).collect(Collectors.toList());
+			assertThat(firstElements).hasSize(10);
+			assertThat(firstElements).allMatch(i -> i >= 1 && i <= 10);
+			assertThat(shrinkable.value().limit(10)).containsExactlyElementsOf(firstElements);
+		}
+
+		@Example
+		void lazyStreamWithUniqueElements() {
+			Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10).unique();
+
+			assertThatThrownBy(() -> integerArbitrary.stream().lazy()).isInstanceOf(JqwikException.class);
+		}
+
+		@Example
+		void lazyStreamWithNestedUniqueElements() {
+			Arbitrary<String> withUniqueNumbers = Combinators.combine(
+				Arbitraries.strings().alpha(),
+				Arbitraries.integers().between(1, 10).unique()
+			).as((prefix, number) -> prefix + number);
+			StreamArbitrary<String> streamArbitrary = withUniqueNumbers.stream().lazy();
+
+			assertThatThrownBy(() -> streamArbitrary.generator(1000)).isInstanceOf(JqwikException.class);
+		}
+
 		private void assertGeneratedStream(Shrinkable<Stream<Integer>> stream) {
 			Set<Integer> set = stream.value().collect(Collectors.toSet());
 			assertThat(set.size()).isBetween(0, 5);
@@ -209,6 +241,27 @@ class StreamableArbitraryTests {
 			assertGeneratedIterator(generator.next(random));
 		}
 
+		@Example
+		void lazyIterators(@ForAll Random random) {
+			Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10);
+			IteratorArbitrary<Integer> iteratorArbitrary = integerArbitrary.iterator().ofMinSize(0).ofMaxSize(5).lazy();
+
+			RandomGenerator<Iterator<Integer>> generator = iteratorArbitrary.generator(1);
+
+			assertGeneratedIterator(generator.next(random));
+			assertGeneratedIterator(generator.next(random));
+			assertGeneratedIterator(generator.next(random));
+			assertGeneratedIterator(generator.next(random));
+		}
+
+		@Example
+		void lazyIteratorsWithNestedUniqueElements() {
+			Arbitrary<List<Integer>> listsOfUnique = Arbitraries.integers().between(1, 10).unique().list().ofMaxSize(3);
+			IteratorArbitrary<List<Integer>> iteratorArbitrary = listsOfUnique.iterator().lazy();
+
+			assertThatThrownBy(() -> iteratorArbitrary.generator(1000)).isInstanceOf(JqwikException.class);
+		}
+
 		private void assertGeneratedIterator(Shrinkable<Iterator<Integer>> shrinkable) {
 			Set<Integer> set = new HashSet<>();
 			Iterator<Integer> iterator = shrinkable.value();
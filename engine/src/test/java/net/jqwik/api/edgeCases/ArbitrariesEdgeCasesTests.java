@@ -401,6 +401,33 @@ class ArbitrariesEdgeCasesTests {
 			assertThat(collectEdgeCases(edgeCases)).hasSize(7);
 		}
 
+		@Example
+		void doublesWithSpecialValues() {
+			DoubleArbitrary arbitrary = Arbitraries.doubles()
+												   .between(-10.0, 10.0)
+												   .ofScale(0)
+												   .withSpecialValue(42.5)
+												   .withStandardSpecialValues();
+			EdgeCases<Double> edgeCases = arbitrary.edgeCases();
+			assertThat(collectEdgeCases(edgeCases)).containsExactlyInAnyOrder(
+					-10.0, -1.0, 0.0, 1.0, 10.0, 42.5,
+					Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -0.0,
+					Double.MIN_VALUE, Math.nextDown(Double.MIN_NORMAL)
+			);
+		}
+
+		@Example
+		void floatsWithSpecialValues() {
+			FloatArbitrary arbitrary = Arbitraries.floats()
+												  .between(-10.0f, 10.0f)
+												  .ofScale(0)
+												  .withSpecialValue(Float.NaN);
+			EdgeCases<Float> edgeCases = arbitrary.edgeCases();
+			assertThat(collectEdgeCases(edgeCases)).containsExactlyInAnyOrder(
+					-10.0f, -1.0f, 0.0f, 1.0f, 10.0f, Float.NaN
+			);
+		}
+
 	}
 
 	@Group
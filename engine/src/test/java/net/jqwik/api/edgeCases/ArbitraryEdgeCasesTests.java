@@ -359,6 +359,21 @@ class ArbitraryEdgeCasesTests {
 			});
 		}
 
+		@Example
+		void addedEdgeCasesAreNotDuplicatedWhenEdgeCasesAreRequestedAgain() {
+			Arbitrary<Integer> arbitrary =
+					Arbitraries
+							.integers()
+							.between(-100, 100)
+					.edgeCases(edgeCasesConfig -> {
+						edgeCasesConfig.none();
+						edgeCasesConfig.add(42);
+					});
+
+			assertThat(values(arbitrary.edgeCases())).containsExactly(42);
+			assertThat(values(arbitrary.edgeCases())).containsExactly(42);
+		}
+
 		@Example
 		void includeOnly() {
 			Arbitrary<Integer> arbitrary =
@@ -16,6 +16,7 @@ import org.junit.platform.engine.reporting.*;
 import org.junit.platform.testkit.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -64,6 +65,11 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return true;
 			}
+
+			@Override
+			public ReportingLimits reportingLimits() {
+				return ReportingLimits.DEFAULT;
+			}
 		};
 	}
 
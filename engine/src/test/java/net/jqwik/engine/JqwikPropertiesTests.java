@@ -32,5 +32,11 @@ class JqwikPropertiesTests {
 		assertThat(properties.defaultShrinking()).isEqualTo(ShrinkingMode.BOUNDED);
 
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
+
+		assertThat(properties.reportMaxElements()).isEqualTo(1000);
+		assertThat(properties.reportMaxDepth()).isEqualTo(20);
+		assertThat(properties.reportMaxCharacters()).isEqualTo(10000);
+
+		assertThat(properties.exhaustiveParallelism()).isEqualTo(1);
 	}
 }
@@ -22,6 +22,7 @@ public class TestHelper {
 
 	public static final int DEFAULT_TRIES = 1000;
 	public static final int BOUNDED_SHRINKING_SECONDS = 10;
+	public static final int EXHAUSTIVE_PARALLELISM = 1;
 	public static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	public static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED;
 	public static final GenerationMode DEFAULT_GENERATION = GenerationMode.AUTO;
@@ -36,7 +37,8 @@ public class TestHelper {
 			DEFAULT_GENERATION,
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
-			BOUNDED_SHRINKING_SECONDS
+			BOUNDED_SHRINKING_SECONDS,
+			EXHAUSTIVE_PARALLELISM
 		);
 	}
 
@@ -594,6 +594,114 @@ class SampleReportingTests {
 				Assertions.assertThat(report.singleLineReport()).isEqualTo("Stream.of [1, 1, 1]");
 			}
 
+			@Example
+			void lazyStreamsReportElementsRead(@ForAll Random random) {
+				Arbitrary<Stream<Integer>> streams = Arbitraries.just(1).stream().ofSize(1000).lazy();
+				Stream<Integer> stream = streams.generator(10).next(random).value();
+
+				assertThat(stream.limit(3).collect(Collectors.toList())).containsExactly(1, 1, 1);
+				ValueReport report = ValueReport.of(stream);
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("Stream.of (3 of 1000 elements read) [1, 1, 1]");
+			}
+
+			@Example
+			void lazyStreamsFromEdgeCasesReportElementsRead(@ForAll Random random) {
+				Arbitrary<Stream<Integer>> streams = Arbitraries.just(1).stream().ofSize(1000).lazy();
+				RandomGenerator<Stream<Integer>> generator = streams.generator(10);
+
+				// Enough tries for some of the streams to be edge cases
+				for (int i = 0; i < 100; i++) {
+					Stream<Integer> stream = generator.next(random).value();
+					assertThat(stream.limit(3).collect(Collectors.toList())).containsExactly(1, 1, 1);
+					ValueReport report = ValueReport.of(stream);
+					Assertions.assertThat(report.singleLineReport()).isEqualTo("Stream.of (3 of 1000 elements read) [1, 1, 1]");
+				}
+			}
+
+		}
+
+		@Group
+		class Limits {
+
+			@Example
+			void collectionIsTruncatedAfterMaxElements() {
+				List<Integer> list = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+				ValueReport report = ValueReport.of(list, formatFinder(), new ReportingLimits(3, 20, 10000));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[0, 1, 2, ...<99997 more>]");
+			}
+
+			@Example
+			void elementsBeyondMaxElementsAreNotAccessed() {
+				List<Integer> list = new AbstractList<Integer>() {
+					@Override
+					public Integer get(int index) {
+						if (index >= 2) {
+							throw new AssertionError("Element should not be accessed");
+						}
+						return index;
+					}
+
+					@Override
+					public int size() {
+						return Integer.MAX_VALUE;
+					}
+				};
+				ValueReport report = ValueReport.of(list, formatFinder(), new ReportingLimits(2, 20, 10000));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[0, 1, ...<2147483645 more>]");
+			}
+
+			@Example
+			void hugePrimitiveArrayIsTruncated() {
+				int[] array = new int[100000];
+				ValueReport report = ValueReport.of(array, formatFinder(new ArrayReportingFormat()), new ReportingLimits(3, 20, 10000));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("int[] [0, 0, 0, ...<99997 more>]");
+			}
+
+			@Example
+			void mapIsTruncatedAfterMaxElements() {
+				Map<Integer, String> map = new LinkedHashMap<>();
+				for (int i = 1; i <= 5; i++) {
+					map.put(i, "v" + i);
+				}
+				ValueReport report = ValueReport.of(map, formatFinder(), new ReportingLimits(2, 20, 10000));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("{1=\"v1\", 2=\"v2\", ...<3 more>}");
+
+				report.report(lineReporter, 2, "");
+				assertThat(lineReporter.lines).containsSequence(
+					"    {",
+					"      1=\"v1\",",
+					"      2=\"v2\",",
+					"      ...<3 more>",
+					"    }"
+				);
+			}
+
+			@Example
+			void containersBeyondMaxDepthAreTruncated() {
+				List<List<List<Integer>>> nested = asList(asList(asList(1, 2), asList(3)));
+				ValueReport report = ValueReport.of(nested, formatFinder(), new ReportingLimits(100, 2, 10000));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[[..., ...]]");
+			}
+
+			@Example
+			void longStringIsCutAtMaxCharacters() {
+				ValueReport report = ValueReport.of("abcdefghij", formatFinder(), new ReportingLimits(100, 20, 5));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("\"abcde\"...");
+			}
+
+			@Example
+			void maxCharactersAreSharedByAllElements() {
+				List<String> list = asList("aaaa", "bbbb", "cccc", "dddd", "eeee");
+				ValueReport report = ValueReport.of(list, formatFinder(), new ReportingLimits(100, 20, 10));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[\"aaaa\", \"bbb..., ...<3 more>]");
+			}
 		}
 
 		private ValueReport.ReportingFormatFinder formatFinder(SampleReportingFormat... formats) {
@@ -0,0 +1,96 @@
+package net.jqwik.engine.properties;
+
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CharacterRangesTests {
+
+	@Example
+	void singleRange() {
+		CharacterRanges ranges = CharacterRanges.of('a', 'z');
+		assertThat(ranges.size()).isEqualTo(26);
+		assertThat(ranges.charAt(0)).isEqualTo('a');
+		assertThat(ranges.charAt(25)).isEqualTo('z');
+		assertThat(ranges.indexOf('c')).isEqualTo(2);
+		assertThat(ranges.contains('A')).isFalse();
+	}
+
+	@Example
+	void minMustNotBeGreaterThanMax() {
+		assertThatThrownBy(() -> CharacterRanges.of('z', 'a')).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Example
+	void charsKeepTheirOrderAndDuplicatesAreIgnored() {
+		CharacterRanges ranges = CharacterRanges.of('x', 'a', 'b', 'c', 'a');
+		assertThat(ranges.size()).isEqualTo(4);
+		assertThat(ranges.numberOfRanges()).isEqualTo(2);
+		assertThat(charsOf(ranges)).isEqualTo("xabc");
+	}
+
+	@Example
+	void unionAppendsOnlyNewCharacters() {
+		CharacterRanges ranges = CharacterRanges.of('a', 'f').union(CharacterRanges.of('0', '9')).union(CharacterRanges.of('c', 'h'));
+		assertThat(ranges.size()).isEqualTo(18);
+		assertThat(charsOf(ranges)).isEqualTo("abcdef0123456789gh");
+	}
+
+	@Example
+	void minusSplitsRanges() {
+		CharacterRanges ranges = CharacterRanges.of('a', 'z').minus('d', 'w');
+		assertThat(ranges.numberOfRanges()).isEqualTo(2);
+		assertThat(charsOf(ranges)).isEqualTo("abcxyz");
+
+		assertThat(CharacterRanges.of('a', 'c').minus('a', 'z').isEmpty()).isTrue();
+	}
+
+	@Example
+	void indexOfFindsCharactersInRangesOfAnyOrder() {
+		CharacterRanges ranges = CharacterRanges.of('x', 'z').union(CharacterRanges.of('a', 'c')).union(CharacterRanges.of('m', 'n'));
+		assertThat(ranges.indexOf('x')).isEqualTo(0);
+		assertThat(ranges.indexOf('b')).isEqualTo(4);
+		assertThat(ranges.indexOf('n')).isEqualTo(7);
+		assertThat(ranges.indexOf('d')).isEqualTo(-1);
+		assertThat(ranges.indexOf('0')).isEqualTo(-1);
+		assertThat(ranges.indexOf('~')).isEqualTo(-1);
+		assertThat(CharacterRanges.EMPTY.indexOf('a')).isEqualTo(-1);
+	}
+
+	@Example
+	void indexOutsideOfRangesIsRejected() {
+		CharacterRanges ranges = CharacterRanges.of('a', 'c');
+		assertThatThrownBy(() -> ranges.charAt(3)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> ranges.charAt(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Property(tries = 100)
+	void charAtAndIndexOfAreInverse(
+		@ForAll @CharRange(from = 'a', to = 'z') char removeFrom,
+		@ForAll @IntRange(min = 0, max = 5) int removeCount,
+		@ForAll("digitsOrAlphas") String chars
+	) {
+		CharacterRanges ranges = CharacterRanges.of('a', 'z')
+												.minus(removeFrom, (char) (removeFrom + removeCount))
+												.union(CharacterRanges.of(chars.toCharArray()));
+		for (int index = 0; index < ranges.size(); index++) {
+			assertThat(ranges.indexOf(ranges.charAt(index))).isEqualTo(index);
+		}
+		assertThat(ranges.stream().count()).isEqualTo(ranges.size());
+		assertThat(ranges.stream().distinct().count()).isEqualTo(ranges.size());
+	}
+
+	@Provide
+	Arbitrary<String> digitsOrAlphas() {
+		return Arbitraries.strings().alpha().numeric().ofMinLength(1).ofMaxLength(20);
+	}
+
+	private String charsOf(CharacterRanges ranges) {
+		return ranges.stream()
+					 .mapToObj(c -> String.valueOf((char) c))
+					 .collect(Collectors.joining());
+	}
+}
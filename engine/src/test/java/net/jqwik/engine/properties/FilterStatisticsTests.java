@@ -0,0 +1,104 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import org.mockito.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FilterStatisticsTests {
+
+	@Example
+	void filteredGeneratorCountsAttemptsAndAccepts(@ForAll Random random) {
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(uniformIntegers(1, 100), i -> i <= 50);
+		for (int i = 0; i < 100; i++) {
+			generator.next(random);
+		}
+
+		FilterStatistics.Counter counter = singleCounter();
+		assertThat(counter.description()).startsWith("Filtering");
+		assertThat(counter.accepts()).isEqualTo(100);
+		assertThat(counter.attempts()).isGreaterThan(100);
+		assertThat(counter.rejects()).isEqualTo(counter.attempts() - 100);
+	}
+
+	@Example
+	void uniqueGeneratorCountsDuplicatesAsRejects(@ForAll Random random) {
+		UniqueGenerator<Integer> generator = new UniqueGenerator<>(uniformIntegers(1, 100));
+		for (int i = 0; i < 100; i++) {
+			generator.next(random);
+		}
+
+		FilterStatistics.Counter counter = singleCounter();
+		assertThat(counter.description()).startsWith("Unique");
+		assertThat(counter.accepts()).isEqualTo(100);
+		assertThat(counter.rejects()).isGreaterThan(0);
+	}
+
+	@Example
+	void filtersWithHighAcceptanceAreNotReported(@ForAll Random random) {
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(uniformIntegers(1, 999), i -> i % 2 == 0);
+		for (int i = 0; i < 1000; i++) {
+			generator.next(random);
+		}
+
+		assertThat(FilterStatistics.lowAcceptanceCounters()).isEmpty();
+
+		Reporter reporter = Mockito.mock(Reporter.class);
+		FilterStatistics.reportLowAcceptance(reporter);
+		verifyNoInteractions(reporter);
+	}
+
+	@Example
+	void filtersWithLowAcceptanceAreReported(@ForAll Random random) {
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(uniformIntegers(1, 999), i -> i % 50 == 25);
+		for (int i = 0; i < 100; i++) {
+			generator.next(random);
+		}
+
+		Reporter reporter = Mockito.mock(Reporter.class);
+		FilterStatistics.reportLowAcceptance(reporter);
+		verify(reporter).publishValue(eq("filters"), contains("Filtering"));
+	}
+
+	@Example
+	void generatorsOfSameFilterShareCounter(@ForAll Random random) {
+		for (int i = 0; i < 10; i++) {
+			int remainder = i;
+			FilteredGenerator<Integer> generator = new FilteredGenerator<>(uniformIntegers(1, 100), n -> n % 10 == remainder);
+			generator.next(random);
+		}
+
+		assertThat(singleCounter().accepts()).isEqualTo(10);
+	}
+
+	@Example
+	void filterInFlatMapIsReported(@ForAll Random random) {
+		Arbitrary<Integer> filteredInFlatMap =
+			Arbitraries.integers().between(0, 9)
+					   .flatMap(remainder -> Arbitraries.integers().between(1, 1000).filter(n -> n % 100 == remainder));
+		RandomGenerator<Integer> generator = filteredInFlatMap.generator(1000);
+		for (int i = 0; i < 100; i++) {
+			generator.next(random).value();
+		}
+		assertThat(singleCounter().accepts()).isEqualTo(100);
+
+		Reporter reporter = Mockito.mock(Reporter.class);
+		FilterStatistics.reportLowAcceptance(reporter);
+		verify(reporter).publishValue(eq("filters"), contains("Filtering"));
+	}
+
+	private FilterStatistics.Counter singleCounter() {
+		List<FilterStatistics.Counter> counters = FilterStatistics.counters();
+		assertThat(counters).hasSize(1);
+		return counters.get(0);
+	}
+
+	private RandomGenerator<Integer> uniformIntegers(int min, int max) {
+		return Arbitraries.integers().between(min, max).withDistribution(RandomDistribution.uniform()).generator(1000);
+	}
+}
@@ -501,6 +501,150 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ExhaustiveInParallel {
+
+		private PropertyConfiguration parallelConfig(int tries) {
+			return aConfig()
+					   .withGeneration(GenerationMode.EXHAUSTIVE)
+					   .withTries(tries)
+					   .withShrinking(OFF)
+					   .withExhaustiveParallelism(4)
+					   .build();
+		}
+
+		@Example
+		void satisfied() {
+			AtomicInteger countCalls = new AtomicInteger(0);
+			CheckedFunction forAllFunction = args -> {
+				countCalls.incrementAndGet();
+				return true;
+			};
+
+			GenericProperty property = new GenericProperty(
+				"parallel property", parallelConfig(1000), indexedShrinkablesGenerator(0, 1000), forAllFunction, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(countCalls.get()).isEqualTo(1000);
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(1000);
+			assertThat(result.countChecks()).isEqualTo(1000);
+		}
+
+		@Example
+		void falsifiedSampleWithLowestIndexIsReported() {
+			CheckedFunction forAllFunction = args -> {
+				int value = (int) args.get(0);
+				return value != 999 && value != 777 && value < 301;
+			};
+
+			GenericProperty property = new GenericProperty(
+				"parallel property", parallelConfig(1000), indexedShrinkablesGenerator(0, 1000), forAllFunction, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.falsifiedParameters().get()).containsExactly(301);
+			assertThat(result.countTries()).isEqualTo(302);
+			assertThat(result.countChecks()).isEqualTo(302);
+		}
+
+		@Example
+		void invalidTriesBeforeFalsifiedSampleAreCounted() {
+			CheckedFunction forAllFunction = args -> {
+				int value = (int) args.get(0);
+				Assume.that(value % 10 != 0);
+				return value < 500;
+			};
+
+			GenericProperty property = new GenericProperty(
+				"parallel property", parallelConfig(1000), indexedShrinkablesGenerator(0, 1000), forAllFunction, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.falsifiedParameters().get()).containsExactly(501);
+			assertThat(result.countTries()).isEqualTo(502);
+			assertThat(result.countChecks()).isEqualTo(502 - 51);
+		}
+
+		@Example
+		void propertyAccessingStoreInFirstTryIsCheckedInCurrentThread() {
+			Store<Set<Thread>> threads = Store.create("threads", Lifespan.PROPERTY, HashSet::new);
+			CheckedFunction forAllFunction = args -> {
+				threads.get().add(Thread.currentThread());
+				return true;
+			};
+
+			GenericProperty property = new GenericProperty(
+				"parallel property", parallelConfig(1000), indexedShrinkablesGenerator(0, 1000), forAllFunction, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(1000);
+			assertThat(threads.get()).containsExactly(Thread.currentThread());
+		}
+
+		@Example
+		void storeAccessFromParallelThreadFailsProperty() {
+			Store<List<Integer>> values = Store.create("values", Lifespan.PROPERTY, ArrayList::new);
+			CheckedFunction forAllFunction = args -> {
+				int value = (int) args.get(0);
+				if (value == 500) {
+					values.get().add(value);
+				}
+				return true;
+			};
+
+			GenericProperty property = new GenericProperty(
+				"parallel property", parallelConfig(1000), indexedShrinkablesGenerator(0, 1000), forAllFunction, tryLifecycleContextSupplier
+			);
+
+			assertThatThrownBy(() -> property.check(TestHelper.reporter(), new Reporting[0]))
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("accessed a store while checking tries in parallel");
+			assertThat(values.get()).isEmpty();
+		}
+	}
+
+	private ParametersGenerator indexedShrinkablesGenerator(long fromIndex, long toIndex) {
+		return new SliceableParametersGenerator() {
+			private long nextIndex = fromIndex;
+
+			@Override
+			public boolean hasNext() {
+				return nextIndex < toIndex;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next(TryLifecycleContext tryLifecycleContext) {
+				Object value = (int) nextIndex++;
+				return Collections.singletonList(Shrinkable.unshrinkable(value));
+			}
+
+			@Override
+			public OptionalLong indexedCount() {
+				return OptionalLong.of(toIndex - fromIndex);
+			}
+
+			@Override
+			public ParametersGenerator slice(long sliceFrom, long sliceTo) {
+				return indexedShrinkablesGenerator(fromIndex + sliceFrom, fromIndex + sliceTo);
+			}
+
+			@Override
+			public int edgeCasesTotal() {
+				return 0;
+			}
+
+			@Override
+			public int edgeCasesTried() {
+				return 0;
+			}
+		};
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
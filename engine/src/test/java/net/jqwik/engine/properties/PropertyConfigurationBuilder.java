@@ -23,7 +23,7 @@ class PropertyConfigurationBuilder {
 	private GenerationMode generationMode = null;
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
-
+	private int exhaustiveParallelism = TestHelper.EXHAUSTIVE_PARALLELISM;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -69,6 +69,11 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	PropertyConfigurationBuilder withExhaustiveParallelism(int exhaustiveParallelism) {
+		this.exhaustiveParallelism = exhaustiveParallelism;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -83,7 +88,7 @@ class PropertyConfigurationBuilder {
 
 		return new PropertyConfiguration(
 			propertyAttributes,
-			TestHelper.propertyAttributesDefaults(),
+			propertyAttributesDefaults(),
 			previousSeed, falsifiedSample, seed,
 			tries,
 			generationMode
@@ -91,4 +96,18 @@ class PropertyConfigurationBuilder {
 
 	}
 
+	private PropertyAttributesDefaults propertyAttributesDefaults() {
+		PropertyAttributesDefaults defaults = TestHelper.propertyAttributesDefaults();
+		return PropertyAttributesDefaults.with(
+			defaults.tries(),
+			defaults.maxDiscardRatio(),
+			defaults.afterFailure(),
+			defaults.generation(),
+			defaults.edgeCases(),
+			defaults.shrinking(),
+			defaults.boundedShrinkingSeconds(),
+			exhaustiveParallelism
+		);
+	}
+
 }
@@ -60,6 +60,14 @@ class DefaultCharacterArbitraryTests {
 		assertAtLeastOneGeneratedOf(all.generator(1000), 'a', 'b', 'c', '1', '2', '.');
 	}
 
+	@Example
+	void emptyCharsCannotGenerateValues() {
+		CharacterArbitrary none = this.arbitrary.with("");
+		assertThatThrownBy(() -> none.generator(1000).next(new Random()))
+			.isInstanceOf(JqwikException.class)
+			.hasMessageContaining("empty set of values");
+	}
+
 	@Example
 	void range() {
 		char min = '\u0010';
@@ -114,6 +122,17 @@ class DefaultCharacterArbitraryTests {
 		);
 	}
 
+	@Example
+	void overlappingRangesContainEachCharacterOnce() {
+		CharacterArbitrary all = this.arbitrary.range('a', 'f').range('d', 'h').with('a', 'x');
+		Optional<ExhaustiveGenerator<Character>> optionalGenerator = all.exhaustive();
+		assertThat(optionalGenerator).isPresent();
+
+		ExhaustiveGenerator<Character> generator = optionalGenerator.get();
+		assertThat(generator.maxCount()).isEqualTo(9);
+		assertThat(generator).containsExactly('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'x');
+	}
+
 	@Example
 	void whitespace() {
 		CharacterArbitrary all = this.arbitrary.whitespace();
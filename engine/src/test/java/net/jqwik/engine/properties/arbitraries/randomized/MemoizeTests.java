@@ -0,0 +1,58 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemoizeTests {
+
+	@Example
+	void sameArbitraryAndGenSizeReturnSameGenerator() {
+		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 100);
+
+		RandomGenerator<Integer> generator = Memoize.memoizedGenerator(integers, 1000);
+		assertThat(Memoize.memoizedGenerator(integers, 1000)).isSameAs(generator);
+		assertThat(Memoize.memoizedGenerator(integers, 100)).isNotSameAs(generator);
+	}
+
+	@Example
+	void equalButDifferentArbitrariesAreNotShared() {
+		Arbitrary<Integer> integers1 = Arbitraries.integers().between(1, 100);
+		Arbitrary<Integer> integers2 = Arbitraries.integers().between(1, 100);
+
+		RandomGenerator<Integer> generator = Memoize.memoizedGenerator(integers1, 1000);
+		assertThat(Memoize.memoizedGenerator(integers2, 1000)).isNotSameAs(generator);
+	}
+
+	@Example
+	void uniqueGeneratorsAreNotMemoized() {
+		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 100).unique();
+
+		RandomGenerator<Integer> generator = Memoize.memoizedGenerator(integers, 1000);
+		assertThat(Memoize.memoizedGenerator(integers, 1000)).isNotSameAs(generator);
+	}
+
+	@Example
+	void generatorsContainingStatefulGeneratorsAreNotMemoized() {
+		Arbitrary<List<Integer>> uniqueLists = Arbitraries.integers().between(1, 100).unique().list();
+		RandomGenerator<List<Integer>> listGenerator = Memoize.memoizedGenerator(uniqueLists, 1000);
+		assertThat(Memoize.memoizedGenerator(uniqueLists, 1000)).isNotSameAs(listGenerator);
+
+		Arbitrary<Integer> withDuplicates = Arbitraries.integers().between(1, 100).injectDuplicates(0.5);
+		RandomGenerator<Integer> generator = Memoize.memoizedGenerator(withDuplicates, 1000);
+		assertThat(Memoize.memoizedGenerator(withDuplicates, 1000)).isNotSameAs(generator);
+	}
+
+	@Property(tries = 10)
+	void uniqueValuesAreResetForEveryTry(@ForAll("uniqueLists") List<Integer> aList) {
+		assertThat(aList).hasSize(5);
+		assertThat(new HashSet<>(aList)).hasSize(5);
+	}
+
+	@Provide
+	Arbitrary<List<Integer>> uniqueLists() {
+		return Arbitraries.integers().between(1, 5).unique().list().ofSize(5);
+	}
+}
@@ -0,0 +1,34 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RandomDecimalGeneratorsTests {
+
+	@Property
+	void scaledDoubleIsSameAsDoubleValueOfDecimal(
+		@ForAll("unscaledValues") BigInteger unscaledValue,
+		@ForAll @IntRange(min = 0, max = 350) int scale
+	) {
+		double scaledDouble = RandomDecimalGenerators.scaledDouble(unscaledValue, BigInteger.TEN.pow(scale));
+		assertThat(scaledDouble).isEqualTo(new BigDecimal(unscaledValue, scale).doubleValue());
+	}
+
+	@Example
+	void scaledDoubleOfExactTieIsRoundedToEven() {
+		// 2^53 + 1 lies exactly between two doubles
+		BigInteger tie = BigInteger.ONE.shiftLeft(53).add(BigInteger.ONE).multiply(BigInteger.TEN);
+		assertThat(RandomDecimalGenerators.scaledDouble(tie, BigInteger.TEN)).isEqualTo(9007199254740992.0);
+		assertThat(RandomDecimalGenerators.scaledDouble(tie.add(BigInteger.ONE), BigInteger.TEN)).isEqualTo(9007199254740994.0);
+	}
+
+	@Provide
+	Arbitrary<BigInteger> unscaledValues() {
+		BigInteger max = BigInteger.TEN.pow(400);
+		return Arbitraries.bigIntegers().between(max.negate(), max);
+	}
+}
@@ -51,6 +51,26 @@ public class RandomDistributionProperties {
 		Assertions.assertThat(value1).isEqualTo(value2);
 	}
 
+	@Property(edgeCases = EdgeCasesMode.MIXIN)
+	void longGeneratorsOnlyGenerateValuesWithinRange(
+		@ForAll("distributions") RandomDistribution distribution,
+		@ForAll @IntRange(min = 1, max = 10000) int genSize,
+		@ForAll("longConfigValues") Tuple3<Long, Long, Long> minMaxCenter,
+		@ForAll Random random
+	) {
+		long min = minMaxCenter.get1();
+		long max = minMaxCenter.get2();
+		long center = minMaxCenter.get3();
+
+		LongDistribution.RandomLongGenerator generator =
+			((LongDistribution) distribution).createLongGenerator(genSize, min, max, center);
+
+		for (int i = 0; i < 50; i++) {
+			long value = generator.next(random);
+			Assertions.assertThat(value).isBetween(min, max);
+		}
+	}
+
 	@Provide
 	Arbitrary<RandomDistribution> distributions() {
 		return Arbitraries.oneOf(
@@ -60,6 +80,20 @@ public class RandomDistributionProperties {
 		);
 	}
 
+	@Provide
+	Arbitrary<Tuple3<Long, Long, Long>> longConfigValues() {
+		// Long generators are only used for ranges of unscaled double values
+		long maxUnscaledDouble = 1L << 53;
+		Arbitrary<Long> mins = Arbitraries.longs().between(-maxUnscaledDouble, maxUnscaledDouble);
+		return mins.flatMap(min -> {
+			Arbitrary<Long> maxs = Arbitraries.longs().between(min, maxUnscaledDouble);
+			return maxs.flatMap(max -> {
+				Arbitrary<Long> centers = Arbitraries.longs().between(min, max);
+				return centers.map(center -> Tuple.of(min, max, center));
+			});
+		});
+	}
+
 	@Provide
 	Arbitrary<Tuple3<BigInteger, BigInteger, BigInteger>> distributionConfigValues() {
 		Arbitrary<BigInteger> mins = Arbitraries
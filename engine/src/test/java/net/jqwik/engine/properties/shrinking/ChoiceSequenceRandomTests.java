@@ -0,0 +1,55 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ChoiceSequenceRandomTests {
+
+	@Example
+	void recordedChoicesCanBeReplayed() {
+		ChoiceSequenceRandom recording = ChoiceSequenceRandom.recording(new Random(42));
+		List<Object> recorded = Arrays.asList(
+			recording.nextInt(), recording.nextInt(100), recording.nextLong(), recording.nextDouble(), recording.nextBoolean()
+		);
+
+		ChoiceSequenceRandom replaying = ChoiceSequenceRandom.replaying(recording.choices());
+		List<Object> replayed = Arrays.asList(
+			replaying.nextInt(), replaying.nextInt(100), replaying.nextLong(), replaying.nextDouble(), replaying.nextBoolean()
+		);
+
+		assertThat(replayed).isEqualTo(recorded);
+		assertThat(replaying.choices()).containsExactly(recording.choices());
+	}
+
+	@Example
+	void boundedChoiceIsRecordedAsDrawnValue() {
+		ChoiceSequenceRandom recording = ChoiceSequenceRandom.recording(new Random(42));
+		int value = recording.nextInt(1000);
+		assertThat(recording.choices()).containsExactly(value);
+	}
+
+	@Example
+	void replayingBeyondGivenChoicesDrawsZeros() {
+		ChoiceSequenceRandom replaying = ChoiceSequenceRandom.replaying(new int[0]);
+		assertThat(replaying.nextInt(10)).isEqualTo(0);
+		assertThat(replaying.nextLong()).isEqualTo(0L);
+		assertThat(replaying.nextDouble()).isEqualTo(0.0);
+		assertThat(replaying.choices()).containsExactly(0, 0, 0, 0, 0);
+	}
+
+	@Example
+	void replayingFailsIfTooManyChoicesAreDrawnBeyondGivenChoices() {
+		ChoiceSequenceRandom replaying = ChoiceSequenceRandom.replaying(new int[]{1, 2, 3});
+		assertThatThrownBy(replaying::nextGaussian).isInstanceOf(JqwikException.class);
+		assertThat(replaying.choices()).hasSize(3 + ChoiceSequenceRandom.MAX_CHOICES_BEYOND_REPLAYED);
+	}
+
+	@Example
+	void boundedChoiceOutsideBoundIsReplayedAsZero() {
+		ChoiceSequenceRandom replaying = ChoiceSequenceRandom.replaying(new int[]{42});
+		assertThat(replaying.nextInt(10)).isEqualTo(0);
+	}
+}
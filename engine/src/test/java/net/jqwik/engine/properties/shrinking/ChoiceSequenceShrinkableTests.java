@@ -0,0 +1,111 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.ShrinkingTestHelper.*;
+
+class ChoiceSequenceShrinkableTests {
+
+	@Example
+	void valueAndDistanceAreTakenFromGeneratedShrinkable() {
+		Shrinkable<Integer> generated = new ShrinkableTypesForTest.OneStepShrinkable(7);
+		Shrinkable<Integer> shrinkable = new ChoiceSequenceShrinkable<>(random -> generated, new int[]{1, 2}, generated);
+
+		assertThat(shrinkable.value()).isEqualTo(7);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(7));
+	}
+
+	@Property(tries = 10)
+	void shrinkIntegerTowardsTarget(@ForAll Random random) {
+		Arbitrary<Integer> integers = Arbitraries.integers().between(0, 100000);
+		TestingFalsifier<Integer> falsifier = anInt -> anInt < 1234;
+		Shrinkable<Integer> shrinkable = falsifiedWithChoices(integers, random, falsifier);
+
+		int shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+		assertThat(shrunkValue).isEqualTo(1234);
+	}
+
+	@Property(tries = 10)
+	void shrinkBothSidesOfFlatMap(@ForAll Random random) {
+		Arbitrary<String> strings = Arbitraries.integers().between(1, 20).flatMap(
+			length -> Arbitraries.strings().withCharRange('a', 'z').ofLength(length)
+		);
+		TestingFalsifier<String> falsifier = aString -> aString.length() < 5;
+		Shrinkable<String> shrinkable = falsifiedWithChoices(strings, random, falsifier);
+
+		String shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+		assertThat(shrunkValue).isEqualTo("aaaaa");
+	}
+
+	@Property(tries = 10)
+	void shrinkListSizeAndElements(@ForAll Random random) {
+		Arbitrary<List<Integer>> lists = Arbitraries.integers().between(-100, 100).list().ofMaxSize(10);
+		TestingFalsifier<List<Integer>> falsifier = aList -> aList.size() < 3;
+		Shrinkable<List<Integer>> shrinkable = falsifiedWithChoices(lists, random, falsifier);
+
+		List<Integer> shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+		assertThat(shrunkValue).containsExactly(0, 0, 0);
+	}
+
+	@Property(tries = 10)
+	void candidatesAreNotFurtherAway(@ForAll Random random) {
+		Shrinkable<List<Integer>> shrinkable = falsifiedWithChoices(
+			Arbitraries.integers().list(),
+			random,
+			ignore -> false
+		);
+
+		assertThat(shrinkable.shrink()).allMatch(candidate -> candidate.distance().compareTo(shrinkable.distance()) <= 0);
+	}
+
+	@Example
+	void choicesThatCannotBeReplayedAreIgnored() {
+		RandomGenerator<Integer> failsBelowTen = random -> {
+			int value = random.nextInt(100);
+			if (value < 10) {
+				throw new IllegalStateException("Cannot generate values below 10");
+			}
+			return Shrinkable.unshrinkable(value);
+		};
+		Shrinkable<Integer> shrinkable = new ChoiceSequenceShrinkable<>(failsBelowTen, new int[]{50}, Shrinkable.unshrinkable(50));
+
+		assertThat(shrinkable.shrink()).allMatch(candidate -> candidate.value() >= 10 && candidate.value() < 50);
+		int shrunkValue = shrinkToMinimal(shrinkable, (TestingFalsifier<Integer>) ignore -> false, null);
+		assertThat(shrunkValue).isEqualTo(10);
+	}
+
+	@Property(shrinking = ShrinkingMode.CHOICES, seed = "42")
+	@ExpectFailure(checkResult = ShrinkTo600.class)
+	void gaussianValuesAreShrunkByChoices(@ForAll("gaussians") int anInt) {
+		assertThat(anInt).isLessThan(600);
+	}
+
+	@Provide
+	Arbitrary<Integer> gaussians() {
+		return Arbitraries.integers().between(0, 1000).withDistribution(RandomDistribution.gaussian());
+	}
+
+	private class ShrinkTo600 extends ShrinkToChecker {
+		@Override
+		public Iterable<?> shrunkValues() {
+			return Collections.singletonList(600);
+		}
+	}
+
+	private static <T> Shrinkable<T> falsifiedWithChoices(Arbitrary<T> arbitrary, Random random, TestingFalsifier<T> falsifier) {
+		RandomGenerator<T> generator = arbitrary.generator(1000);
+		while (true) {
+			ChoiceSequenceRandom recording = ChoiceSequenceRandom.recording(random);
+			Shrinkable<T> generated = generator.next(recording);
+			if (falsifier.execute(generated.value()).isFalsified()) {
+				return new ChoiceSequenceShrinkable<>(generator, recording.choices(), generated);
+			}
+		}
+	}
+}
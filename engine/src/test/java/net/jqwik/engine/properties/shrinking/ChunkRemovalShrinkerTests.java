@@ -0,0 +1,61 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class ChunkRemovalShrinkerTests {
+
+	private final ChunkRemovalShrinker shrinker = new ChunkRemovalShrinker();
+
+	@Example
+	void listOfMinSizeIsNotShrunk() {
+		assertThat(shrinker.shrink(asList(1, 2, 3), 3)).isEmpty();
+		assertThat(shrinker.shrink(Collections.emptyList(), 0)).isEmpty();
+	}
+
+	@Example
+	void halvesAreRemovedFirstThenQuarters() {
+		List<List<Integer>> candidates = shrinker.shrink(asList(1, 2, 3, 4, 5, 6, 7, 8), 0).collect(Collectors.toList());
+		assertThat(candidates.subList(0, 6)).containsExactly(
+			asList(5, 6, 7, 8),
+			asList(1, 2, 3, 4),
+			asList(3, 4, 5, 6, 7, 8),
+			asList(1, 2, 5, 6, 7, 8),
+			asList(1, 2, 3, 4, 7, 8),
+			asList(1, 2, 3, 4, 5, 6)
+		);
+	}
+
+	@Example
+	void lastRoundRemovesEachSingleElement() {
+		Stream<List<Integer>> candidates = shrinker.shrink(asList(1, 2, 3, 4, 5), 0);
+		assertThat(candidates).containsExactly(
+			asList(4, 5),
+			asList(1, 2, 3),
+			asList(3, 4, 5),
+			asList(1, 2, 5),
+			asList(1, 2, 3, 4),
+			asList(2, 3, 4, 5),
+			asList(1, 3, 4, 5),
+			asList(1, 2, 4, 5),
+			asList(1, 2, 3, 5)
+		);
+	}
+
+	@Example
+	void chunksAreOnlyRemovedDownToMinSize() {
+		List<List<Integer>> candidates = shrinker.shrink(asList(1, 2, 3, 4, 5, 6, 7, 8), 6).collect(Collectors.toList());
+		assertThat(candidates).hasSize(12);
+		assertThat(candidates).allMatch(candidate -> candidate.size() >= 6);
+	}
+
+	@Example
+	void singleElementIsRemoved() {
+		assertThat(shrinker.shrink(asList(1), 0)).containsExactly(Collections.emptyList());
+	}
+}
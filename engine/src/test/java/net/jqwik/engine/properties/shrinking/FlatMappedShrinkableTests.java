@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
@@ -29,6 +30,37 @@ class FlatMappedShrinkableTests {
 		assertThat(shrinkable.value()).hasSize(3);
 	}
 
+	@Example
+	void rightSideIsGeneratedOncePerLeftValueForShrinking() {
+		AtomicInteger generations = new AtomicInteger();
+		Function<Integer, RandomGenerator<String>> flatMapper = anInt -> {
+			generations.incrementAndGet();
+			return Arbitraries.strings().alpha().ofLength(anInt).generator(1000);
+		};
+		Shrinkable<String> shrinkable = new FlatMappedShrinkable<>(new OneStepShrinkable(3), flatMapper, 42L);
+
+		shrinkable.distance();
+		shrinkable.distance();
+		assertThat(generations.get()).isEqualTo(1);
+
+		shrinkable.shrink().forEach(Shrinkable::distance);
+		shrinkable.shrink().forEach(Shrinkable::distance);
+		assertThat(generations.get()).isEqualTo(2);
+	}
+
+	@Example
+	void valueIsNotSharedBetweenCalls() {
+		Function<Integer, RandomGenerator<List<Integer>>> flatMapper =
+			anInt -> Arbitraries.integers().list().ofSize(anInt).generator(1000);
+		Shrinkable<List<Integer>> shrinkable = new FlatMappedShrinkable<>(new OneStepShrinkable(3), flatMapper, 42L);
+		shrinkable.distance();
+
+		List<Integer> first = shrinkable.value();
+		List<Integer> second = shrinkable.value();
+		assertThat(first).isNotSameAs(second);
+		assertThat(first).isEqualTo(second);
+	}
+
 	@Group
 	@PropertyDefaults(tries = 50, shrinking = ShrinkingMode.OFF)
 	class Shrinking {
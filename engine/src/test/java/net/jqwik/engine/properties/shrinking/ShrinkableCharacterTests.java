@@ -0,0 +1,52 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.ShrinkingTestHelper.*;
+
+class ShrinkableCharacterTests {
+
+	private final CharacterRanges ranges = CharacterRanges.of('a', 'z').union(CharacterRanges.of('0', '9'));
+
+	@Example
+	void creation() {
+		Shrinkable<Character> shrinkable = new ShrinkableCharacter(27, ranges);
+		assertThat(shrinkable.value()).isEqualTo('1');
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(27));
+	}
+
+	@Example
+	void shrinkTowardsFirstCharacterOfFirstRange() {
+		Shrinkable<Character> shrinkable = new ShrinkableCharacter(30, ranges);
+		char shrunkValue = shrinkToMinimal(shrinkable, (TestingFalsifier<Character>) ignore -> false, null);
+		assertThat(shrunkValue).isEqualTo('a');
+	}
+
+	@Example
+	void shrinkAcrossRanges() {
+		Shrinkable<Character> shrinkable = new ShrinkableCharacter(35, ranges);
+		TestingFalsifier<Character> falsifier = aChar -> aChar >= 'a' && aChar < 'x';
+		char shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+		assertThat(shrunkValue).isEqualTo('x');
+	}
+
+	@Example
+	void candidatesAreSortedByDistance() {
+		Shrinkable<Character> shrinkable = new ShrinkableCharacter(20, ranges);
+		assertThat(shrinkable.shrink().map(Shrinkable::distance).collect(Collectors.toList()))
+			.isSorted()
+			.allMatch(distance -> distance.compareTo(shrinkable.distance()) < 0);
+	}
+
+	@Example
+	void growStaysWithinRanges() {
+		Shrinkable<Character> shrinkable = new ShrinkableCharacter(30, ranges);
+		assertThat(shrinkable.grow().map(Shrinkable::value).collect(Collectors.toList()))
+			.containsExactly('5', '9');
+	}
+}
@@ -0,0 +1,83 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.ShrinkingTestHelper.*;
+
+class ShrinkableDoubleTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(2523, Range.of(-10000L, 10000L), 0, 2);
+		assertThat(shrinkable.value()).isEqualTo(25.23);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(2523));
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy(
+			() -> new ShrinkableDouble(2500, Range.of(5000L, 10000L), 5000, 2))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistanceWithExplicitShrinkingTarget() {
+		assertThat(new ShrinkableDouble(2523, Range.of(-10000L, 10000L), 2350, 2).distance())
+			.isEqualTo(ShrinkingDistance.of(173));
+
+		assertThat(new ShrinkableDouble(-2523, Range.of(-10000L, 10000L), -1010, 2).distance())
+			.isEqualTo(ShrinkingDistance.of(1513));
+	}
+
+	@Example
+	void valuesWithFewerDecimalPlacesAreTriedFirst() {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(12345, Range.of(-100000L, 100000L), 0, 3);
+		assertThat(shrinkable.shrink().limit(3).map(Shrinkable::value))
+			.containsExactly(12.0, 12.3, 12.34);
+	}
+
+	@Example
+	void decimalPlacesAreRemovedTowardsShrinkingTarget() {
+		Shrinkable<Double> negative = new ShrinkableDouble(-12345, Range.of(-100000L, 100000L), 0, 3);
+		assertThat(negative.shrink().limit(3).map(Shrinkable::value))
+			.containsExactly(-12.0, -12.3, -12.34);
+
+		Shrinkable<Double> belowTarget = new ShrinkableDouble(12345, Range.of(-100000L, 100000L), 20000, 3);
+		assertThat(belowTarget.shrink().limit(3).map(Shrinkable::value))
+			.containsExactly(13.0, 12.4, 12.35);
+	}
+
+	@Example
+	void shrinkToSimpleDecimal() {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(7389, Range.of(0L, 10000L), 0, 3);
+		TestingFalsifier<Double> falsifier = aDouble -> aDouble < 2.5;
+		double shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+		assertThat(shrunkValue).isEqualTo(2.5);
+	}
+
+	@Property(tries = 100)
+	void shrinkingWillAlwaysConvergeToTarget(
+		@ForAll @LongRange(min = -1000000000, max = 1000000000) long unscaledValue,
+		@ForAll @LongRange(min = -1000, max = 1000) long unscaledTarget,
+		@ForAll @IntRange(min = 0, max = 10) int scale
+	) {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(unscaledValue, Range.of(-1000000000L, 1000000000L), unscaledTarget, scale);
+		double shrunkValue = shrinkToMinimal(shrinkable, (TestingFalsifier<Double>) ignore -> false, null);
+		assertThat(shrunkValue).isEqualTo(new BigDecimal(BigInteger.valueOf(unscaledTarget), scale).doubleValue());
+	}
+
+	@Example
+	void candidatesAreWithinRange() {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(-567, Range.of(-1000L, 500L), 0, 2);
+		assertThat(shrinkable.shrink().map(Shrinkable::value).collect(Collectors.toList()))
+			.allMatch(value -> value >= -10.0 && value <= 5.0)
+			.doesNotContain(5.67);
+	}
+}
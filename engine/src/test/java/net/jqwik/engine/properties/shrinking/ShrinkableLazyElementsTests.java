@@ -0,0 +1,102 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.ShrinkingTestHelper.*;
+
+@Group
+@Label("ShrinkableLazyElements")
+class ShrinkableLazyElementsTests {
+
+	private final RandomGenerator<Integer> elementGenerator = Arbitraries.integers().between(0, 1000).generator(1000);
+
+	@Example
+	void valuesAreGeneratedFromSeed() {
+		Shrinkable<Iterable<Integer>> shrinkable = new ShrinkableLazyElements<>(elementGenerator, 100, 42L, 0, 100);
+
+		assertThat(shrinkable.value()).hasSize(100);
+		assertThat(shrinkable.value()).containsExactlyElementsOf(shrinkable.value());
+	}
+
+	@Example
+	void distanceOnlyConsidersElementsRead() {
+		Shrinkable<Iterable<Integer>> shrinkable = new ShrinkableLazyElements<>(elementGenerator, 1_000_000, 42L, 0, 1_000_000);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(1_000_000, 0));
+
+		List<Integer> firstTwo = read(shrinkable.value(), 2);
+		long sumOfFirstTwo = firstTwo.get(0) + firstTwo.get(1);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(1_000_000, sumOfFirstTwo));
+	}
+
+	@Example
+	void readElementsAreGeneratedOnlyOnceForShrinking() {
+		AtomicInteger generations = new AtomicInteger();
+		RandomGenerator<Integer> countingGenerator = random -> {
+			generations.incrementAndGet();
+			return elementGenerator.next(random);
+		};
+		Shrinkable<Iterable<Integer>> shrinkable = new ShrinkableLazyElements<>(countingGenerator, 1000, 42L, 0, 1000);
+
+		read(shrinkable.value(), 3);
+		assertThat(generations.get()).isEqualTo(3);
+
+		shrinkable.distance();
+		shrinkable.distance();
+		shrinkable.shrink();
+		shrinkable.shrink();
+		assertThat(generations.get()).isEqualTo(6);
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void unreadElementsAreCutOff() {
+			Shrinkable<Iterable<Integer>> shrinkable = new ShrinkableLazyElements<>(elementGenerator, 1_000_000, 42L, 0, 1_000_000);
+
+			Falsifier<Iterable<Integer>> falsifier = falsifier(iterable -> read(iterable, 3).size() < 3);
+			falsifier.execute(shrinkable.value());
+			Iterable<Integer> shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(0, 0, 0);
+		}
+
+		@Example
+		void unreadElementsAreKeptForMinSize() {
+			Shrinkable<Iterable<Integer>> shrinkable = new ShrinkableLazyElements<>(elementGenerator, 1_000_000, 42L, 100_000, 1_000_000);
+
+			Falsifier<Iterable<Integer>> falsifier = iterable -> {
+				read(iterable, 3);
+				return TryExecutionResult.falsified(null);
+			};
+			falsifier.execute(shrinkable.value());
+			Iterable<Integer> shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+			assertThat(read(shrunkValue, 3)).containsExactly(0, 0, 0);
+			assertThat(shrunkValue).hasSize(100_000);
+		}
+
+		@Example
+		void shrinkReadElements() {
+			Shrinkable<Iterable<Integer>> shrinkable = new ShrinkableLazyElements<>(elementGenerator, 1000, 42L, 0, 1000);
+
+			Falsifier<Iterable<Integer>> falsifier = falsifier(
+				iterable -> read(iterable, 10).stream().noneMatch(i -> i > 100)
+			);
+			assertThat(falsifier.execute(shrinkable.value()).isFalsified()).isTrue();
+			Iterable<Integer> shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(101);
+		}
+	}
+
+	private static List<Integer> read(Iterable<Integer> iterable, int count) {
+		return StreamSupport.stream(iterable.spliterator(), false)
+							.limit(count)
+							.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,95 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.ShrinkingTestHelper.*;
+
+@Group
+@Label("ShrinkableMap")
+class ShrinkableMapTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Map<Integer, Integer>> shrinkable = createShrinkableMap(asList(1, 2, 3), asList(4, 5, 6), 0);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(3, 6, 15));
+		assertThat(shrinkable.value()).containsOnlyKeys(1, 2, 3);
+		assertThat(shrinkable.value()).containsEntry(1, 4).containsEntry(2, 5).containsEntry(3, 6);
+	}
+
+	@Example
+	void nullValuesAreAllowed() {
+		Shrinkable<Map<Integer, Integer>> shrinkable = new ShrinkableMap<>(
+			Collections.singletonList(ShrinkableMap.entry(new OneStepShrinkable(1), Shrinkable.unshrinkable(null))),
+			0, 1
+		);
+		assertThat(shrinkable.value()).containsEntry(1, null);
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<Map<Integer, Integer>> shrinkable = createShrinkableMap(asList(1, 2, 3), asList(4, 5, 6), 0);
+
+			Map<Integer, Integer> shrunkValue = shrinkToMinimal(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEmpty();
+		}
+
+		@Example
+		void downToMinSize() {
+			Shrinkable<Map<Integer, Integer>> shrinkable = createShrinkableMap(asList(1, 2, 3), asList(4, 5, 6), 2);
+
+			Map<Integer, Integer> shrunkValue = shrinkToMinimal(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).hasSize(2);
+			assertThat(shrunkValue.keySet()).containsExactlyInAnyOrder(0, 1);
+			assertThat(shrunkValue.values()).containsOnly(0);
+		}
+
+		@Example
+		void keysAndValuesAreShrunkIndependently() {
+			Shrinkable<Map<Integer, Integer>> shrinkable = createShrinkableMap(asList(5, 8), asList(7, 3), 0);
+
+			TestingFalsifier<Map<Integer, Integer>> falsifier = map -> !map.containsValue(2);
+			Map<Integer, Integer> shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsOnlyKeys(0);
+			assertThat(shrunkValue).containsEntry(0, 2);
+		}
+
+		@Example
+		void shrunkKeysStayUnique() {
+			Shrinkable<Map<Integer, Integer>> shrinkable = createShrinkableMap(asList(2, 3, 4), asList(1, 1, 1), 0);
+
+			TestingFalsifier<Map<Integer, Integer>> falsifier = map -> map.size() < 3;
+			Map<Integer, Integer> shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+			assertThat(shrunkValue.keySet()).containsExactlyInAnyOrder(0, 1, 2);
+			assertThat(shrunkValue.values()).containsOnly(0);
+		}
+
+		@Example
+		void shrinkCandidatesNeverHaveDuplicateKeys() {
+			Shrinkable<Map<Integer, Integer>> shrinkable = createShrinkableMap(asList(0, 1, 2), asList(1, 1, 1), 0);
+
+			assertThat(shrinkable.shrink()).allMatch(candidate -> {
+				ShrinkableMap<?, ?> shrinkableMap = (ShrinkableMap<?, ?>) candidate;
+				return shrinkableMap.value().size() == shrinkableMap.elements.size();
+			});
+		}
+	}
+
+	private Shrinkable<Map<Integer, Integer>> createShrinkableMap(List<Integer> keys, List<Integer> values, int minSize) {
+		List<Shrinkable<Map.Entry<Integer, Integer>>> entries = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			entries.add(ShrinkableMap.entry(new OneStepShrinkable(keys.get(i)), new OneStepShrinkable(values.get(i))));
+		}
+		return new ShrinkableMap<>(entries, minSize, keys.size());
+	}
+
+}
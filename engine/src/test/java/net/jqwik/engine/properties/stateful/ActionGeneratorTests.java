@@ -1,9 +1,11 @@
 package net.jqwik.engine.properties.stateful;
 
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.*;
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.stateful.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -77,6 +79,34 @@ class ActionGeneratorTests {
 			assertThatThrownBy(() -> actionGenerator.next(42)).isInstanceOf(NoSuchElementException.class);
 			assertThat(actionGenerator.generated()).hasSize(0);
 		}
+
+		@Example
+		void onlyUsesApplicableActionArbitraries(@ForAll Random random) {
+			List<Tuple2<Predicate<? super Integer>, Arbitrary<Action<Integer>>>> actionArbitraries = Arrays.asList(
+				Tuple.of(model -> model % 2 == 0, Arbitraries.just(plus1())),
+				Tuple.of(model -> model % 2 != 0, Arbitraries.just(plus2()))
+			);
+
+			RandomActionGenerator<Integer> actionGenerator = new RandomActionGenerator<>(actionArbitraries, 1000, random);
+
+			for (int i = 0; i < 10; i++) {
+				assertThat(actionGenerator.next(42)).isEqualTo(PLUS_1);
+				assertThat(actionGenerator.next(43)).isEqualTo(PLUS_2);
+			}
+			assertThat(actionGenerator.generated()).hasSize(20);
+		}
+
+		@Example
+		void failsWithoutApplicableActionArbitrary(@ForAll Random random) {
+			List<Tuple2<Predicate<? super Integer>, Arbitrary<Action<Integer>>>> actionArbitraries = Collections.singletonList(
+				Tuple.of(model -> model < 0, Arbitraries.just(plus1()))
+			);
+
+			RandomActionGenerator<Integer> actionGenerator = new RandomActionGenerator<>(actionArbitraries, 1000, random);
+
+			assertThatThrownBy(() -> actionGenerator.next(42)).isInstanceOf(NoSuchElementException.class);
+			assertThat(actionGenerator.generated()).hasSize(0);
+		}
 	}
 
 	@Group
@@ -51,6 +51,21 @@ class ActionSequenceProperties {
 		return Arbitraries.sequences(Arbitraries.oneOf(addX(), addZ()));
 	}
 
+	@Property
+	void actionsAreOnlyGeneratedWhileApplicable(@ForAll("xThenY") @Size(10) ActionSequence<String> actions) {
+		String result = actions.run("");
+
+		Assertions.assertThat(result).hasSize(10);
+		Assertions.assertThat(result).doesNotContain("yy");
+		Assertions.assertThat(result).startsWith("x");
+	}
+
+	@Provide
+	ActionSequenceArbitrary<String> xThenY() {
+		return Arbitraries.sequences(addX())
+						  .withActions(model -> model.endsWith("x"), addY());
+	}
+
 	@Example
 	void errorsAreWrappedInAssertionFailedError(@ForAll Random random) {
 		Arbitrary<ActionSequence<String>> arbitrary = Arbitraries.sequences(error());
@@ -0,0 +1,335 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.stateful.*;
+import net.jqwik.engine.properties.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.ShrinkingTestHelper.*;
+
+class ParallelActionSequenceTests {
+
+	@Example
+	void runPrefixThenThreadsInParallel() {
+		ParallelActionSequence<Counter> sequence = createSequence(
+			asList(increment(), increment()),
+			asList(increment(), increment()),
+			asList(increment())
+		);
+
+		Counter counter = sequence.run(new SynchronizedCounter(0));
+
+		assertThat(counter.value()).isEqualTo(5);
+		assertThat(sequence.runState()).isEqualTo(ActionSequence.RunState.SUCCEEDED);
+		assertThat(sequence.prefix()).hasSize(2);
+		assertThat(sequence.threads()).hasSize(2);
+		assertThat(sequence.runActions()).hasSize(5);
+	}
+
+	@Example
+	void lostUpdatesAreNotLinearizable() {
+		ParallelActionSequence<Counter> sequence = createSequence(
+			Collections.emptyList(),
+			asList(increment()),
+			asList(increment())
+		);
+
+		assertThatThrownBy(() -> sequence.run(new RacyCounter(0)))
+			.isInstanceOf(AssertionFailedError.class)
+			.hasMessageContaining("Linearizability check failed");
+		assertThat(sequence.runState()).isEqualTo(ActionSequence.RunState.FAILED);
+	}
+
+	@Example
+	void threadActionsAreCutOffIfPreconditionFailsInAnyInterleaving() {
+		ParallelActionSequence<Counter> sequence = createSequence(
+			asList(increment()),
+			asList(decrement(), increment()),
+			asList(decrement(), increment())
+		);
+
+		Counter counter = sequence.run(new SynchronizedCounter(0));
+
+		assertThat(sequence.threads().get(0)).hasSize(2);
+		assertThat(sequence.threads().get(1)).isEmpty();
+		assertThat(counter.value()).isEqualTo(1);
+	}
+
+	@Example
+	void eachInterleavingIsCheckedOnceWhileGeneratingThreads() {
+		AtomicInteger preconditionChecks = new AtomicInteger();
+		Action<Counter> countingIncrement = new Action<Counter>() {
+			@Override
+			public boolean precondition(Counter counter) {
+				preconditionChecks.incrementAndGet();
+				return true;
+			}
+
+			@Override
+			public Counter run(Counter counter) {
+				counter.add(1);
+				return counter;
+			}
+		};
+		List<Shrinkable<Action<Counter>>> eightIncrements = Collections.nCopies(8, Shrinkable.unshrinkable(countingIncrement));
+		ParallelActionSequence<Counter> sequence = createSequence(Collections.emptyList(), eightIncrements, eightIncrements);
+
+		sequence.run(new SynchronizedCounter(0));
+
+		// Each of the 9 x 9 combinations of thread positions is left by at most two actions.
+		// Checking all interleavings again for each added action takes about 750 checks.
+		assertThat(sequence.threads().get(1)).hasSize(8);
+		assertThat(preconditionChecks.get()).isLessThan(250);
+	}
+
+	@Example
+	void threadsThatDoNotFinishInTimeAreInterrupted() throws InterruptedException {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		Action<Counter> blockInParallelRun = new Action<Counter>() {
+			@Override
+			public Counter run(Counter counter) {
+				if (Thread.currentThread().getName().startsWith("jqwik-parallel-actions")) {
+					try {
+						Thread.sleep(TimeUnit.SECONDS.toMillis(60));
+					} catch (InterruptedException e) {
+						interrupted.countDown();
+					}
+				}
+				return counter;
+			}
+		};
+		ParallelActionSequence<Counter> sequence = new ParallelActionSequence<>(
+			new ShrinkablesActionGenerator<>(Collections.emptyList()),
+			asList(
+				new ShrinkablesActionGenerator<>(asList(Shrinkable.unshrinkable(blockInParallelRun))),
+				new ShrinkablesActionGenerator<>(asList(increment()))
+			),
+			0,
+			1,
+			Counter::value,
+			(Integer value) -> new SynchronizedCounter(value),
+			100
+		);
+
+		assertThatThrownBy(() -> sequence.run(new SynchronizedCounter(0)))
+			.isInstanceOf(AssertionFailedError.class)
+			.hasMessageContaining("did not finish within 100 ms");
+		assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Example
+	void failuresInThreadsAreReported() {
+		ParallelActionSequence<Counter> sequence = createSequence(
+			Collections.emptyList(),
+			asList(increment()),
+			asList(increment())
+		);
+
+		Counter failingCounter = new SynchronizedCounter(0) {
+			@Override
+			public void add(int delta) {
+				throw new IllegalStateException("failure in thread");
+			}
+		};
+		assertThatThrownBy(() -> sequence.run(failingCounter))
+			.isInstanceOf(AssertionFailedError.class)
+			.hasMessageContaining("Parallel run failed")
+			.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Example
+	void invariantsAreCheckedAfterParallelRun() {
+		ParallelActionSequence<Counter> sequence = createSequence(
+			Collections.emptyList(),
+			asList(increment()),
+			asList(increment())
+		);
+		sequence.withInvariant(counter -> assertThat(counter.value()).isLessThan(2));
+
+		assertThatThrownBy(() -> sequence.run(new SynchronizedCounter(0)))
+			.isInstanceOf(InvariantFailedError.class);
+	}
+
+	@Example
+	void shrinkToTwoParallelActions() {
+		List<Shrinkable<Action<Counter>>> prefix = asList(increment(), increment(), increment());
+		List<ActionGenerator<Counter>> threadGenerators = asList(
+			new ShrinkablesActionGenerator<>(asList(increment(), increment())),
+			new ShrinkablesActionGenerator<>(asList(increment(), increment()))
+		);
+		Shrinkable<ActionSequence<Counter>> shrinkable = new ShrinkableParallelActionSequence<>(
+			new ShrinkablesActionGenerator<>(prefix),
+			threadGenerators,
+			1, 3, 2,
+			ShrinkingDistance.of(4, 7),
+			Counter::value,
+			(Integer value) -> new SynchronizedCounter(value)
+		);
+
+		TestingFalsifier<ActionSequence<Counter>> falsifier = seq -> {
+			seq.run(new RacyCounter(0));
+			return true;
+		};
+		Throwable originalError = falsifier.execute(shrinkable.value()).throwable().orElse(null);
+		assertThat(originalError).isNotNull();
+
+		ParallelActionSequence<Counter> shrunkValue = (ParallelActionSequence<Counter>) shrinkToMinimal(shrinkable, falsifier, originalError);
+		assertThat(shrunkValue.prefix()).isEmpty();
+		assertThat(shrunkValue.threads()).containsExactly(
+			asList(increment().value()),
+			asList(increment().value())
+		);
+	}
+
+	@Property(tries = 20)
+	void generatedSequencesOfSynchronizedCounterAreLinearizable(@ForAll("counterActions") ActionSequence<Counter> sequence) {
+		Counter counter = sequence.run(new SynchronizedCounter(0));
+		assertThat(counter.value()).isGreaterThanOrEqualTo(0);
+	}
+
+	@Example
+	void parallelSequencesRequireSnapshots() {
+		ActionSequenceArbitrary<Counter> arbitrary = Arbitraries.sequences(Arbitraries.just(increment().value())).inParallel(2);
+		assertThatThrownBy(() -> arbitrary.generator(1000)).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void atLeastTwoThreads() {
+		ActionSequenceArbitrary<Counter> arbitrary = Arbitraries.sequences(Arbitraries.just(increment().value()));
+		assertThatThrownBy(() -> arbitrary.inParallel(1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Provide
+	Arbitrary<ActionSequence<Counter>> counterActions() {
+		return Arbitraries.sequences(Arbitraries.of(increment().value(), decrement().value()))
+						  .withSnapshots(Counter::value, SynchronizedCounter::new)
+						  .inParallel(2);
+	}
+
+	private ParallelActionSequence<Counter> createSequence(
+		List<Shrinkable<Action<Counter>>> prefix,
+		List<Shrinkable<Action<Counter>>> thread1,
+		List<Shrinkable<Action<Counter>>> thread2
+	) {
+		List<ActionGenerator<Counter>> threadGenerators = asList(
+			new ShrinkablesActionGenerator<>(thread1),
+			new ShrinkablesActionGenerator<>(thread2)
+		);
+		return new ParallelActionSequence<>(
+			new ShrinkablesActionGenerator<>(prefix),
+			threadGenerators,
+			prefix.size(),
+			Math.max(thread1.size(), thread2.size()),
+			Counter::value,
+			(Integer value) -> new SynchronizedCounter(value)
+		);
+	}
+
+	private static final Action<Counter> INCREMENT = new Action<Counter>() {
+		@Override
+		public Counter run(Counter counter) {
+			counter.add(1);
+			return counter;
+		}
+
+		@Override
+		public String toString() {
+			return "increment";
+		}
+	};
+
+	private static final Action<Counter> DECREMENT = new Action<Counter>() {
+		@Override
+		public boolean precondition(Counter counter) {
+			return counter.value() > 0;
+		}
+
+		@Override
+		public Counter run(Counter counter) {
+			counter.add(-1);
+			return counter;
+		}
+
+		@Override
+		public String toString() {
+			return "decrement";
+		}
+	};
+
+	private Shrinkable<Action<Counter>> increment() {
+		return Shrinkable.unshrinkable(INCREMENT);
+	}
+
+	private Shrinkable<Action<Counter>> decrement() {
+		return Shrinkable.unshrinkable(DECREMENT);
+	}
+
+	private interface Counter {
+		int value();
+
+		void add(int delta);
+	}
+
+	private static class SynchronizedCounter implements Counter {
+		private int value;
+
+		private SynchronizedCounter(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public synchronized int value() {
+			return value;
+		}
+
+		@Override
+		public synchronized void add(int delta) {
+			value += delta;
+		}
+	}
+
+	// Adds from parallel threads wait for each other between reading and writing the value
+	// so that one of two parallel updates always gets lost
+	private static class RacyCounter implements Counter {
+		private final Thread owner = Thread.currentThread();
+		private final CyclicBarrier bothRead = new CyclicBarrier(2);
+		private volatile int value;
+
+		private RacyCounter(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public int value() {
+			return value;
+		}
+
+		@Override
+		public void add(int delta) {
+			int current = value;
+			if (Thread.currentThread() != owner) {
+				awaitParallelAdd();
+			}
+			value = current + delta;
+		}
+
+		// Adds without a parallel partner, e.g. in a single thread, give up waiting
+		private void awaitParallelAdd() {
+			try {
+				bothRead.await(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException timeout) {
+				bothRead.reset();
+			} catch (InterruptedException | BrokenBarrierException ignore) {
+			}
+		}
+	}
+}
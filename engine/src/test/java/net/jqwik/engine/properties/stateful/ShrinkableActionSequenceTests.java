@@ -1,6 +1,8 @@
 package net.jqwik.engine.properties.stateful;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
@@ -145,6 +147,83 @@ class ShrinkableActionSequenceTests {
 		assertThat(shrunkValue.run("")).isEqualTo("x");
 	}
 
+	@Example
+	void longSequencesAreShrunkInFewTries() {
+		List<Shrinkable<Action<String>>> actions = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			actions.add(i % 100 == 0 ? shrinkableAddCC() : shrinkableAddX());
+		}
+		Shrinkable<ActionSequence<String>> shrinkable = createAndRunShrinkableSequence(actions);
+
+		AtomicInteger tries = new AtomicInteger();
+		TestingFalsifier<ActionSequence<String>> falsifier = seq -> {
+			tries.incrementAndGet();
+			String result = seq.run("");
+			return result.chars().filter(c -> c == 'x').count() < 3;
+		};
+
+		ActionSequence<String> shrunkValue = shrinkToMinimal(shrinkable, falsifier, null);
+		assertThat(shrunkValue.run("")).isEqualTo("xxx");
+		assertThat(tries.get()).isLessThan(100);
+	}
+
+	@Property(tries = 100)
+	void shrinkingWithSnapshotsHasSameResult(@ForAll("stringActions") @Size(max = 50) List<Shrinkable<Action<String>>> actions) {
+		actions.add(shrinkableAddX()); // to ensure that at least one action is valid
+		TestingFalsifier<ActionSequence<String>> falsifier = seq -> {
+			String result = seq.run("");
+			return !result.contains("x") || result.length() < 3;
+		};
+
+		ActionSequence<String> shrunkWithoutSnapshots = shrinkToMinimal(createAndRunShrinkableSequence(actions), falsifier, null);
+		ActionSequence<String> shrunkWithSnapshots = shrinkToMinimal(createAndRunShrinkableSequence(actions, stringCheckpoints()), falsifier, null);
+
+		assertThat(shrunkWithSnapshots.run("")).isEqualTo(shrunkWithoutSnapshots.run(""));
+		assertThat(shrunkWithSnapshots.runActions()).hasSameSizeAs(shrunkWithoutSnapshots.runActions());
+	}
+
+	@Example
+	void snapshotsAvoidRunningSharedPrefixesAgain() {
+		AtomicInteger countRuns = new AtomicInteger(0);
+		List<Shrinkable<Action<String>>> actions = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			actions.add(shrinkableAddCC().map(action -> model -> {
+				countRuns.incrementAndGet();
+				return action.run(model);
+			}));
+		}
+		TestingFalsifier<ActionSequence<String>> falsifier = seq -> {
+			String result = seq.run("");
+			return result.length() < 20;
+		};
+
+		shrinkToMinimal(createAndRunShrinkableSequence(actions), falsifier, null);
+		int runsWithoutSnapshots = countRuns.getAndSet(0);
+		ActionSequence<String> shrunkValue = shrinkToMinimal(createAndRunShrinkableSequence(actions, stringCheckpoints()), falsifier, null);
+		int runsWithSnapshots = countRuns.get();
+
+		assertThat(shrunkValue.run("")).isEqualTo("aaaaaaaaaaaaaaaaaaaa");
+		assertThat(runsWithSnapshots).isLessThan(runsWithoutSnapshots);
+	}
+
+	@Example
+	void restoredActionsAreReportedAsRunActions() {
+		List<Shrinkable<Action<String>>> actions = asList(
+			shrinkableAddX(),
+			shrinkableFailingPrecondition(),
+			shrinkableAddCC()
+		);
+		ModelCheckpoints<String> checkpoints = stringCheckpoints();
+		ShrinkablesActionGenerator<String> firstGenerator = new ShrinkablesActionGenerator<>(actions);
+		new SequentialActionSequence<>(firstGenerator, actions.size(), checkpoints).run("");
+
+		ShrinkablesActionGenerator<String> secondGenerator = new ShrinkablesActionGenerator<>(actions);
+		ActionSequence<String> resumed = new SequentialActionSequence<>(secondGenerator, actions.size(), checkpoints);
+		assertThat(resumed.run("")).isEqualTo("xcc");
+		assertThat(resumed.runActions()).hasSize(2);
+		assertThat(secondGenerator.generated()).isEqualTo(firstGenerator.generated());
+	}
+
 	@Provide
 	Arbitrary<List<Shrinkable<Action<String>>>> stringActions() {
 		return Arbitraries.of(shrinkableAddCC(), shrinkableAddX(), shrinkableFailingPrecondition()).list();
@@ -179,12 +258,24 @@ class ShrinkableActionSequenceTests {
 	}
 
 	private Shrinkable<ActionSequence<String>> createAndRunShrinkableSequence(List<Shrinkable<Action<String>>> actions) {
+		return createAndRunShrinkableSequence(actions, null);
+	}
+
+	private Shrinkable<ActionSequence<String>> createAndRunShrinkableSequence(
+		List<Shrinkable<Action<String>>> actions,
+		ModelCheckpoints<String> checkpoints
+	) {
 		ActionGenerator<String> actionGenerator = new ShrinkablesActionGenerator<>(actions);
 		Shrinkable<ActionSequence<String>> shrinkable = new ShrinkableActionSequence<>(
-			actionGenerator, 1, actions.size(), ShrinkingDistance.of(actions.size())
+			actionGenerator, 1, actions.size(), ShrinkingDistance.of(actions.size()), checkpoints
 		);
 		shrinkable.value().run("");
 		return shrinkable;
 	}
 
+	// Strings are immutable and can therefore be their own snapshot
+	private ModelCheckpoints<String> stringCheckpoints() {
+		return new ModelCheckpoints<>(Function.identity(), Function.identity());
+	}
+
 }
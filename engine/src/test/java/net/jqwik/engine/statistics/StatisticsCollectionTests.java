@@ -1,6 +1,8 @@
 package net.jqwik.engine.statistics;
 
+import java.math.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.hooks.statistics.*;
@@ -48,6 +50,60 @@ class StatisticsCollectionTests {
 			assertThat(counts.get(asList("three", 3))).isEqualTo(3);
 		}
 
+		@Example
+		void countSingleBooleansEnumsAndInts() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			collector.collect(true);
+			collector.collect(RoundingMode.UP);
+			collector.collect(42);
+			collector.collect(100000);
+			collector.collect(-1);
+			collector.collect(RoundingMode.UP);
+			collector.collect(false);
+			collector.collect(true);
+			collector.collect(42);
+			collector.collect(100000);
+
+			Map<List<Object>, Integer> counts = collector.getCounts();
+			assertThat(counts.get(asList(true))).isEqualTo(2);
+			assertThat(counts.get(asList(false))).isEqualTo(1);
+			assertThat(counts.get(asList(RoundingMode.UP))).isEqualTo(2);
+			assertThat(counts.get(asList(42))).isEqualTo(2);
+			assertThat(counts.get(asList(100000))).isEqualTo(2);
+			assertThat(counts.get(asList(-1))).isEqualTo(1);
+			assertThat(collector.countAllCollects()).isEqualTo(10);
+		}
+
+		@Example
+		void countConcurrentCollects() throws Exception {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int thread = 0; thread < 4; thread++) {
+					futures.add(executor.submit(() -> {
+						for (int i = 0; i < 1000; i++) {
+							collector.collect(i % 2 == 0);
+							collector.collect(i % 3 == 0 ? "three" : "other");
+						}
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} finally {
+				executor.shutdown();
+			}
+
+			assertThat(collector.countAllCollects()).isEqualTo(8000);
+			assertThat(collector.count(true)).isEqualTo(2000);
+			assertThat(collector.count(false)).isEqualTo(2000);
+			assertThat(collector.count("three")).isEqualTo(4 * 334);
+			assertThat(collector.count("other")).isEqualTo(4 * 666);
+		}
+
 		@Example
 		void callingCollectWithNoValueFails() {
 			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
@@ -239,4 +295,83 @@ class StatisticsCollectionTests {
 		}
 
 	}
+
+	@Group
+	class ApproximateCounting {
+
+		@Example
+		void fewDistinctValuesAreCountedExactly() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.approximate(3);
+
+			collector.collect("two");
+			collector.collect("one");
+			collector.collect("two");
+			collector.collect("three");
+
+			assertThat(collector.countAllCollects()).isEqualTo(4);
+			assertThat(collector.count("one")).isEqualTo(1);
+			assertThat(collector.count("two")).isEqualTo(2);
+			assertThat(collector.count("three")).isEqualTo(1);
+		}
+
+		@Example
+		void numbersAreClusteredWithinBoundedMemory() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.approximate(10);
+
+			for (int i = 0; i < 100000; i++) {
+				collector.collect(i);
+			}
+
+			Map<List<Object>, Integer> counts = collector.getCounts();
+			assertThat(counts.size()).isLessThanOrEqualTo(40);
+			assertThat(counts.values().stream().mapToInt(c -> c).sum()).isEqualTo(100000);
+			assertThat(collector.countAllCollects()).isEqualTo(100000);
+			assertThat(counts.get(asList(0))).isEqualTo(1);
+			assertThat(counts.get(asList(99999))).isEqualTo(1);
+		}
+
+		@Example
+		void mostFrequentValuesSurviveManyRareValues() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.approximate(10);
+
+			for (int i = 0; i < 10000; i++) {
+				collector.collect("frequent");
+				collector.collect("rare" + i);
+			}
+
+			assertThat(collector.getCounts().size()).isEqualTo(10);
+			assertThat(collector.count("frequent")).isGreaterThanOrEqualTo(10000);
+			assertThat(collector.countAllCollects()).isEqualTo(20000);
+		}
+
+		@Example
+		void switchingToApproximateCanBeRepeatedWithSameNumberOfEntries() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			collector.approximate(5).collect("one");
+			collector.approximate(5).collect("one");
+
+			assertThat(collector.count("one")).isEqualTo(2);
+			assertThatThrownBy(() -> collector.approximate(6)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Example
+		void switchingToApproximateAfterCollectFails() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			collector.collect("one");
+
+			assertThatThrownBy(() -> collector.approximate(5)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Example
+		void approximateWithLessThanOneEntryFails() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			assertThatThrownBy(() -> collector.approximate(0)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
 }
@@ -5,6 +5,7 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
+import net.jqwik.engine.support.combinatorics.*;
 
 import static java.util.Arrays.*;
 import static org.assertj.core.api.Assertions.*;
@@ -404,4 +405,88 @@ class CombinatoricsTests {
 				.list();
 		}
 	}
+
+	@Group
+	@Label("OdometerCombinations")
+	class Odometer {
+
+		@Example
+		void getCombinationByIndex() {
+			OdometerCombinations<Object> combinations = new OdometerCombinations<>(asList(
+				asList(1, 2, 3),
+				asList('a', 'b')
+			));
+
+			assertThat(combinations.size()).isEqualTo(6);
+			assertThat(combinations.get(0)).containsExactly(1, 'a');
+			assertThat(combinations.get(3)).containsExactly(2, 'b');
+			assertThat(combinations.get(5)).containsExactly(3, 'b');
+			assertThatThrownBy(() -> combinations.get(6)).isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Example
+		void iterateRangeOfCombinations() {
+			OdometerCombinations<Object> combinations = new OdometerCombinations<>(asList(
+				asList(1, 2, 3),
+				asList('a', 'b')
+			));
+
+			Iterator<List<Object>> iterator = combinations.iterator(1, 4, false);
+			assertThat(iterator).toIterable().containsExactly(
+				asList(1, 'b'), asList(2, 'a'), asList(2, 'b')
+			);
+		}
+
+		@Example
+		void reusedBufferShowsCurrentCombination() {
+			OdometerCombinations<Object> combinations = new OdometerCombinations<>(asList(
+				asList(1, 2),
+				asList('a', 'b')
+			));
+
+			List<List<Object>> copies = new ArrayList<>();
+			Iterator<List<Object>> iterator = combinations.iterator(0, combinations.size(), true);
+			while (iterator.hasNext()) {
+				copies.add(new ArrayList<>(iterator.next()));
+			}
+			assertThat(copies).containsExactly(
+				asList(1, 'a'), asList(1, 'b'),
+				asList(2, 'a'), asList(2, 'b')
+			);
+		}
+
+		@Example
+		void valuesAreCreatedAgainWhenPositionRollsOver() {
+			Iterable<Object> freshLists = () -> asList((Object) new ArrayList<Integer>()).iterator();
+			OdometerCombinations<Object> combinations = new OdometerCombinations<>(asList(
+				asList(1, 2, 3),
+				freshLists
+			));
+
+			Set<Object> distinctLists = Collections.newSetFromMap(new IdentityHashMap<>());
+			combinations.iterator().forEachRemaining(combination -> distinctLists.add(combination.get(1)));
+			assertThat(distinctLists).hasSize(3);
+		}
+
+		@Property(tries = 100)
+		void rankIsInverseOfUnrank(
+			@ForAll("nonEmptyIterables") List<List<Integer>> listOfLists,
+			@ForAll Random random
+		) {
+			OdometerCombinations<Integer> combinations = new OdometerCombinations<>(listOfLists);
+			long index = Math.abs(random.nextLong() % combinations.size());
+
+			int[] digits = combinations.unrank(index);
+			assertThat(combinations.rank(digits)).isEqualTo(index);
+			assertThat(combinations.iterator(index, index + 1, false).next()).isEqualTo(combinations.get(index));
+		}
+
+		@Provide
+		Arbitrary<List<List<Integer>>> nonEmptyIterables() {
+			return Arbitraries
+				.integers().between(-1000, 1000).unique()
+				.list().ofMinSize(1).ofMaxSize(15)
+				.list().ofMinSize(1).ofMaxSize(4);
+		}
+	}
 }
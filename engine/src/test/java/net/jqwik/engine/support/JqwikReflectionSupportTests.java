@@ -163,6 +163,9 @@ class JqwikReflectionSupportTests {
 		assertThat(JqwikReflectionSupport.isFunctionalType(Iterable.class)).isTrue();
 		assertThat(JqwikReflectionSupport.isFunctionalType(Closeable.class)).isTrue();
 
+		// Redeclares equals()
+		assertThat(JqwikReflectionSupport.isFunctionalType(Comparator.class)).isTrue();
+
 		// No method
 		assertThat(JqwikReflectionSupport.isFunctionalType(Serializable.class)).isFalse();
 
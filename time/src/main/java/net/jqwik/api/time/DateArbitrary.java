@@ -4,5 +4,35 @@ import java.time.*;
 
 import net.jqwik.api.*;
 
+/**
+ * Fluent interface to configure the generation of local dates.
+ *
+ * <p>
+ * By default dates between 1900-01-01 and 2500-12-31 are generated.
+ * Shrinking goes towards 1970-01-01 or the nearest bound if that is not within range.
+ * </p>
+ */
 public interface DateArbitrary extends Arbitrary<LocalDate> {
+
+	/**
+	 * Set the allowed lower {@code min} (included) and upper {@code max} (included) bounds of generated dates.
+	 */
+	default DateArbitrary between(LocalDate min, LocalDate max) {
+		return atTheEarliest(min).atTheLatest(max);
+	}
+
+	/**
+	 * Set the allowed lower {@code min} (included) bound of generated dates.
+	 */
+	DateArbitrary atTheEarliest(LocalDate min);
+
+	/**
+	 * Set the allowed upper {@code max} (included) bound of generated dates.
+	 */
+	DateArbitrary atTheLatest(LocalDate max);
+
+	/**
+	 * Set shrinking target to {@code target}. A target outside the allowed bounds is replaced by the nearest bound.
+	 */
+	DateArbitrary shrinkTowards(LocalDate target);
 }
@@ -0,0 +1,45 @@
+package net.jqwik.api.time;
+
+import java.time.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Fluent interface to configure the generation of local date times.
+ *
+ * <p>
+ * By default date times between 1900-01-01T00:00 and 2500-12-31T23:59:59 with a precision of seconds are generated.
+ * Shrinking goes towards 1970-01-01T00:00 or the nearest bound if that is not within range.
+ * </p>
+ */
+public interface DateTimeArbitrary extends Arbitrary<LocalDateTime> {
+
+	/**
+	 * Set the allowed lower {@code min} (included) and upper {@code max} (included) bounds of generated date times.
+	 */
+	default DateTimeArbitrary between(LocalDateTime min, LocalDateTime max) {
+		return atTheEarliest(min).atTheLatest(max);
+	}
+
+	/**
+	 * Set the allowed lower {@code min} (included) bound of generated date times.
+	 */
+	DateTimeArbitrary atTheEarliest(LocalDateTime min);
+
+	/**
+	 * Set the allowed upper {@code max} (included) bound of generated date times.
+	 */
+	DateTimeArbitrary atTheLatest(LocalDateTime max);
+
+	/**
+	 * Set shrinking target to {@code target}. A target outside the allowed bounds is replaced by the nearest bound.
+	 */
+	DateTimeArbitrary shrinkTowards(LocalDateTime target);
+
+	/**
+	 * Only generate date times that are a whole number of {@code precision} units.
+	 * Supported units are {@code NANOS}, {@code MICROS}, {@code MILLIS}, {@code SECONDS}, {@code MINUTES} and {@code HOURS}.
+	 */
+	DateTimeArbitrary ofPrecision(ChronoUnit precision);
+}
@@ -0,0 +1,22 @@
+package net.jqwik.api.time;
+
+import net.jqwik.time.*;
+
+public class DateTimes {
+
+	private DateTimes() {
+		// Must never be called
+	}
+
+	public static DateTimeArbitrary dateTimes() {
+		return new DefaultDateTimeArbitrary();
+	}
+
+	public static InstantArbitrary instants() {
+		return new DefaultInstantArbitrary();
+	}
+
+	public static ZonedDateTimeArbitrary zonedDateTimes() {
+		return new DefaultZonedDateTimeArbitrary();
+	}
+}
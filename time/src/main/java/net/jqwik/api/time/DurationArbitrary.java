@@ -0,0 +1,45 @@
+package net.jqwik.api.time;
+
+import java.time.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Fluent interface to configure the generation of durations.
+ *
+ * <p>
+ * By default all durations with a precision of seconds are generated.
+ * Shrinking goes towards {@linkplain Duration#ZERO} or the nearest bound if that is not within range.
+ * </p>
+ */
+public interface DurationArbitrary extends Arbitrary<Duration> {
+
+	/**
+	 * Set the allowed lower {@code min} (included) and upper {@code max} (included) bounds of generated durations.
+	 */
+	default DurationArbitrary between(Duration min, Duration max) {
+		return greaterOrEqual(min).lessOrEqual(max);
+	}
+
+	/**
+	 * Set the allowed lower {@code min} (included) bound of generated durations.
+	 */
+	DurationArbitrary greaterOrEqual(Duration min);
+
+	/**
+	 * Set the allowed upper {@code max} (included) bound of generated durations.
+	 */
+	DurationArbitrary lessOrEqual(Duration max);
+
+	/**
+	 * Set shrinking target to {@code target}. A target outside the allowed bounds is replaced by the nearest bound.
+	 */
+	DurationArbitrary shrinkTowards(Duration target);
+
+	/**
+	 * Only generate durations that are a whole number of {@code precision} units.
+	 * Supported units are {@code NANOS}, {@code MICROS}, {@code MILLIS}, {@code SECONDS}, {@code MINUTES} and {@code HOURS}.
+	 */
+	DurationArbitrary ofPrecision(ChronoUnit precision);
+}
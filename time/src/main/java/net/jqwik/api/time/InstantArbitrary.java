@@ -0,0 +1,45 @@
+package net.jqwik.api.time;
+
+import java.time.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Fluent interface to configure the generation of instants.
+ *
+ * <p>
+ * By default instants between 1900-01-01T00:00:00Z and 2500-12-31T23:59:59Z with a precision of seconds are generated.
+ * Shrinking goes towards {@linkplain Instant#EPOCH} or the nearest bound if that is not within range.
+ * </p>
+ */
+public interface InstantArbitrary extends Arbitrary<Instant> {
+
+	/**
+	 * Set the allowed lower {@code min} (included) and upper {@code max} (included) bounds of generated instants.
+	 */
+	default InstantArbitrary between(Instant min, Instant max) {
+		return atTheEarliest(min).atTheLatest(max);
+	}
+
+	/**
+	 * Set the allowed lower {@code min} (included) bound of generated instants.
+	 */
+	InstantArbitrary atTheEarliest(Instant min);
+
+	/**
+	 * Set the allowed upper {@code max} (included) bound of generated instants.
+	 */
+	InstantArbitrary atTheLatest(Instant max);
+
+	/**
+	 * Set shrinking target to {@code target}. A target outside the allowed bounds is replaced by the nearest bound.
+	 */
+	InstantArbitrary shrinkTowards(Instant target);
+
+	/**
+	 * Only generate instants that are a whole number of {@code precision} units since epoch.
+	 * Supported units are {@code NANOS}, {@code MICROS}, {@code MILLIS}, {@code SECONDS}, {@code MINUTES} and {@code HOURS}.
+	 */
+	InstantArbitrary ofPrecision(ChronoUnit precision);
+}
@@ -0,0 +1,45 @@
+package net.jqwik.api.time;
+
+import java.time.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Fluent interface to configure the generation of local times.
+ *
+ * <p>
+ * By default all times of a day with a precision of seconds are generated.
+ * Shrinking goes towards midnight or the nearest bound if that is not within range.
+ * </p>
+ */
+public interface TimeArbitrary extends Arbitrary<LocalTime> {
+
+	/**
+	 * Set the allowed lower {@code min} (included) and upper {@code max} (included) bounds of generated times.
+	 */
+	default TimeArbitrary between(LocalTime min, LocalTime max) {
+		return atTheEarliest(min).atTheLatest(max);
+	}
+
+	/**
+	 * Set the allowed lower {@code min} (included) bound of generated times.
+	 */
+	TimeArbitrary atTheEarliest(LocalTime min);
+
+	/**
+	 * Set the allowed upper {@code max} (included) bound of generated times.
+	 */
+	TimeArbitrary atTheLatest(LocalTime max);
+
+	/**
+	 * Set shrinking target to {@code target}. A target outside the allowed bounds is replaced by the nearest bound.
+	 */
+	TimeArbitrary shrinkTowards(LocalTime target);
+
+	/**
+	 * Only generate times that are a whole number of {@code precision} units.
+	 * Supported units are {@code NANOS}, {@code MICROS}, {@code MILLIS}, {@code SECONDS}, {@code MINUTES} and {@code HOURS}.
+	 */
+	TimeArbitrary ofPrecision(ChronoUnit precision);
+}
@@ -0,0 +1,18 @@
+package net.jqwik.api.time;
+
+import net.jqwik.time.*;
+
+public class Times {
+
+	private Times() {
+		// Must never be called
+	}
+
+	public static TimeArbitrary times() {
+		return new DefaultTimeArbitrary();
+	}
+
+	public static DurationArbitrary durations() {
+		return new DefaultDurationArbitrary();
+	}
+}
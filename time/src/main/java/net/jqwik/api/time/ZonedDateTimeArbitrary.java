@@ -0,0 +1,58 @@
+package net.jqwik.api.time;
+
+import java.time.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Fluent interface to configure the generation of zoned date times.
+ *
+ * <p>
+ * Zoned date times are generated from an instant and a time zone.
+ * Thus local date times that do not exist in a zone, e.g. during a daylight saving time gap, are never generated.
+ * Instead the instants right before and at the start of the first gap within range are generated as edge cases.
+ * </p>
+ *
+ * <p>
+ * By default instants between 1900-01-01T00:00:00Z and 2500-12-31T23:59:59Z with a precision of seconds
+ * are combined with all available zones. Shrinking goes towards {@linkplain Instant#EPOCH} and UTC.
+ * </p>
+ */
+public interface ZonedDateTimeArbitrary extends Arbitrary<ZonedDateTime> {
+
+	/**
+	 * Set the allowed lower {@code min} (included) and upper {@code max} (included) bounds
+	 * of the instants of generated zoned date times.
+	 */
+	default ZonedDateTimeArbitrary between(Instant min, Instant max) {
+		return atTheEarliest(min).atTheLatest(max);
+	}
+
+	/**
+	 * Set the allowed lower {@code min} (included) bound of the instants of generated zoned date times.
+	 */
+	ZonedDateTimeArbitrary atTheEarliest(Instant min);
+
+	/**
+	 * Set the allowed upper {@code max} (included) bound of the instants of generated zoned date times.
+	 */
+	ZonedDateTimeArbitrary atTheLatest(Instant max);
+
+	/**
+	 * Set shrinking target of the instant to {@code target}.
+	 * A target outside the allowed bounds is replaced by the nearest bound.
+	 */
+	ZonedDateTimeArbitrary shrinkTowards(Instant target);
+
+	/**
+	 * Only generate zoned date times whose instants are a whole number of {@code precision} units since epoch.
+	 * Supported units are {@code NANOS}, {@code MICROS}, {@code MILLIS}, {@code SECONDS}, {@code MINUTES} and {@code HOURS}.
+	 */
+	ZonedDateTimeArbitrary ofPrecision(ChronoUnit precision);
+
+	/**
+	 * Only generate zoned date times in {@code zones}. Shrinking goes towards the first zone.
+	 */
+	ZonedDateTimeArbitrary inZones(ZoneId... zones);
+}
@@ -8,9 +8,48 @@ import net.jqwik.api.time.*;
 
 public class DefaultDateArbitrary extends ArbitraryDecorator<LocalDate> implements DateArbitrary {
 
+	static final LocalDate DEFAULT_MIN = LocalDate.of(1900, 1, 1);
+	static final LocalDate DEFAULT_MAX = LocalDate.of(2500, 12, 31);
+	static final LocalDate DEFAULT_TARGET = LocalDate.ofEpochDay(0);
+
+	private LocalDate min = DEFAULT_MIN;
+	private LocalDate max = DEFAULT_MAX;
+	private LocalDate target = DEFAULT_TARGET;
+
 	@Override
 	protected Arbitrary<LocalDate> arbitrary() {
-		return Arbitraries.just(LocalDate.of(2020, 12, 9));
+		TimeRanges.checkMinNotAfterMax(min, max);
+		long minDay = min.toEpochDay();
+		long maxDay = max.toEpochDay();
+		long targetDay = Math.min(Math.max(target.toEpochDay(), minDay), maxDay);
+		return Arbitraries.longs()
+						  .between(minDay, maxDay)
+						  .shrinkTowards(targetDay)
+						  .map(LocalDate::ofEpochDay)
+						  .edgeCases(dateConfig -> {
+							  TimeEdgeCases.firstLeapDay(min, max).ifPresent(dateConfig::add);
+							  TimeEdgeCases.firstMonthEnd(min, max).ifPresent(dateConfig::add);
+						  });
+	}
+
+	@Override
+	public DateArbitrary atTheEarliest(LocalDate min) {
+		DefaultDateArbitrary clone = typedClone();
+		clone.min = min;
+		return clone;
 	}
 
+	@Override
+	public DateArbitrary atTheLatest(LocalDate max) {
+		DefaultDateArbitrary clone = typedClone();
+		clone.max = max;
+		return clone;
+	}
+
+	@Override
+	public DateArbitrary shrinkTowards(LocalDate target) {
+		DefaultDateArbitrary clone = typedClone();
+		clone.target = target;
+		return clone;
+	}
 }
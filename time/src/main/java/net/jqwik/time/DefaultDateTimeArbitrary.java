@@ -0,0 +1,77 @@
+package net.jqwik.time;
+
+import java.math.*;
+import java.time.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.time.*;
+
+public class DefaultDateTimeArbitrary extends ArbitraryDecorator<LocalDateTime> implements DateTimeArbitrary {
+
+	private LocalDateTime min = DefaultDateArbitrary.DEFAULT_MIN.atStartOfDay();
+	private LocalDateTime max = DefaultDateArbitrary.DEFAULT_MAX.atTime(LocalTime.MAX);
+	private LocalDateTime target = DefaultDateArbitrary.DEFAULT_TARGET.atStartOfDay();
+	private Precision precision = new Precision(ChronoUnit.SECONDS);
+
+	@Override
+	protected Arbitrary<LocalDateTime> arbitrary() {
+		TimeRanges.checkMinNotAfterMax(min, max);
+		BigInteger minUnits = precision.unitsAtOrAfter(epochSecond(min), min.getNano());
+		BigInteger maxUnits = precision.unitsAtOrBefore(epochSecond(max), max.getNano());
+		BigInteger targetUnits = precision.unitsAtOrAfter(epochSecond(target), target.getNano());
+		precision.checkUnitsBetween(minUnits, maxUnits, min, max);
+		LocalDateTime first = precision.fromUnits(minUnits, DefaultDateTimeArbitrary::ofEpochSecond);
+		LocalDateTime last = precision.fromUnits(maxUnits, DefaultDateTimeArbitrary::ofEpochSecond);
+		return precision.between(minUnits, maxUnits, targetUnits, DefaultDateTimeArbitrary::ofEpochSecond)
+						.edgeCases(dateTimeConfig -> {
+							LocalDate firstDate = first.toLocalDate();
+							LocalDate lastDate = last.toLocalDate();
+							TimeEdgeCases.firstLeapDay(firstDate, lastDate)
+										 .map(LocalDate::atStartOfDay)
+										 .filter(leapDay -> !leapDay.isBefore(first))
+										 .ifPresent(dateTimeConfig::add);
+							TimeEdgeCases.firstMonthEnd(firstDate, lastDate)
+										 .map(monthEnd -> monthEnd.atTime(LocalTime.MAX).truncatedTo(precision.unit()))
+										 .filter(monthEnd -> !monthEnd.isAfter(last))
+										 .ifPresent(dateTimeConfig::add);
+						});
+	}
+
+	private static long epochSecond(LocalDateTime dateTime) {
+		return dateTime.toEpochSecond(ZoneOffset.UTC);
+	}
+
+	private static LocalDateTime ofEpochSecond(long epochSecond, int nanos) {
+		return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+	}
+
+	@Override
+	public DateTimeArbitrary atTheEarliest(LocalDateTime min) {
+		DefaultDateTimeArbitrary clone = typedClone();
+		clone.min = min;
+		return clone;
+	}
+
+	@Override
+	public DateTimeArbitrary atTheLatest(LocalDateTime max) {
+		DefaultDateTimeArbitrary clone = typedClone();
+		clone.max = max;
+		return clone;
+	}
+
+	@Override
+	public DateTimeArbitrary shrinkTowards(LocalDateTime target) {
+		DefaultDateTimeArbitrary clone = typedClone();
+		clone.target = target;
+		return clone;
+	}
+
+	@Override
+	public DateTimeArbitrary ofPrecision(ChronoUnit precision) {
+		DefaultDateTimeArbitrary clone = typedClone();
+		clone.precision = new Precision(precision);
+		return clone;
+	}
+}
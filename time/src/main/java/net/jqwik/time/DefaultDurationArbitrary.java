@@ -0,0 +1,55 @@
+package net.jqwik.time;
+
+import java.math.*;
+import java.time.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.time.*;
+
+public class DefaultDurationArbitrary extends ArbitraryDecorator<Duration> implements DurationArbitrary {
+
+	private Duration min = Duration.ofSeconds(Long.MIN_VALUE);
+	private Duration max = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+	private Duration target = Duration.ZERO;
+	private Precision precision = new Precision(ChronoUnit.SECONDS);
+
+	@Override
+	protected Arbitrary<Duration> arbitrary() {
+		TimeRanges.checkMinNotAfterMax(min, max);
+		BigInteger minUnits = precision.unitsAtOrAfter(min.getSeconds(), min.getNano());
+		BigInteger maxUnits = precision.unitsAtOrBefore(max.getSeconds(), max.getNano());
+		BigInteger targetUnits = precision.unitsAtOrAfter(target.getSeconds(), target.getNano());
+		precision.checkUnitsBetween(minUnits, maxUnits, min, max);
+		return precision.between(minUnits, maxUnits, targetUnits, Duration::ofSeconds);
+	}
+
+	@Override
+	public DurationArbitrary greaterOrEqual(Duration min) {
+		DefaultDurationArbitrary clone = typedClone();
+		clone.min = min;
+		return clone;
+	}
+
+	@Override
+	public DurationArbitrary lessOrEqual(Duration max) {
+		DefaultDurationArbitrary clone = typedClone();
+		clone.max = max;
+		return clone;
+	}
+
+	@Override
+	public DurationArbitrary shrinkTowards(Duration target) {
+		DefaultDurationArbitrary clone = typedClone();
+		clone.target = target;
+		return clone;
+	}
+
+	@Override
+	public DurationArbitrary ofPrecision(ChronoUnit precision) {
+		DefaultDurationArbitrary clone = typedClone();
+		clone.precision = new Precision(precision);
+		return clone;
+	}
+}
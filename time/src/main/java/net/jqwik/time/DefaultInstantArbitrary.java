@@ -0,0 +1,68 @@
+package net.jqwik.time;
+
+import java.math.*;
+import java.time.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.time.*;
+
+public class DefaultInstantArbitrary extends ArbitraryDecorator<Instant> implements InstantArbitrary {
+
+	static final Instant DEFAULT_MIN = DefaultDateArbitrary.DEFAULT_MIN.atStartOfDay().toInstant(ZoneOffset.UTC);
+	static final Instant DEFAULT_MAX = DefaultDateArbitrary.DEFAULT_MAX.atTime(LocalTime.MAX).toInstant(ZoneOffset.UTC);
+
+	private Instant min = DEFAULT_MIN;
+	private Instant max = DEFAULT_MAX;
+	private Instant target = Instant.EPOCH;
+	private Precision precision = new Precision(ChronoUnit.SECONDS);
+
+	@Override
+	protected Arbitrary<Instant> arbitrary() {
+		TimeRanges.checkMinNotAfterMax(min, max);
+		BigInteger minUnits = precision.unitsAtOrAfter(min.getEpochSecond(), min.getNano());
+		BigInteger maxUnits = precision.unitsAtOrBefore(max.getEpochSecond(), max.getNano());
+		BigInteger targetUnits = precision.unitsAtOrAfter(target.getEpochSecond(), target.getNano());
+		precision.checkUnitsBetween(minUnits, maxUnits, min, max);
+		Instant first = precision.fromUnits(minUnits, Instant::ofEpochSecond);
+		Instant last = precision.fromUnits(maxUnits, Instant::ofEpochSecond);
+		return precision.between(minUnits, maxUnits, targetUnits, Instant::ofEpochSecond)
+						.edgeCases(instantConfig -> {
+							LocalDate firstDate = LocalDateTime.ofInstant(first, ZoneOffset.UTC).toLocalDate();
+							LocalDate lastDate = LocalDateTime.ofInstant(last, ZoneOffset.UTC).toLocalDate();
+							TimeEdgeCases.firstLeapDay(firstDate, lastDate)
+										 .map(leapDay -> leapDay.atStartOfDay().toInstant(ZoneOffset.UTC))
+										 .filter(leapDay -> !leapDay.isBefore(first))
+										 .ifPresent(instantConfig::add);
+						});
+	}
+
+	@Override
+	public InstantArbitrary atTheEarliest(Instant min) {
+		DefaultInstantArbitrary clone = typedClone();
+		clone.min = min;
+		return clone;
+	}
+
+	@Override
+	public InstantArbitrary atTheLatest(Instant max) {
+		DefaultInstantArbitrary clone = typedClone();
+		clone.max = max;
+		return clone;
+	}
+
+	@Override
+	public InstantArbitrary shrinkTowards(Instant target) {
+		DefaultInstantArbitrary clone = typedClone();
+		clone.target = target;
+		return clone;
+	}
+
+	@Override
+	public InstantArbitrary ofPrecision(ChronoUnit precision) {
+		DefaultInstantArbitrary clone = typedClone();
+		clone.precision = new Precision(precision);
+		return clone;
+	}
+}
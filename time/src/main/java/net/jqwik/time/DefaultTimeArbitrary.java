@@ -0,0 +1,58 @@
+package net.jqwik.time;
+
+import java.math.*;
+import java.time.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.time.*;
+
+public class DefaultTimeArbitrary extends ArbitraryDecorator<LocalTime> implements TimeArbitrary {
+
+	private LocalTime min = LocalTime.MIN;
+	private LocalTime max = LocalTime.MAX;
+	private LocalTime target = LocalTime.MIDNIGHT;
+	private Precision precision = new Precision(ChronoUnit.SECONDS);
+
+	@Override
+	protected Arbitrary<LocalTime> arbitrary() {
+		TimeRanges.checkMinNotAfterMax(min, max);
+		BigInteger minUnits = precision.unitsAtOrAfter(min.toSecondOfDay(), min.getNano());
+		BigInteger maxUnits = precision.unitsAtOrBefore(max.toSecondOfDay(), max.getNano());
+		BigInteger targetUnits = precision.unitsAtOrAfter(target.toSecondOfDay(), target.getNano());
+		precision.checkUnitsBetween(minUnits, maxUnits, min, max);
+		return precision.between(
+			minUnits, maxUnits, targetUnits,
+			(seconds, nanos) -> LocalTime.ofSecondOfDay(seconds).withNano(nanos)
+		);
+	}
+
+	@Override
+	public TimeArbitrary atTheEarliest(LocalTime min) {
+		DefaultTimeArbitrary clone = typedClone();
+		clone.min = min;
+		return clone;
+	}
+
+	@Override
+	public TimeArbitrary atTheLatest(LocalTime max) {
+		DefaultTimeArbitrary clone = typedClone();
+		clone.max = max;
+		return clone;
+	}
+
+	@Override
+	public TimeArbitrary shrinkTowards(LocalTime target) {
+		DefaultTimeArbitrary clone = typedClone();
+		clone.target = target;
+		return clone;
+	}
+
+	@Override
+	public TimeArbitrary ofPrecision(ChronoUnit precision) {
+		DefaultTimeArbitrary clone = typedClone();
+		clone.precision = new Precision(precision);
+		return clone;
+	}
+}
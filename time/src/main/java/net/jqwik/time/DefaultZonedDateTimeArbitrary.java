@@ -0,0 +1,106 @@
+package net.jqwik.time;
+
+import java.time.*;
+import java.time.temporal.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.time.*;
+
+public class DefaultZonedDateTimeArbitrary extends ArbitraryDecorator<ZonedDateTime> implements ZonedDateTimeArbitrary {
+
+	// Only gaps of the first zones are used as edge cases to keep the number of edge cases small
+	private static final int MAX_ZONES_WITH_GAP_EDGE_CASES = 4;
+
+	private InstantArbitrary instants = new DefaultInstantArbitrary();
+	private Instant min = DefaultInstantArbitrary.DEFAULT_MIN;
+	private Instant max = DefaultInstantArbitrary.DEFAULT_MAX;
+	private Instant target = Instant.EPOCH;
+	private ChronoUnit precision = ChronoUnit.SECONDS;
+	private List<ZoneId> zones = null;
+
+	@Override
+	protected Arbitrary<ZonedDateTime> arbitrary() {
+		List<ZoneId> zones = this.zones != null ? this.zones : allZones();
+		Arbitrary<ZoneId> arbitraryZone = Arbitraries.of(zones);
+		return Combinators.combine(instants, arbitraryZone)
+						  .as(ZonedDateTime::ofInstant)
+						  .edgeCases(zonedConfig -> addGapEdgeCases(zones, zonedConfig));
+	}
+
+	private static List<ZoneId> allZones() {
+		Stream<ZoneId> others = ZoneId.getAvailableZoneIds().stream()
+									  .filter(zoneId -> !zoneId.equals("UTC"))
+									  .sorted()
+									  .map(ZoneId::of);
+		return Stream.concat(Stream.of(ZoneId.of("UTC")), others).collect(Collectors.toList());
+	}
+
+	// The first value at or after a gap and the last value before it are both edge cases.
+	// Gaps are searched from the shrinking target on, so that historic zone changes are less likely.
+	private void addGapEdgeCases(List<ZoneId> zones, EdgeCases.Config<ZonedDateTime> zonedConfig) {
+		Instant searchFrom = target.isBefore(min) || target.isAfter(max) ? min : target;
+		int zonesWithGap = 0;
+		for (ZoneId zone : zones) {
+			Optional<Instant> gap = TimeEdgeCases.firstGap(zone, searchFrom, max);
+			if (!gap.isPresent()) {
+				continue;
+			}
+			Instant truncated = gap.get().truncatedTo(precision);
+			Instant afterGap = truncated.equals(gap.get()) ? truncated : truncated.plus(1, precision);
+			Instant beforeGap = afterGap.minus(1, precision);
+			if (beforeGap.isBefore(min) || afterGap.isAfter(max)) {
+				continue;
+			}
+			zonedConfig.add(ZonedDateTime.ofInstant(beforeGap, zone));
+			zonedConfig.add(ZonedDateTime.ofInstant(afterGap, zone));
+			if (++zonesWithGap >= MAX_ZONES_WITH_GAP_EDGE_CASES) {
+				break;
+			}
+		}
+	}
+
+	@Override
+	public ZonedDateTimeArbitrary atTheEarliest(Instant min) {
+		DefaultZonedDateTimeArbitrary clone = typedClone();
+		clone.instants = instants.atTheEarliest(min);
+		clone.min = min;
+		return clone;
+	}
+
+	@Override
+	public ZonedDateTimeArbitrary atTheLatest(Instant max) {
+		DefaultZonedDateTimeArbitrary clone = typedClone();
+		clone.instants = instants.atTheLatest(max);
+		clone.max = max;
+		return clone;
+	}
+
+	@Override
+	public ZonedDateTimeArbitrary shrinkTowards(Instant target) {
+		DefaultZonedDateTimeArbitrary clone = typedClone();
+		clone.instants = instants.shrinkTowards(target);
+		clone.target = target;
+		return clone;
+	}
+
+	@Override
+	public ZonedDateTimeArbitrary ofPrecision(ChronoUnit precision) {
+		DefaultZonedDateTimeArbitrary clone = typedClone();
+		clone.instants = instants.ofPrecision(precision);
+		clone.precision = precision;
+		return clone;
+	}
+
+	@Override
+	public ZonedDateTimeArbitrary inZones(ZoneId... zones) {
+		if (zones.length == 0) {
+			throw new IllegalArgumentException("At least one zone must be given");
+		}
+		DefaultZonedDateTimeArbitrary clone = typedClone();
+		clone.zones = Arrays.asList(zones);
+		return clone;
+	}
+}
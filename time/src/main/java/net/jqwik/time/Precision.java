@@ -0,0 +1,134 @@
+package net.jqwik.time;
+
+import java.math.*;
+import java.time.temporal.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Values with seconds and nanos are generated as a whole number of precision units, e.g. milliseconds since epoch.
+ * That way all generated values are valid and within bounds by construction.
+ *
+ * <p>
+ * Unit ranges that fit into a long are generated with {@linkplain Arbitraries#longs()},
+ * larger ones with {@linkplain Arbitraries#bigIntegers()}.
+ * </p>
+ */
+class Precision {
+
+	interface FromSecondsAndNanos<T> {
+		T apply(long seconds, int nanos);
+	}
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final BigInteger BIG_NANOS_PER_SECOND = BigInteger.valueOf(NANOS_PER_SECOND);
+	private static final BigInteger BIG_LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger BIG_LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+	private final ChronoUnit unit;
+	private final long unitNanos;
+	private final BigInteger bigUnitNanos;
+
+	Precision(ChronoUnit unit) {
+		switch (unit) {
+			case NANOS:
+			case MICROS:
+			case MILLIS:
+			case SECONDS:
+			case MINUTES:
+			case HOURS:
+				break;
+			default:
+				String message = String.format("Precision must be one of NANOS, MICROS, MILLIS, SECONDS, MINUTES or HOURS but was %s", unit.name());
+				throw new IllegalArgumentException(message);
+		}
+		this.unit = unit;
+		this.unitNanos = unit.getDuration().toNanos();
+		this.bigUnitNanos = BigInteger.valueOf(unitNanos);
+	}
+
+	ChronoUnit unit() {
+		return unit;
+	}
+
+	/**
+	 * Number of units of the latest value at or before the given seconds and nanos
+	 */
+	BigInteger unitsAtOrBefore(long seconds, int nanos) {
+		BigInteger[] unitsAndRest = totalNanos(seconds, nanos).divideAndRemainder(bigUnitNanos);
+		if (unitsAndRest[1].signum() < 0) {
+			return unitsAndRest[0].subtract(BigInteger.ONE);
+		}
+		return unitsAndRest[0];
+	}
+
+	/**
+	 * Number of units of the earliest value at or after the given seconds and nanos
+	 */
+	BigInteger unitsAtOrAfter(long seconds, int nanos) {
+		BigInteger[] unitsAndRest = totalNanos(seconds, nanos).divideAndRemainder(bigUnitNanos);
+		if (unitsAndRest[1].signum() > 0) {
+			return unitsAndRest[0].add(BigInteger.ONE);
+		}
+		return unitsAndRest[0];
+	}
+
+	void checkUnitsBetween(BigInteger minUnits, BigInteger maxUnits, Object min, Object max) {
+		if (minUnits.compareTo(maxUnits) > 0) {
+			String message = String.format("There is no value with precision %s between %s and %s", unit.name(), min, max);
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	private static BigInteger totalNanos(long seconds, int nanos) {
+		return BigInteger.valueOf(seconds).multiply(BIG_NANOS_PER_SECOND).add(BigInteger.valueOf(nanos));
+	}
+
+	<T> T fromUnits(BigInteger units, FromSecondsAndNanos<T> fromSecondsAndNanos) {
+		BigInteger[] secondsAndNanos = units.multiply(bigUnitNanos).divideAndRemainder(BIG_NANOS_PER_SECOND);
+		long seconds = secondsAndNanos[0].longValueExact();
+		int nanos = secondsAndNanos[1].intValue();
+		if (nanos < 0) {
+			seconds -= 1;
+			nanos += NANOS_PER_SECOND;
+		}
+		return fromSecondsAndNanos.apply(seconds, nanos);
+	}
+
+	private <T> T fromUnits(long units, FromSecondsAndNanos<T> fromSecondsAndNanos) {
+		if (unitNanos < NANOS_PER_SECOND) {
+			long unitsPerSecond = NANOS_PER_SECOND / unitNanos;
+			long seconds = Math.floorDiv(units, unitsPerSecond);
+			int nanos = (int) (Math.floorMod(units, unitsPerSecond) * unitNanos);
+			return fromSecondsAndNanos.apply(seconds, nanos);
+		}
+		return fromSecondsAndNanos.apply(units * (unitNanos / NANOS_PER_SECOND), 0);
+	}
+
+	/**
+	 * Generate values between {@code minUnits} and {@code maxUnits} shrinking towards {@code targetUnits}.
+	 * A target outside the range is replaced by the nearest bound.
+	 */
+	<T> Arbitrary<T> between(
+		BigInteger minUnits,
+		BigInteger maxUnits,
+		BigInteger targetUnits,
+		FromSecondsAndNanos<T> fromSecondsAndNanos
+	) {
+		BigInteger target = targetUnits.max(minUnits).min(maxUnits);
+		if (fitsIntoLong(minUnits) && fitsIntoLong(maxUnits)) {
+			return Arbitraries.longs()
+							  .between(minUnits.longValue(), maxUnits.longValue())
+							  .shrinkTowards(target.longValue())
+							  .map(units -> fromUnits(units, fromSecondsAndNanos));
+		}
+		return Arbitraries.bigIntegers()
+						  .between(minUnits, maxUnits)
+						  .shrinkTowards(target)
+						  .map(units -> fromUnits(units, fromSecondsAndNanos));
+	}
+
+	private static boolean fitsIntoLong(BigInteger value) {
+		return value.compareTo(BIG_LONG_MIN) >= 0 && value.compareTo(BIG_LONG_MAX) <= 0;
+	}
+}
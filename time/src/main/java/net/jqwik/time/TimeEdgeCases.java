@@ -0,0 +1,66 @@
+package net.jqwik.time;
+
+import java.time.*;
+import java.time.temporal.*;
+import java.time.zone.*;
+import java.util.*;
+
+/**
+ * Calendar related edge cases that default numeric edge cases of epoch ranges do not cover.
+ */
+class TimeEdgeCases {
+
+	private static final int MAX_YEARS_TO_NEXT_LEAP_DAY = 8;
+
+	private TimeEdgeCases() {
+	}
+
+	/**
+	 * The first February 29th between {@code min} and {@code max}
+	 */
+	static Optional<LocalDate> firstLeapDay(LocalDate min, LocalDate max) {
+		for (int i = 0; i <= MAX_YEARS_TO_NEXT_LEAP_DAY; i++) {
+			long year = (long) min.getYear() + i;
+			if (year > max.getYear()) {
+				break;
+			}
+			if (!Year.isLeap(year)) {
+				continue;
+			}
+			LocalDate leapDay = LocalDate.of((int) year, Month.FEBRUARY, 29);
+			if (leapDay.isBefore(min)) {
+				continue;
+			}
+			return leapDay.isAfter(max) ? Optional.empty() : Optional.of(leapDay);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * The last day of the month of {@code min} if it is not after {@code max}
+	 */
+	static Optional<LocalDate> firstMonthEnd(LocalDate min, LocalDate max) {
+		LocalDate monthEnd = min.with(TemporalAdjusters.lastDayOfMonth());
+		return monthEnd.isAfter(max) ? Optional.empty() : Optional.of(monthEnd);
+	}
+
+	/**
+	 * The first transition in {@code zone} between {@code min} (included) and {@code max} (excluded)
+	 * that skips local time, e.g. when daylight saving time starts.
+	 */
+	static Optional<Instant> firstGap(ZoneId zone, Instant min, Instant max) {
+		ZoneRules rules = zone.getRules();
+		if (rules.isFixedOffset()) {
+			return Optional.empty();
+		}
+		Instant justBeforeMin = min.equals(Instant.MIN) ? min : min.minusNanos(1);
+		ZoneOffsetTransition transition = rules.nextTransition(justBeforeMin);
+		while (transition != null && transition.getInstant().isBefore(max)) {
+			if (transition.isGap()) {
+				return Optional.of(transition.getInstant());
+			}
+			transition = rules.nextTransition(transition.getInstant());
+		}
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,14 @@
+package net.jqwik.time;
+
+class TimeRanges {
+
+	private TimeRanges() {
+	}
+
+	static <T extends Comparable<? super T>> void checkMinNotAfterMax(T min, T max) {
+		if (min.compareTo(max) > 0) {
+			String message = String.format("Minimum %s must not be after maximum %s", min, max);
+			throw new IllegalArgumentException(message);
+		}
+	}
+}
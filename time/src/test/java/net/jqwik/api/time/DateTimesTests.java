@@ -0,0 +1,93 @@
+package net.jqwik.api.time;
+
+import java.time.*;
+import java.time.temporal.*;
+import java.util.*;
+
+import org.assertj.core.api.*;
+
+import net.jqwik.api.*;
+
+class DateTimesTests {
+
+	@Property
+	void dateTimesAreWithinRangeAndPrecision(@ForAll("hoursIn2020") LocalDateTime dateTime) {
+		Assertions.assertThat(dateTime).isBetween(LocalDateTime.of(2020, 1, 1, 0, 30), LocalDateTime.of(2020, 12, 31, 0, 0));
+		Assertions.assertThat(dateTime.truncatedTo(ChronoUnit.HOURS)).isEqualTo(dateTime);
+	}
+
+	@Provide
+	Arbitrary<LocalDateTime> hoursIn2020() {
+		return DateTimes.dateTimes()
+						.between(LocalDateTime.of(2020, 1, 1, 0, 30), LocalDateTime.of(2020, 12, 31, 0, 0))
+						.ofPrecision(ChronoUnit.HOURS);
+	}
+
+	@Property
+	void nanoPrecisionWorksForDefaultRange(@ForAll("nanoDateTimes") LocalDateTime dateTime) {
+		Assertions.assertThat(dateTime.getYear()).isBetween(1900, 2500);
+	}
+
+	@Provide
+	Arbitrary<LocalDateTime> nanoDateTimes() {
+		return DateTimes.dateTimes().ofPrecision(ChronoUnit.NANOS);
+	}
+
+	@Property
+	void instantsAreWithinRangeAndPrecision(@ForAll("millisIn2020") Instant instant) {
+		Assertions.assertThat(instant).isBetween(Instant.parse("2020-01-01T00:00:00Z"), Instant.parse("2021-01-01T00:00:00Z"));
+		Assertions.assertThat(instant.truncatedTo(ChronoUnit.MILLIS)).isEqualTo(instant);
+	}
+
+	@Provide
+	Arbitrary<Instant> millisIn2020() {
+		return DateTimes.instants()
+						.between(Instant.parse("2020-01-01T00:00:00Z"), Instant.parse("2021-01-01T00:00:00Z"))
+						.ofPrecision(ChronoUnit.MILLIS);
+	}
+
+	@Property
+	void zonedDateTimesUseConfiguredZones(@ForAll("berlinOrNewYork") ZonedDateTime dateTime) {
+		Assertions.assertThat(dateTime.getZone()).isIn(ZoneId.of("Europe/Berlin"), ZoneId.of("America/New_York"));
+		Assertions.assertThat(dateTime.getSecond()).isEqualTo(0);
+	}
+
+	@Provide
+	Arbitrary<ZonedDateTime> berlinOrNewYork() {
+		return DateTimes.zonedDateTimes()
+						.inZones(ZoneId.of("Europe/Berlin"), ZoneId.of("America/New_York"))
+						.between(Instant.parse("2021-01-01T00:00:00Z"), Instant.parse("2022-01-01T00:00:00Z"))
+						.ofPrecision(ChronoUnit.MINUTES);
+	}
+
+	@Example
+	void edgeCasesOfZonedDateTimesIncludeDaylightSavingTimeGap() {
+		Set<LocalDateTime> edgeCases = new HashSet<>();
+		for (Shrinkable<ZonedDateTime> edgeCase : berlinOrNewYork().edgeCases()) {
+			ZonedDateTime value = edgeCase.value();
+			if (value.getZone().equals(ZoneId.of("Europe/Berlin"))) {
+				edgeCases.add(value.toLocalDateTime());
+			}
+		}
+
+		Assertions.assertThat(edgeCases).contains(
+			LocalDateTime.of(2021, 3, 28, 1, 59),
+			LocalDateTime.of(2021, 3, 28, 3, 0)
+		);
+	}
+
+	@Example
+	void edgeCasesOfDateTimesIncludeLeapDayAndMonthEnd() {
+		Set<LocalDateTime> edgeCases = new HashSet<>();
+		for (Shrinkable<LocalDateTime> edgeCase : hoursIn2020().edgeCases()) {
+			edgeCases.add(edgeCase.value());
+		}
+
+		Assertions.assertThat(edgeCases).contains(
+			LocalDateTime.of(2020, 1, 1, 1, 0),
+			LocalDateTime.of(2020, 12, 31, 0, 0),
+			LocalDateTime.of(2020, 2, 29, 0, 0),
+			LocalDateTime.of(2020, 1, 31, 23, 0)
+		);
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.api.time;
 
 import java.time.*;
+import java.util.*;
 
 import org.assertj.core.api.*;
 
@@ -17,4 +18,47 @@ class DatesTests {
 	Arbitrary<LocalDate> dates() {
 		return Dates.dates();
 	}
+
+	@Property
+	void defaultDatesAreWithinDefaultRange(@ForAll("dates") LocalDate localDate) {
+		Assertions.assertThat(localDate).isBetween(LocalDate.of(1900, 1, 1), LocalDate.of(2500, 12, 31));
+	}
+
+	@Property
+	void datesAreWithinConfiguredRange(@ForAll("march2021") LocalDate localDate) {
+		Assertions.assertThat(localDate).isBetween(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31));
+	}
+
+	@Provide
+	Arbitrary<LocalDate> march2021() {
+		return Dates.dates().between(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31));
+	}
+
+	@Example
+	void edgeCasesIncludeBoundsShrinkingTargetLeapDayAndMonthEnd() {
+		DateArbitrary dates = Dates.dates()
+								   .between(LocalDate.of(2021, 1, 15), LocalDate.of(2030, 1, 1))
+								   .shrinkTowards(LocalDate.of(2025, 6, 6));
+
+		Set<LocalDate> edgeCases = new HashSet<>();
+		for (Shrinkable<LocalDate> edgeCase : dates.edgeCases()) {
+			edgeCases.add(edgeCase.value());
+		}
+
+		Assertions.assertThat(edgeCases).contains(
+			LocalDate.of(2021, 1, 15),
+			LocalDate.of(2030, 1, 1),
+			LocalDate.of(2025, 6, 6),
+			LocalDate.of(2024, 2, 29),
+			LocalDate.of(2021, 1, 31)
+		);
+	}
+
+	@Example
+	void minAfterMaxIsRejected() {
+		DateArbitrary dates = Dates.dates().between(LocalDate.of(2021, 1, 2), LocalDate.of(2021, 1, 1));
+
+		Assertions.assertThatThrownBy(() -> dates.generator(1000))
+				  .isInstanceOf(IllegalArgumentException.class);
+	}
 }
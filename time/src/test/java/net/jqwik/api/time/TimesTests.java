@@ -0,0 +1,73 @@
+package net.jqwik.api.time;
+
+import java.time.*;
+import java.time.temporal.*;
+
+import org.assertj.core.api.*;
+
+import net.jqwik.api.*;
+
+class TimesTests {
+
+	@Property
+	void timesHaveSecondPrecisionByDefault(@ForAll("times") LocalTime time) {
+		Assertions.assertThat(time.getNano()).isEqualTo(0);
+	}
+
+	@Provide
+	Arbitrary<LocalTime> times() {
+		return Times.times();
+	}
+
+	@Property
+	void timesAreWithinRangeAndPrecision(@ForAll("officeHoursInMillis") LocalTime time) {
+		Assertions.assertThat(time).isBetween(LocalTime.of(9, 0, 0, 1), LocalTime.of(17, 0));
+		Assertions.assertThat(time.getNano() % 1_000_000).isEqualTo(0);
+	}
+
+	@Provide
+	Arbitrary<LocalTime> officeHoursInMillis() {
+		return Times.times()
+					.between(LocalTime.of(9, 0, 0, 1), LocalTime.of(17, 0))
+					.ofPrecision(ChronoUnit.MILLIS);
+	}
+
+	@Property
+	void durationsAreWithinRangeAndPrecision(@ForAll("shortDurations") Duration duration) {
+		Assertions.assertThat(duration).isBetween(Duration.ofMillis(-500), Duration.ofHours(2));
+		Assertions.assertThat(duration.getNano() % 1_000_000).isEqualTo(0);
+	}
+
+	@Provide
+	Arbitrary<Duration> shortDurations() {
+		return Times.durations()
+					.between(Duration.ofMillis(-500), Duration.ofHours(2))
+					.ofPrecision(ChronoUnit.MILLIS);
+	}
+
+	@Property
+	void defaultDurationsCoverAllSeconds(@ForAll("durations") Duration duration) {
+		Assertions.assertThat(duration.getNano()).isEqualTo(0);
+	}
+
+	@Provide
+	Arbitrary<Duration> durations() {
+		return Times.durations();
+	}
+
+	@Example
+	void unsupportedPrecisionIsRejected() {
+		Assertions.assertThatThrownBy(() -> Times.times().ofPrecision(ChronoUnit.DAYS))
+				  .isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Example
+	void rangeWithoutValueOfPrecisionIsRejected() {
+		TimeArbitrary times = Times.times()
+								   .between(LocalTime.of(1, 0, 1), LocalTime.of(1, 0, 2))
+								   .ofPrecision(ChronoUnit.MINUTES);
+
+		Assertions.assertThatThrownBy(() -> times.generator(1000))
+				  .isInstanceOf(IllegalArgumentException.class);
+	}
+}